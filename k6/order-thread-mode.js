@@ -0,0 +1,67 @@
+// 플랫폼 스레드 / 가상 스레드 모드 비교용 주문 부하 테스트
+//
+// 같은 조건 (Hikari maximum-pool-size 32, 같은 데이터) 에서 두 번 실행해 비교
+//   1) VIRTUAL_THREADS_ENABLED=false docker compose up -d app
+//      k6 run -e MODE=platform k6/order-thread-mode.js
+//   2) VIRTUAL_THREADS_ENABLED=true docker compose up -d app
+//      k6 run -e MODE=virtual k6/order-thread-mode.js
+//
+// 비교 지표 : http_req_duration p95 / p99, 초당 처리량, 실패율 (5xx), 매진 응답 수 (order_sold_out)
+// Grafana 에서 hikaricp_connections_pending, jvm_threads_live, executor_queued 도 함께 확인
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'platform';
+const MEMBER_ID = Number(__ENV.MEMBER_ID || 1);
+// 시드 데이터의 티켓 ID 범위 (AVAILABLE 티켓을 충분히 준비한 뒤 실행)
+const TICKET_ID_FROM = Number(__ENV.TICKET_ID_FROM || 1);
+const TICKET_ID_TO = Number(__ENV.TICKET_ID_TO || 5);
+
+const soldOut = new Counter('order_sold_out');
+
+export const options = {
+    scenarios: {
+        open_sale: {
+            executor: 'ramping-arrival-rate',
+            startRate: 50,
+            timeUnit: '1s',
+            preAllocatedVUs: 500,
+            maxVUs: 5000,
+            stages: [
+                { target: 500, duration: '30s' },
+                { target: 2000, duration: '1m' },
+                { target: 0, duration: '10s' },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+    tags: { mode: MODE },
+};
+
+export default function () {
+    const ticketId = TICKET_ID_FROM + Math.floor(Math.random() * (TICKET_ID_TO - TICKET_ID_FROM + 1));
+
+    const res = http.post(`${BASE_URL}/api/orders`, JSON.stringify({
+        memberId: MEMBER_ID,
+        ticketIds: [ticketId],
+    }), {
+        headers: { 'Content-Type': 'application/json' },
+        // 매진 (409) 은 정상적인 경합 결과이므로 실패율에서 제외, 그 외 4xx / 5xx 는 실패로 집계
+        responseCallback: http.expectedStatuses(201, 409),
+        tags: { name: 'create_order' },
+    });
+
+    const isSoldOut = res.status === 409;
+    if (isSoldOut) {
+        soldOut.add(1);
+    }
+
+    check(res, {
+        'created or sold out': (r) => r.status === 201 || isSoldOut,
+        'no server error': (r) => r.status !== 0 && r.status < 500,
+    });
+}
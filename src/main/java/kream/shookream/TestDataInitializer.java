@@ -17,6 +17,7 @@ public class TestDataInitializer implements CommandLineRunner {
     private final VenueRepository venueRepository;
     private final SellerRepository sellerRepository;
     private final EventRepository eventRepository;
+    private final EventStockRepository eventStockRepository;
     private final MemberRepository memberRepository;
     private final TicketRepository ticketRepository;
 
@@ -52,10 +53,12 @@ public class TestDataInitializer implements CommandLineRunner {
                 .eventName("2026 월드투어 서울 파이널")
                 .eventType(EventType.CONCERT)
                 .eventTime(eventTime)
-                .maxTicketCount(500) // 총 500개 재고
                 .build();
         eventRepository.save(mainEvent);
 
+        // 재고 행은 이벤트와 같은 PK 로 따로 저장
+        eventStockRepository.save(EventStock.builder().event(mainEvent).maxTicketCount(500).build()); // 총 500개 재고
+
         // [3. Ticket 생성 (Event 의존)]
 
         // 500개의 티켓 중 5개를 AVAILABLE 상태로 생성 (테스트용)
@@ -0,0 +1,84 @@
+package kream.shookream.controller;
+
+import kream.shookream.controller.dto.EventPageResponse;
+import kream.shookream.controller.dto.SeatAvailabilityResponse;
+import kream.shookream.domain.EventType;
+import kream.shookream.service.event.EventPage;
+import kream.shookream.service.event.EventSearchService;
+import kream.shookream.service.seat.EventSeatBitmap;
+import kream.shookream.service.seat.SeatAvailabilityIndex;
+import kream.shookream.service.stock.stream.StockStreamBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+public class EventController {
+
+    private final EventSearchService eventSearchService;
+    private final SeatAvailabilityIndex seatAvailabilityIndex;
+    private final StockStreamBroadcaster stockStreamBroadcaster;
+
+    /**
+     * GET /api/events?type=&sellerId=&from=&to=&cursor=&size=
+     * 이벤트 목록 시작일시 최신순 조회, 다음 페이지는 응답의 nextCursor 로 요청
+     * 성공시 200 OK 반환
+     */
+    @GetMapping
+    public ResponseEntity<EventPageResponse> searchEvents(
+            @RequestParam(value = "type", required = false) EventType eventType,
+            @RequestParam(value = "sellerId", required = false) Long sellerId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+
+        EventPage page = eventSearchService.search(eventType, sellerId, from, to, cursor, size);
+
+        return ResponseEntity.ok(new EventPageResponse(page.getEvents(), page.getNextCursor(), page.hasNext()));
+    }
+
+    /**
+     * GET /api/events/{eventId}/seats
+     * 좌석 배치도용 판매 가능 좌석 조회 (DB 대신 인메모리 좌석 인덱스)
+     * 성공시 200 OK 반환
+     */
+    @GetMapping("{eventId}/seats")
+    public ResponseEntity<SeatAvailabilityResponse> findSeats(@PathVariable("eventId") Long eventId) {
+        EventSeatBitmap bitmap = seatAvailabilityIndex.get(eventId);
+
+        return ResponseEntity.ok(new SeatAvailabilityResponse(
+                eventId,
+                bitmap.totalCount(),
+                bitmap.availableCount(),
+                bitmap.availableTicketIds(),
+                bitmap.memoryBytes()
+        ));
+    }
+
+    /**
+     * GET /api/events/{eventId}/stock/stream
+     * 남은 재고 SSE 스트림 (event: stock, data: StockFrame JSON) -> 새로고침 대신 변경 시에만 푸시 (주기당 최대 1건)
+     * 성공시 200 OK (text/event-stream), 이벤트 구독자가 가득 차면 503 Service Unavailable 반환
+     */
+    @GetMapping(value = "{eventId}/stock/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamStock(@PathVariable("eventId") Long eventId) {
+        try {
+            return ResponseEntity.ok(stockStreamBroadcaster.subscribe(eventId));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        }
+    }
+}
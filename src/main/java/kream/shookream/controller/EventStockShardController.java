@@ -0,0 +1,51 @@
+package kream.shookream.controller;
+
+import kream.shookream.controller.dto.StockShardRequest;
+import kream.shookream.controller.dto.StockShardResponse;
+import kream.shookream.domain.EventStock;
+import kream.shookream.service.stock.EventStockShardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/events/{eventId}/stock-shards")
+@RequiredArgsConstructor
+public class EventStockShardController {
+
+    private final EventStockShardService eventStockShardService;
+
+    /**
+     * POST /api/events/{eventId}/stock-shards
+     * 판매 오픈 전 핫 이벤트의 재고를 N개 샤드로 분산
+     * 성공시 200 OK 반환
+     */
+    @PostMapping
+    public ResponseEntity<StockShardResponse> enableSharding(@PathVariable("eventId") Long eventId,
+                                                             @RequestBody StockShardRequest request) {
+
+        eventStockShardService.enableSharding(eventId, request.getShardCount());
+
+        return ResponseEntity.ok(new StockShardResponse(
+                eventId,
+                request.getShardCount(),
+                eventStockShardService.sumStock(eventId)
+        ));
+    }
+
+    /**
+     * DELETE /api/events/{eventId}/stock-shards
+     * 샤드 재고를 합쳐 이벤트 행으로 되돌림
+     * 성공시 200 OK 반환
+     */
+    @DeleteMapping
+    public ResponseEntity<StockShardResponse> disableSharding(@PathVariable("eventId") Long eventId) {
+        EventStock stock = eventStockShardService.disableSharding(eventId);
+
+        return ResponseEntity.ok(new StockShardResponse(
+                eventId,
+                0,
+                stock.getCurrentTicketStockCount()
+        ));
+    }
+}
@@ -0,0 +1,32 @@
+package kream.shookream.controller;
+
+import kream.shookream.controller.dto.MemberOrderPageResponse;
+import kream.shookream.service.order.history.MemberOrderPage;
+import kream.shookream.service.order.history.OrderHistoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/members/{memberId}/orders")
+@RequiredArgsConstructor
+public class MemberOrderController {
+
+    private final OrderHistoryService orderHistoryService;
+
+    /**
+     * GET /api/members/{memberId}/orders?cursor=&size=&expand=lines
+     * 회원 주문 내역 최신순 조회, expand=lines 이면 주문 티켓까지 포함
+     * 성공시 200 OK 반환
+     */
+    @GetMapping
+    public ResponseEntity<MemberOrderPageResponse> findOrders(@PathVariable("memberId") Long memberId,
+                                                              @RequestParam(value = "cursor", required = false) String cursor,
+                                                              @RequestParam(value = "size", required = false) Integer size,
+                                                              @RequestParam(value = "expand", required = false) String expand) {
+
+        MemberOrderPage page = orderHistoryService.findOrders(memberId, cursor, size, "lines".equals(expand));
+
+        return ResponseEntity.ok(new MemberOrderPageResponse(page.getOrders(), page.getNextCursor(), page.hasNext()));
+    }
+}
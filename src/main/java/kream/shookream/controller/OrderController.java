@@ -2,38 +2,94 @@ package kream.shookream.controller;
 
 import kream.shookream.controller.dto.OrderRequest;
 import kream.shookream.controller.dto.OrderResponse;
-import kream.shookream.domain.Order;
-import kream.shookream.service.OrderService;
+import kream.shookream.service.idempotency.IdempotentOrderService;
+import kream.shookream.service.order.OrderEngine;
+import kream.shookream.service.order.OrderResult;
+import kream.shookream.service.order.submission.OrderSubmission;
+import kream.shookream.service.order.submission.OrderSubmissionService;
+import kream.shookream.service.order.submission.OrderSubmissionView;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.net.URI;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/orders")
 @RequiredArgsConstructor
 public class OrderController {
 
-    private final OrderService orderService;
+    private final OrderEngine orderEngine;
+    private final OrderSubmissionService orderSubmissionService;
+    private final IdempotentOrderService idempotentOrderService;
 
     /**
      * POST /api/orders
      * 티켓 주문 생성 + 재고 감소
      * 성공시 201 Created 반환
+     * Idempotency-Key 헤더가 있으면 같은 키의 재시도는 다시 실행하지 않고 처음 결과를 그대로 반환
      */
     @PostMapping
-    public ResponseEntity<OrderResponse> createOrder(@RequestBody OrderRequest request) {
+    public ResponseEntity<OrderResponse> createOrder(@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                                     @RequestBody OrderRequest request) {
 
-        Order createdOrder = orderService.createOrder(request.getMemberId(), request.getTicketIds());
+        OrderResult createdOrder = idempotencyKey == null
+                ? orderEngine.createOrder(request.getMemberId(), request.getTicketIds())
+                : idempotentOrderService.createOrder(idempotencyKey, request.getMemberId(), request.getTicketIds());
 
         OrderResponse response = new OrderResponse(
-                createdOrder.getId(),
-                createdOrder.getStatus().name(),
-                createdOrder.getTotalOrderAmount()
+                createdOrder.getOrderId(),
+                createdOrder.getStatus(),
+                createdOrder.getTotalAmount()
         );
 
-        return ResponseEntity.created(URI.create("/api/orders" + createdOrder.getId())).body(response);
+        return ResponseEntity.created(URI.create("/api/orders" + createdOrder.getOrderId())).body(response);
+    }
+
+    /**
+     * POST /api/orders/submissions
+     * 주문 비동기 접수 -> 입력 검증 후 접수 토큰만 발급하고 바로 반환 (락 / 외부 호출 / insert 를 기다리지 않음)
+     * 성공시 202 Accepted, 처리 대기열이 가득 차면 503 Service Unavailable 반환
+     */
+    @PostMapping("submissions")
+    public ResponseEntity<OrderSubmissionView> submitOrder(@RequestBody OrderRequest request) {
+        OrderSubmission submission;
+        try {
+            submission = orderSubmissionService.submit(request.getMemberId(), request.getTicketIds());
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        }
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/orders/" + submission.getToken()))
+                .body(OrderSubmissionView.from(submission));
+    }
+
+    /**
+     * GET /api/orders/{token}
+     * 접수 진행 상태 조회 (PENDING / CONFIRMED / FAILED)
+     */
+    @GetMapping("{token}")
+    public ResponseEntity<OrderSubmissionView> getSubmission(@PathVariable("token") String token) {
+        return orderSubmissionService.find(token)
+                .map(submission -> ResponseEntity.ok(OrderSubmissionView.from(submission)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * GET /api/orders/{token}/events
+     * 접수 진행 상태 SSE 구독 -> 현재 상태를 바로 보내고, 완료되면 최종 상태를 보낸 뒤 종료
+     */
+    @GetMapping(value = "{token}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeSubmission(@PathVariable("token") String token) {
+        return orderSubmissionService.subscribe(token);
     }
 
     /**
@@ -43,7 +99,7 @@ public class OrderController {
      */
     @DeleteMapping("{orderId}")
     public ResponseEntity<Void> cancelOrder(@PathVariable("orderId") Long orderId) {
-        orderService.cancelOrder(orderId);
+        orderEngine.cancelOrder(orderId);
 
         return ResponseEntity.noContent().build();
     }
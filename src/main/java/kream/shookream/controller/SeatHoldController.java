@@ -0,0 +1,69 @@
+package kream.shookream.controller;
+
+import kream.shookream.controller.dto.OrderResponse;
+import kream.shookream.controller.dto.SeatHoldRequest;
+import kream.shookream.controller.dto.SeatHoldResponse;
+import kream.shookream.domain.Order;
+import kream.shookream.domain.SeatHold;
+import kream.shookream.service.hold.SeatHoldService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/holds")
+@RequiredArgsConstructor
+public class SeatHoldController {
+
+    private final SeatHoldService seatHoldService;
+
+    /**
+     * POST /api/holds
+     * 좌석 선점 + 재고 차감 (만료 시각까지 결제 확정 대기)
+     * 성공시 201 Created 반환
+     */
+    @PostMapping
+    public ResponseEntity<SeatHoldResponse> hold(@RequestBody SeatHoldRequest request) {
+        SeatHold seatHold = seatHoldService.hold(request.getMemberId(), request.getTicketIds());
+
+        SeatHoldResponse response = new SeatHoldResponse(
+                seatHold.getId(),
+                seatHold.getTicketIds(),
+                seatHold.getExpiresAt()
+        );
+
+        return ResponseEntity.created(URI.create("/api/holds/" + seatHold.getId())).body(response);
+    }
+
+    /**
+     * POST /api/holds/{holdId}/confirm
+     * 선점 좌석 결제 확정 -> 주문 생성
+     * 성공시 201 Created 반환
+     */
+    @PostMapping("{holdId}/confirm")
+    public ResponseEntity<OrderResponse> confirm(@PathVariable("holdId") Long holdId) {
+        Order createdOrder = seatHoldService.confirm(holdId);
+
+        OrderResponse response = new OrderResponse(
+                createdOrder.getId(),
+                createdOrder.getStatus().name(),
+                createdOrder.getTotalOrderAmount()
+        );
+
+        return ResponseEntity.created(URI.create("/api/orders/" + createdOrder.getId())).body(response);
+    }
+
+    /**
+     * DELETE /api/holds/{holdId}
+     * 확정 전 선점 반환 + 재고 복구
+     * 성공시 204 No Content 반환
+     */
+    @DeleteMapping("{holdId}")
+    public ResponseEntity<Void> release(@PathVariable("holdId") Long holdId) {
+        seatHoldService.release(holdId);
+
+        return ResponseEntity.noContent().build();
+    }
+}
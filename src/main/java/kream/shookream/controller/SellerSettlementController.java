@@ -0,0 +1,63 @@
+package kream.shookream.controller;
+
+import kream.shookream.service.settlement.SettlementExportService;
+import kream.shookream.service.settlement.SettlementFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/api/sellers/{sellerId}/settlements")
+@RequiredArgsConstructor
+public class SellerSettlementController {
+
+    private final SettlementExportService settlementExportService;
+
+    /**
+     * GET /api/sellers/{sellerId}/settlements?from=2026-01-01&to=2026-01-31&format=csv|ndjson
+     * 판매일 기준 정산 내역 (판매 건별 + 이벤트 / 일별 합계 + 전체 합계) 을 파일로 스트리밍
+     * 성공시 200 OK 반환 (응답은 MVC 비동기 스레드에서 DB 결과를 읽는 대로 전송), 동시 다운로드가 가득 차면 503 Service Unavailable 반환
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportSettlement(
+            @PathVariable("sellerId") Long sellerId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "format", defaultValue = "csv") String format) {
+
+        SettlementFormat settlementFormat = SettlementFormat.from(format);
+        settlementExportService.validateRange(from, to);
+
+        // 커넥션을 잡기 전에 자리부터 확보 -> 응답을 쓰기 시작하면 상태 코드를 바꿀 수 없음
+        try {
+            settlementExportService.acquireSlot();
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build();
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            try {
+                settlementExportService.export(sellerId, from, to, settlementFormat, outputStream);
+            } finally {
+                settlementExportService.releaseSlot();
+            }
+        };
+
+        String fileName = "settlement-" + sellerId + "-" + from + "-" + to + "." + settlementFormat.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(settlementFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,54 @@
+package kream.shookream.controller;
+
+import kream.shookream.controller.dto.WaitingRoomResponse;
+import kream.shookream.service.waitingroom.WaitingRoomService;
+import kream.shookream.service.waitingroom.WaitingRoomStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/waiting-room/events/{eventId}")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    /**
+     * POST /api/waiting-room/events/{eventId}?memberId=
+     * 대기열 입장 -> 토큰 (이벤트 / 회원에 묶임) + 현재 순위 + 예상 대기 시간
+     * 성공시 201 Created 반환
+     */
+    @PostMapping
+    public ResponseEntity<WaitingRoomResponse> enter(@PathVariable("eventId") Long eventId,
+                                                     @RequestParam("memberId") Long memberId) {
+        WaitingRoomStatus status = waitingRoomService.enter(eventId, memberId);
+
+        return ResponseEntity.created(URI.create("/api/waiting-room/events/" + eventId + "/" + status.getToken()))
+                .body(toResponse(status));
+    }
+
+    /**
+     * GET /api/waiting-room/events/{eventId}/{token}
+     * 순위 / 입장 여부 조회 (입장했으면 X-Waiting-Room-Token 헤더로 주문 생성 호출)
+     */
+    @GetMapping("{token}")
+    public ResponseEntity<WaitingRoomResponse> status(@PathVariable("eventId") Long eventId,
+                                                      @PathVariable("token") String token) {
+        return waitingRoomService.status(eventId, token)
+                .map(status -> ResponseEntity.ok(toResponse(status)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private WaitingRoomResponse toResponse(WaitingRoomStatus status) {
+        return new WaitingRoomResponse(
+                status.getToken(),
+                status.getEventId(),
+                status.getPosition(),
+                status.isAdmitted(),
+                status.getEtaSeconds()
+        );
+    }
+}
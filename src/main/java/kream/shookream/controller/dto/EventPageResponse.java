@@ -0,0 +1,20 @@
+package kream.shookream.controller.dto;
+
+import kream.shookream.repository.dto.EventSummary;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class EventPageResponse {
+
+    private List<EventSummary> events;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public EventPageResponse(List<EventSummary> events, String nextCursor, boolean hasNext) {
+        this.events = events;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
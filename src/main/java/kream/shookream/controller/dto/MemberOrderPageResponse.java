@@ -0,0 +1,20 @@
+package kream.shookream.controller.dto;
+
+import kream.shookream.service.order.history.MemberOrder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class MemberOrderPageResponse {
+
+    private List<MemberOrder> orders;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public MemberOrderPageResponse(List<MemberOrder> orders, String nextCursor, boolean hasNext) {
+        this.orders = orders;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,26 @@
+package kream.shookream.controller.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SeatAvailabilityResponse {
+
+    private Long eventId;
+    private Integer totalSeats;
+    private Integer availableCount;
+    private List<Long> availableTicketIds;
+
+    // 이 이벤트의 좌석 인덱스가 차지하는 메모리
+    private Long indexMemoryBytes;
+
+    public SeatAvailabilityResponse(Long eventId, Integer totalSeats, Integer availableCount,
+                                    List<Long> availableTicketIds, Long indexMemoryBytes) {
+        this.eventId = eventId;
+        this.totalSeats = totalSeats;
+        this.availableCount = availableCount;
+        this.availableTicketIds = availableTicketIds;
+        this.indexMemoryBytes = indexMemoryBytes;
+    }
+}
@@ -0,0 +1,11 @@
+package kream.shookream.controller.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SeatHoldRequest {
+    private Long memberId;
+    private List<Long> ticketIds;
+}
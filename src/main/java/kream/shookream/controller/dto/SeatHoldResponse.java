@@ -0,0 +1,20 @@
+package kream.shookream.controller.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class SeatHoldResponse {
+
+    private Long holdId;
+    private List<Long> ticketIds;
+    private LocalDateTime expiresAt;
+
+    public SeatHoldResponse(Long holdId, List<Long> ticketIds, LocalDateTime expiresAt) {
+        this.holdId = holdId;
+        this.ticketIds = ticketIds;
+        this.expiresAt = expiresAt;
+    }
+}
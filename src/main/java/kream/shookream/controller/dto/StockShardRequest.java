@@ -0,0 +1,8 @@
+package kream.shookream.controller.dto;
+
+import lombok.Data;
+
+@Data
+public class StockShardRequest {
+    private Integer shardCount;
+}
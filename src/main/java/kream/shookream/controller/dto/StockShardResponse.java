@@ -0,0 +1,17 @@
+package kream.shookream.controller.dto;
+
+import lombok.Data;
+
+@Data
+public class StockShardResponse {
+
+    private Long eventId;
+    private Integer shardCount;
+    private Integer remainingStock;
+
+    public StockShardResponse(Long eventId, Integer shardCount, Integer remainingStock) {
+        this.eventId = eventId;
+        this.shardCount = shardCount;
+        this.remainingStock = remainingStock;
+    }
+}
@@ -0,0 +1,21 @@
+package kream.shookream.controller.dto;
+
+import lombok.Data;
+
+@Data
+public class WaitingRoomResponse {
+
+    private String token;
+    private Long eventId;
+    private Long position;
+    private boolean admitted;
+    private long etaSeconds;
+
+    public WaitingRoomResponse(String token, Long eventId, Long position, boolean admitted, long etaSeconds) {
+        this.token = token;
+        this.eventId = eventId;
+        this.position = position;
+        this.admitted = admitted;
+        this.etaSeconds = etaSeconds;
+    }
+}
@@ -6,6 +6,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,8 +18,15 @@ import java.util.List;
         @Index(name = "IDX_EVENT_SELLER_TIME", columnList = "seller_id, start_time DESC"),
 
         // IDX_EVENT_SEARCH: 이벤트 분류(event_type)를 필터링하고 시작일시(start_time)로 정렬하여 검색
-        @Index(name = "IDX_EVENT_SEARCH", columnList = "eventType, start_time DESC")
+        @Index(name = "IDX_EVENT_SEARCH", columnList = "eventType, start_time DESC"),
+
+        // IDX_EVENT_START_TIME: 분류 / 판매자 필터 없이 전체 이벤트를 시작일시 최신순으로 조회
+        @Index(name = "IDX_EVENT_START_TIME", columnList = "start_time DESC")
 })
+// 재고를 EventStock 으로 분리해 사실상 불변 -> 2차 캐시 (연관 컬렉션은 캐시하지 않음)
+// 재고는 EventStock 쪽에서만 참조 (역방향 @OneToOne 은 지연 로딩이 안 되어 이벤트를 읽을 때마다 event_stock 을 조회하게 됨)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "event")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Event {
@@ -38,12 +47,6 @@ public class Event {
     @OneToMany(mappedBy = "event")
     private List<Ticket> tickets = new ArrayList<>();
 
-    //    @Column(nullable = false)
-    private Integer maxTicketCount;
-
-    //    @Column(nullable = false)
-    private Integer currentTicketStockCount;
-
     private String eventName;
 
     @Enumerated(EnumType.STRING)
@@ -52,31 +55,15 @@ public class Event {
     @Embedded
     private EventTime eventTime;
 
+    @OneToMany(mappedBy = "event")
+    private List<EventStockShard> stockShards = new ArrayList<>();
+
     @Builder
-    public Event(Venue venue, Seller seller, String eventName, EventType eventType, EventTime eventTime, Integer maxTicketCount) {
+    public Event(Venue venue, Seller seller, String eventName, EventType eventType, EventTime eventTime) {
         this.venue = venue;
         this.seller = seller;
         this.eventName = eventName;
         this.eventType = eventType;
         this.eventTime = eventTime;
-        this.maxTicketCount = maxTicketCount;
-        this.currentTicketStockCount = maxTicketCount; // 생성 시점에는 동일
-    }
-
-    public void decreaseTicketStock() {
-        if (this.currentTicketStockCount <= 0) {
-            throw new IllegalStateException("표 재고가 부족합니다.");
-        }
-
-        this.currentTicketStockCount--;
-    }
-
-    // update 쿼리 나감
-    public void increaseTicketStock() {
-        if (this.currentTicketStockCount >= this.maxTicketCount) {
-            throw new RuntimeException("판매 가능 수량을 초과하였습니다.");
-        }
-
-        this.currentTicketStockCount++;
     }
 }
@@ -0,0 +1,92 @@
+package kream.shookream.domain;
+
+import jakarta.persistence.*;
+import kream.shookream.domain.exception.SoldOutException;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이벤트 재고 (이벤트와 같은 PK 를 쓰는 좁은 행)
+ * 주문마다 바뀌는 재고 / 버전 / 샤딩 여부만 모아서 락, Dirty Checking, UPDATE, undo 가 이 행만 건드리도록
+ * -> 이벤트 행은 사실상 불변이 되어 2차 캐시에 올릴 수 있음
+ */
+@Entity
+@Table(name = "event_stock")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventStock {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id")
+    private Event event;
+
+    private Integer maxTicketCount;
+
+    private Integer currentTicketStockCount;
+
+    // 낙관적 락 (OPTIMISTIC 재고 락 전략)
+    @Version
+    private Long version;
+
+    // 0 이면 샤딩 미적용, N 이면 재고가 event_stock_shard N개 행으로 분산됨
+    private int stockShardCount;
+
+    // 이벤트를 저장한 뒤 같은 PK 로 함께 저장
+    @Builder
+    public EventStock(Event event, Integer maxTicketCount) {
+        this.event = event;
+        this.maxTicketCount = maxTicketCount;
+        this.currentTicketStockCount = maxTicketCount; // 생성 시점에는 동일
+    }
+
+    public void decrease() {
+        if (this.currentTicketStockCount <= 0) {
+            throw new SoldOutException("표 재고가 부족합니다.");
+        }
+
+        this.currentTicketStockCount--;
+    }
+
+    // update 쿼리 나감
+    public void increase() {
+        if (this.currentTicketStockCount >= this.maxTicketCount) {
+            throw new RuntimeException("판매 가능 수량을 초과하였습니다.");
+        }
+
+        this.currentTicketStockCount++;
+    }
+
+    public boolean isStockSharded() {
+        return this.stockShardCount > 0;
+    }
+
+    // 재고를 샤드로 옮김 -> 이후 currentTicketStockCount 는 사용하지 않음
+    public void enableSharding(int shardCount) {
+        if (isStockSharded()) {
+            throw new IllegalStateException("이미 재고 샤딩이 적용된 이벤트입니다.");
+        }
+        if (shardCount < 2) {
+            throw new IllegalArgumentException("샤드 개수는 2개 이상이어야 합니다.");
+        }
+
+        this.stockShardCount = shardCount;
+        this.currentTicketStockCount = 0;
+    }
+
+    // 샤드에 남은 재고를 다시 재고 행으로 합침
+    public void disableSharding(int mergedStockCount) {
+        if (!isStockSharded()) {
+            throw new IllegalStateException("재고 샤딩이 적용되지 않은 이벤트입니다.");
+        }
+
+        this.stockShardCount = 0;
+        this.currentTicketStockCount = mergedStockCount;
+    }
+}
@@ -0,0 +1,40 @@
+package kream.shookream.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "event_stock_shard",
+        uniqueConstraints = {
+                // UK_SHARD_EVENT_NO: 이벤트별 샤드 번호는 유일 -> (event_id, shard_no) 로 단건 조건부 UPDATE
+                @UniqueConstraint(name = "UK_SHARD_EVENT_NO", columnNames = {"event_id", "shard_no"})
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventStockShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_stock_shard_id")
+    private Long id;
+
+    // 하나의 이벤트 재고를 N개 행으로 분산 1:N
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id")
+    private Event event;
+
+    @Column(name = "shard_no")
+    private Integer shardNo;
+
+    private Integer stockCount;
+
+    @Builder
+    public EventStockShard(Event event, Integer shardNo, Integer stockCount) {
+        this.event = event;
+        this.shardNo = shardNo;
+        this.stockCount = stockCount;
+    }
+}
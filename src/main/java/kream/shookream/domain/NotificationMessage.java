@@ -0,0 +1,62 @@
+package kream.shookream.domain;
+
+import jakarta.persistence.*;
+import kream.shookream.domain.embedded.RetryLease;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "notification_queue", indexes = {
+        // IDX_NOTIFICATION_STATUS_NEXT: 발송 대상(PENDING + 재시도 시각 도래) 을 오래된 순으로 조회
+        @Index(name = "IDX_NOTIFICATION_STATUS_NEXT", columnList = "status, nextAttemptAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "notification_id")
+    private Long id;
+
+    private String phoneNumber;
+
+    // 이벤트 이름 목록 (JSON 배열)
+    @Column(columnDefinition = "TEXT")
+    private String eventNames;
+
+    @Enumerated(EnumType.STRING)
+    private NotificationStatus status;
+
+    // 발송 임대 및 재시도 상태
+    @Embedded
+    private RetryLease lease;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    @Builder
+    public NotificationMessage(String phoneNumber, String eventNames, LocalDateTime createdAt) {
+        this.phoneNumber = phoneNumber;
+        this.eventNames = eventNames;
+        this.createdAt = createdAt;
+        this.lease = new RetryLease(createdAt);
+        this.status = NotificationStatus.PENDING;
+    }
+
+    public void markSent(LocalDateTime now) {
+        this.status = NotificationStatus.SENT;
+        this.sentAt = now;
+        this.lease.recordError(null);
+    }
+
+    public void markFailed(String error) {
+        this.status = NotificationStatus.FAILED;
+        this.lease.recordError(error);
+    }
+}
@@ -0,0 +1,12 @@
+package kream.shookream.domain;
+
+public enum NotificationStatus {
+    // 발송 대기 (재시도 포함)
+    PENDING,
+
+    // 발송 완료 (같은 번호로 묶여 한 번에 발송된 경우 포함)
+    SENT,
+
+    // 재시도 소진
+    FAILED
+}
@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Entity
 @Table(name = "orders", indexes = {
@@ -53,7 +54,8 @@ public class Order {
     }
 
     // 주문을 취소 상태로 만들고 연관된 모든 OrderTicket에 취소 로직 위임
-    public void cancel() {
+    // lockedStockByEventId : 락을 걸고 불러온 재고 행 -> 여기서 복구, 없는 이벤트는 EventStock 엔티티 밖(Redis 등)에서 이미 복구됨
+    public void cancel(Map<Long, EventStock> lockedStockByEventId) {
         if (!isCancellable()) {
             throw new IllegalStateException("현재 주문은 취소할 수 없습니다."); // 아마 이미 CANCELED 라고 되어 있을 듯?
         }
@@ -63,7 +65,8 @@ public class Order {
 
         // 2. OrderTicket에 취소 책임 위임 -> Order의 원자성 -> 개별 티켓 취소 불가 -> 전체 Order 에 담긴 티켓을 모두 취소해야함
         for (OrderTicket orderTicket : this.orderTickets) {
-            orderTicket.cancelPurchase();
+            Long eventId = orderTicket.getTicket().getEvent().getId();
+            orderTicket.cancelPurchase(lockedStockByEventId.get(eventId));
         }
     }
 
@@ -74,7 +77,8 @@ public class Order {
     }
 
     // 주문 생성 -> 회원과 티켓 필요
-    public static Order createOrder(Member member, List<Ticket> tickets) {
+    // lockedStockByEventId : 락을 걸고 불러온 재고 행 -> 여기서 차감, 없는 이벤트는 EventStock 엔티티 밖(Redis 등)에서 이미 차감됨
+    public static Order createOrder(Member member, List<Ticket> tickets, Map<Long, EventStock> lockedStockByEventId) {
         if (tickets == null || tickets.isEmpty()) {
             throw new IllegalStateException("티켓 목록은 비어있을 수 없음");
         }
@@ -93,7 +97,42 @@ public class Order {
 
         for (Ticket ticket : tickets) {
             ticket.sell(); // 여기서 해당 티켓들은 모두 SOLDOUT 으로 변경
-            ticket.getEvent().decreaseTicketStock();
+            EventStock lockedStock = lockedStockByEventId.get(ticket.getEvent().getId());
+            if (lockedStock != null) {
+                lockedStock.decrease();
+            }
+
+            OrderTicket orderTicket = OrderTicket.builder()
+                    .ticket(ticket)
+                    .createdAt(LocalDateTime.now())
+                    .purchase_price(ticket.getTicketPrice())
+                    .build();
+
+            order.addOrderTicket(orderTicket);
+        }
+
+        return order;
+    }
+
+    // 선점(HOLD) 확정으로 주문 생성 -> 재고는 선점 시점에 이미 차감됨, 좌석만 HELD -> SOLDOUT
+    public static Order createHeldOrder(Member member, List<Ticket> tickets) {
+        if (tickets == null || tickets.isEmpty()) {
+            throw new IllegalStateException("티켓 목록은 비어있을 수 없음");
+        }
+
+        int totalAmount = tickets.stream()
+                .mapToInt(Ticket::getTicketPrice)
+                .sum();
+
+        Order order = Order.builder()
+                .member(member)
+                .orderedAt(LocalDateTime.now())
+                .totalOrderAmount(totalAmount)
+                .status(OrderStatus.SUCCESS)
+                .build();
+
+        for (Ticket ticket : tickets) {
+            ticket.confirmHold();
 
             OrderTicket orderTicket = OrderTicket.builder()
                     .ticket(ticket)
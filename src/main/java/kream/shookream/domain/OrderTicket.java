@@ -11,7 +11,10 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "order_ticket", indexes = {
         // IDX_OT_TICKET_TIME: 특정 티켓의 판매 기간별 정산 데이터를 조회
-        @Index(name = "IDX_OT_TICKET_TIME", columnList = "ticket_id, createdAt ASC")
+        @Index(name = "IDX_OT_TICKET_TIME", columnList = "ticket_id, createdAt ASC"),
+
+        // IDX_OT_ORDER: 주문 내역 페이지의 주문 티켓을 order_id IN (...) 한 번으로 조회
+        @Index(name = "IDX_OT_ORDER", columnList = "order_id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -43,15 +46,19 @@ public class OrderTicket {
         this.purchase_price = purchase_price;
     }
 
-    public void cancelPurchase() {
+    // lockedStock 이 null 이면 재고는 EventStock 엔티티 밖(Redis 등)에서 복구된 것으로 보고 티켓 상태만 되돌림
+    public void cancelPurchase(EventStock lockedStock) {
         // 1. 연관된 Ticket 객체의 상태를 AVAILABLE로 복구
         Ticket ticket = this.getTicket();
         ticket.revertToAvailable();
 
-        // 2. Ticket이 복구되었으므로, 해당 Ticket이 속한 Event의 재고를 증가시켜야 함
-        // Event 객체는 Ticket 내부에 참조되고 있습니다.
-        Event event = ticket.getEvent();
-        event.increaseTicketStock();
+        if (lockedStock == null) {
+            return;
+        }
+
+        // 2. Ticket이 복구되었으므로, 해당 Ticket이 속한 이벤트의 재고를 증가시켜야 함
+        // 재고 행은 Event 가 아닌 호출하는 쪽에서 락을 걸고 불러온 EventStock
+        lockedStock.increase();
     }
 
     // 필요한 필드만 넣기
@@ -0,0 +1,81 @@
+package kream.shookream.domain;
+
+import jakarta.persistence.*;
+import kream.shookream.domain.embedded.RetryLease;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox", indexes = {
+        // IDX_OUTBOX_STATUS_NEXT: 발행 대상(PENDING + 재시도 시각 도래) 을 오래된 순으로 조회
+        @Index(name = "IDX_OUTBOX_STATUS_NEXT", columnList = "status, nextAttemptAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxMessageType messageType;
+
+    // 메시지가 속한 주문 ID
+    private Long aggregateId;
+
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status;
+
+    // 발행 / 보상 임대 및 재시도 상태
+    @Embedded
+    private RetryLease lease;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime processedAt;
+
+    @Builder
+    public OutboxMessage(OutboxMessageType messageType, Long aggregateId, String payload, LocalDateTime createdAt) {
+        this.messageType = messageType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.createdAt = createdAt;
+        this.lease = new RetryLease(createdAt);
+        this.status = OutboxStatus.PENDING;
+    }
+
+    public void markPublished(LocalDateTime now) {
+        this.status = OutboxStatus.PUBLISHED;
+        this.processedAt = now;
+        this.lease.recordError(null);
+    }
+
+    // 등록 실패 -> 보상 대기로 전환, 주문 취소는 디스패처가 이 상태의 메시지를 다시 가져가 수행 (도중에 죽어도 남아 있음)
+    // 시도 횟수는 보상 시도부터 다시 셈
+    public void startCompensation(LocalDateTime now, String error) {
+        this.status = OutboxStatus.COMPENSATING;
+        this.lease.restart(now, error);
+    }
+
+    // 주문 취소가 커밋된 뒤에만 호출
+    public void markCompensated(LocalDateTime now) {
+        this.status = OutboxStatus.COMPENSATED;
+        this.processedAt = now;
+    }
+
+    // 보상 재시도 소진 -> 더 이상 가져가지 않음
+    public void markFailed(LocalDateTime now, String error) {
+        this.status = OutboxStatus.FAILED;
+        this.processedAt = now;
+        this.lease.recordError(error);
+    }
+}
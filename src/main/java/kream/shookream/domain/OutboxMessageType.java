@@ -0,0 +1,6 @@
+package kream.shookream.domain;
+
+public enum OutboxMessageType {
+    // 상위 회사 (티켓 링크) 이벤트 참가 등록
+    PARTICIPANT_REGISTRATION
+}
@@ -0,0 +1,18 @@
+package kream.shookream.domain;
+
+public enum OutboxStatus {
+    // 발행 대기 (재시도 포함)
+    PENDING,
+
+    // 외부 시스템 반영 완료
+    PUBLISHED,
+
+    // 외부 시스템이 거절했거나 재시도 소진 -> 주문 취소 (보상) 대기, 취소가 커밋되어야 COMPENSATED 로 넘어감
+    COMPENSATING,
+
+    // 보상 (주문 취소) 완료
+    COMPENSATED,
+
+    // 보상 재시도까지 소진 -> 주문이 취소되지 않은 채 남음, 수동 처리 필요
+    FAILED
+}
@@ -0,0 +1,75 @@
+package kream.shookream.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "seat_hold", indexes = {
+        // IDX_HOLD_STATUS_EXPIRES: 재시작 시 아직 선점 중인 hold 를 만료 스케줄러에 다시 등록
+        @Index(name = "IDX_HOLD_STATUS_EXPIRES", columnList = "status, expiresAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SeatHold {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "seat_hold_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    private Member member;
+
+    // 선점한 좌석 ID 목록 (좌석 상태는 tickets.status = HELD 로 관리)
+    @ElementCollection
+    @CollectionTable(name = "seat_hold_ticket", joinColumns = @JoinColumn(name = "seat_hold_id"))
+    @Column(name = "ticket_id")
+    private List<Long> ticketIds = new ArrayList<>();
+
+    private LocalDateTime heldAt;
+
+    private LocalDateTime expiresAt;
+
+    @Enumerated(EnumType.STRING)
+    private SeatHoldStatus status;
+
+    @Builder
+    public SeatHold(Member member, List<Long> ticketIds, LocalDateTime heldAt, LocalDateTime expiresAt) {
+        this.member = member;
+        this.ticketIds = new ArrayList<>(ticketIds);
+        this.heldAt = heldAt;
+        this.expiresAt = expiresAt;
+        this.status = SeatHoldStatus.HELD;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !this.expiresAt.isAfter(now);
+    }
+
+    public void confirm(LocalDateTime now) {
+        if (this.status != SeatHoldStatus.HELD) {
+            throw new IllegalStateException("확정할 수 없는 선점입니다.");
+        }
+        if (isExpired(now)) {
+            throw new IllegalStateException("선점 시간이 만료되었습니다.");
+        }
+
+        this.status = SeatHoldStatus.CONFIRMED;
+    }
+
+    public void release() {
+        if (this.status != SeatHoldStatus.HELD) {
+            throw new IllegalStateException("반환할 수 없는 선점입니다.");
+        }
+
+        this.status = SeatHoldStatus.RELEASED;
+    }
+}
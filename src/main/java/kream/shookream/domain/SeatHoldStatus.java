@@ -0,0 +1,12 @@
+package kream.shookream.domain;
+
+public enum SeatHoldStatus {
+    // 좌석 선점 중 (만료 시각까지 결제 확정 대기)
+    HELD,
+
+    // 결제 확정 -> 주문 생성됨
+    CONFIRMED,
+
+    // 만료 또는 구매자 취소로 좌석 반환
+    RELEASED
+}
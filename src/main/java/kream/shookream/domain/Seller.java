@@ -5,6 +5,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -12,6 +14,9 @@ import java.util.List;
 
 @Entity
 @Table(name = "sellers")
+// 읽기 위주 -> 2차 캐시 (연관 컬렉션은 캐시하지 않음)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "seller")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Seller {
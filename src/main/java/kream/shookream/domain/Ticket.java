@@ -1,6 +1,7 @@
 package kream.shookream.domain;
 
 import jakarta.persistence.*;
+import kream.shookream.domain.exception.SoldOutException;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,7 +13,10 @@ import java.util.List;
 @Entity
 @Table(name = "tickets", indexes = {
         // IDX_TICKET_EVENT_STATUS: 특정 이벤트의 'AVAILABLE' 티켓을 빠르게 검색
-        @Index(name = "IDX_TICKET_EVENT_STATUS", columnList = "event_id, status")
+        @Index(name = "IDX_TICKET_EVENT_STATUS", columnList = "event_id, status"),
+
+        // IDX_TICKET_SELLER_EVENT: 판매자 정산 시 판매자의 티켓을 이벤트 순으로 읽어 IDX_OT_TICKET_TIME 으로 조인
+        @Index(name = "IDX_TICKET_SELLER_EVENT", columnList = "seller_id, event_id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -63,7 +67,16 @@ public class Ticket {
 
     public void sell() {
         if (!isAvailable()) {
-            throw new IllegalStateException("이미 매진된 표입니다.");
+            throw new SoldOutException("이미 매진된 표입니다.");
+        }
+
+        this.status = TicketStatus.SOLDOUT;
+    }
+
+    // 선점(HOLD)된 좌석을 결제 확정
+    public void confirmHold() {
+        if (this.status != TicketStatus.HELD) {
+            throw new IllegalStateException("선점되지 않은 표입니다.");
         }
 
         this.status = TicketStatus.SOLDOUT;
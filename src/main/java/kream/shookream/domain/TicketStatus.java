@@ -1,5 +1,5 @@
 package kream.shookream.domain;
 
 public enum TicketStatus {
-    AVAILABLE, SOLDOUT, CANCELLED
+    AVAILABLE, HELD, SOLDOUT, CANCELLED
 }
@@ -5,12 +5,17 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "venues")
+// 읽기 위주 -> 2차 캐시 (연관 컬렉션은 캐시하지 않음)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "venue")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Venue {
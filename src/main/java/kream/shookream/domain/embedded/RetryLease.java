@@ -0,0 +1,73 @@
+package kream.shookream.domain.embedded;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 큐 테이블 (outbox, notification_queue) 메시지의 임대 / 재시도 상태
+ * 워커가 SKIP LOCKED 로 가져가 임대 -> 트랜잭션 밖에서 처리 -> 결과에 따라 재시도 예약 / 되돌림
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RetryLease {
+
+    private int attemptCount;
+
+    // 이 시각 이후에 처리(재시도) 가능, 처리 중에는 임대 만료 시각
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    public RetryLease(LocalDateTime firstAttemptAt) {
+        this.nextAttemptAt = firstAttemptAt;
+    }
+
+    // 처리 시작 -> 임대 시간 동안 다른 워커가 가져가지 않음 (도중에 죽으면 임대 만료 후 다시 처리)
+    public void lease(LocalDateTime leaseUntil) {
+        this.attemptCount++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    // 실행기 포화로 시도조차 못함 -> 시도 횟수를 되돌리고 다시 대기
+    public void defer(LocalDateTime nextAttemptAt) {
+        this.attemptCount = Math.max(this.attemptCount - 1, 0);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    // 지수 백오프 (base * 2^(n-1), 최대 maxBackoff) 후 재시도
+    public void scheduleRetry(LocalDateTime now, long baseBackoffMs, long maxBackoffMs, String error) {
+        this.nextAttemptAt = now.plus(backoff(attemptCount, baseBackoffMs, maxBackoffMs));
+        this.lastError = truncate(error);
+    }
+
+    // 다른 단계 (보상 등) 로 넘어감 -> 시도 횟수를 처음부터 다시 셈
+    public void restart(LocalDateTime nextAttemptAt, String error) {
+        this.attemptCount = 0;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    public void recordError(String error) {
+        this.lastError = truncate(error);
+    }
+
+    public static Duration backoff(int attemptCount, long baseBackoffMs, long maxBackoffMs) {
+        long backoff = baseBackoffMs << Math.min(Math.max(attemptCount - 1, 0), 20);
+        return Duration.ofMillis(Math.min(backoff, maxBackoffMs));
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= 500) {
+            return error;
+        }
+        return error.substring(0, 500);
+    }
+}
@@ -0,0 +1,12 @@
+package kream.shookream.domain.exception;
+
+/**
+ * 매진 / 재고 부족 / 이미 팔리거나 선점된 좌석 -> 경합에서 진 정상적인 결과 (서버 오류가 아님)
+ * API 에서는 409 Conflict 로 응답 (GlobalExceptionHandler)
+ */
+public class SoldOutException extends IllegalStateException {
+
+    public SoldOutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,160 @@
+package kream.shookream.external;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kream.shookream.external.dto.ExternalEventResponse;
+import kream.shookream.external.dto.ExternalParticipantRequest;
+import kream.shookream.global.executor.BoundedExecutorFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 티켓 링크 참가 등록 micro-batching
+ * 짧은 윈도우(또는 최대 배치 크기)만큼 모은 등록 요청을 ExternalEventApi.registerParticipants 한 번으로 호출하고
+ * 응답을 요청 순서대로 각 호출자의 future 에 돌려줌 -> 오픈 직후 외부 왕복 횟수를 배치 크기만큼 줄임
+ *
+ * 일괄 호출은 이름 붙은 풀 (executors.pools.external-batch) 에서 병렬로 실행, 풀이 포화되면 RejectedExecutionException 으로 완료
+ * 호출은 ExternalCallGuard (데드라인 / 벌크헤드 / 서킷 브레이커) 를 거침
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchingExternalEventClient {
+
+    private final ExternalEventApi externalEventApi;
+    private final ExternalBatchProperties externalBatchProperties;
+    private final BoundedExecutorFactory boundedExecutorFactory;
+    private final ExternalCallGuard externalCallGuard;
+
+    private final Queue<PendingRegistration> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger(); // ConcurrentLinkedQueue.size() 는 O(n)
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile ScheduledFuture<?> pendingFlush;
+
+    private ScheduledExecutorService flushTimer;
+    private ExecutorService callExecutor;
+
+    @PostConstruct
+    void start() {
+        flushTimer = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("external-batch-timer-"));
+        callExecutor = boundedExecutorFactory.create("external-batch");
+    }
+
+    @PreDestroy
+    void stop() {
+        flushTimer.shutdown();
+    }
+
+    public CompletableFuture<ExternalEventResponse> registerParticipant(String idempotencyKey, List<Long> eventIds, Long memberId,
+                                                                        List<String> eventNames) {
+        PendingRegistration registration = new PendingRegistration(
+                new ExternalParticipantRequest(eventIds, memberId, eventNames, idempotencyKey));
+
+        queue.add(registration);
+        int pending = pendingCount.incrementAndGet();
+
+        if (scheduled.compareAndSet(false, true)) {
+            schedule();
+        } else {
+            // 윈도우가 끝나기 전에 배치가 가득 차면 타이머를 취소하고 즉시 처리
+            ScheduledFuture<?> flush = pendingFlush;
+            if (pending >= externalBatchProperties.getMaxBatchSize() && flush != null && flush.cancel(false)) {
+                flushTimer.execute(this::drain);
+            }
+        }
+
+        return registration.future;
+    }
+
+    private void schedule() {
+        pendingFlush = flushTimer.schedule(this::drain, externalBatchProperties.getWindowMs(), TimeUnit.MILLISECONDS);
+    }
+
+    // 대기열을 배치 단위로 잘라 호출 풀에 넘김 -> 외부 응답을 기다리지 않으므로 다음 윈도우가 밀리지 않음
+    private void drain() {
+        try {
+            List<PendingRegistration> batch = poll();
+            while (!batch.isEmpty()) {
+                dispatch(batch);
+                batch = poll();
+            }
+        } finally {
+            scheduled.set(false);
+            // 플래그를 내리는 사이에 들어온 요청은 타이머를 걸지 못했으므로 여기서 다시 예약
+            if (pendingCount.get() > 0 && scheduled.compareAndSet(false, true)) {
+                schedule();
+            }
+        }
+    }
+
+    private void dispatch(List<PendingRegistration> batch) {
+        try {
+            callExecutor.execute(() -> call(batch));
+        } catch (RejectedExecutionException e) {
+            batch.forEach(registration -> registration.future.completeExceptionally(e));
+        }
+    }
+
+    private void call(List<PendingRegistration> batch) {
+        List<ExternalEventResponse> responses;
+        try {
+            List<ExternalParticipantRequest> requests = batch.stream()
+                    .map(registration -> registration.request)
+                    .toList();
+            responses = externalCallGuard.call(ExternalCallGuard.TICKET_LINK, () -> externalEventApi.registerParticipants(requests));
+        } catch (RuntimeException e) {
+            log.warn("티켓 링크 일괄 등록 실패 batchSize = {}, message = {}", batch.size(), e.getMessage());
+            batch.forEach(registration -> registration.future.completeExceptionally(e));
+            return;
+        }
+
+        if (responses == null || responses.size() != batch.size()) {
+            IllegalStateException mismatch = new IllegalStateException(
+                    "티켓 링크 일괄 등록 응답 수가 요청 수와 다릅니다. 요청 = " + batch.size()
+                            + ", 응답 = " + (responses == null ? 0 : responses.size()));
+            batch.forEach(registration -> registration.future.completeExceptionally(mismatch));
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).future.complete(responses.get(i));
+        }
+    }
+
+    private List<PendingRegistration> poll() {
+        int maxBatchSize = externalBatchProperties.getMaxBatchSize();
+        List<PendingRegistration> batch = new ArrayList<>(maxBatchSize);
+
+        PendingRegistration registration;
+        while (batch.size() < maxBatchSize && (registration = queue.poll()) != null) {
+            batch.add(registration);
+            pendingCount.decrementAndGet();
+        }
+        return batch;
+    }
+
+    private static final class PendingRegistration {
+        private final ExternalParticipantRequest request;
+        private final CompletableFuture<ExternalEventResponse> future = new CompletableFuture<>();
+
+        private PendingRegistration(ExternalParticipantRequest request) {
+            this.request = request;
+        }
+    }
+}
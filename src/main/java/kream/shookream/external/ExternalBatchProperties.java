@@ -0,0 +1,17 @@
+package kream.shookream.external;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "external.batch")
+public class ExternalBatchProperties {
+
+    // 첫 요청이 들어온 뒤 일괄 호출로 묶는 시간
+    private long windowMs = 10;
+
+    // 윈도우가 끝나기 전이라도 이 개수가 모이면 즉시 호출
+    private int maxBatchSize = 100;
+}
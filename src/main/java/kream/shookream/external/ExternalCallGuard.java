@@ -0,0 +1,178 @@
+package kream.shookream.external;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import kream.shookream.global.executor.BoundedExecutorFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 호출 보호 : 벌크헤드 -> 서킷 브레이커 -> 데드라인 (TimeLimiter)
+ * 상위 시스템이 느려지거나 장애가 나면 호출을 쌓아두지 않고 즉시 거절 -> 호출한 쪽은 outbox / 알림 큐에 되돌려 나중에 재시도
+ *
+ * 데드라인이 지나면 호출 스레드를 인터럽트하고 (FutureTask, cancel-running-future), 벌크헤드 permit 은 호출 스레드에서
+ * 상위 호출이 실제로 끝날 때 반납 -> 인터럽트에 반응하지 않는 호출이 남아 있어도 상위 동시 호출 수는 벌크헤드 한도를 넘지 않음
+ * 실행 풀 (executors.pools.external-call) 은 대기열의 작업을 버리지 않는 정책 (SPILL / CALLER_RUNS) 이어야 permit 이 새지 않음
+ *
+ * 서킷 브레이커 상태 전이 / 벌크헤드 지표는 resilience4j-micrometer 가 노출하고,
+ * 호출 지연은 external.call 타이머 (api, outcome 태그, 백분위 히스토그램) 로 노출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExternalCallGuard {
+
+    public static final String TICKET_LINK = "ticket-link";
+    public static final String KAKAO = "kakao";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+    private final MeterRegistry meterRegistry;
+    private final BoundedExecutorFactory boundedExecutorFactory;
+
+    private ExecutorService callExecutor;
+
+    @PostConstruct
+    void start() {
+        callExecutor = boundedExecutorFactory.create("external-call");
+
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(this::logTransitions);
+        circuitBreakerRegistry.getEventPublisher().onEntryAdded(added -> logTransitions(added.getAddedEntry()));
+    }
+
+    private void logTransitions(CircuitBreaker circuitBreaker) {
+        circuitBreaker.getEventPublisher().onStateTransition(event -> log.warn("서킷 브레이커 상태 변경 name = {}, {}",
+                event.getCircuitBreakerName(), event.getStateTransition()));
+    }
+
+    public <T> T call(String api, Supplier<T> supplier) {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(api);
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(api);
+        TimeLimiter timeLimiter = timeLimiterRegistry.timeLimiter(api);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            // 서킷 브레이커보다 바깥 -> 벌크헤드 거절은 서킷 실패율에 들어가지 않음
+            bulkhead.acquirePermission();
+            PermitHoldingCall<T> task = new PermitHoldingCall<>(supplier, bulkhead);
+            try {
+                return CircuitBreaker.decorateCallable(circuitBreaker, TimeLimiter.decorateFutureSupplier(timeLimiter, () -> {
+                    callExecutor.execute(task);
+                    task.markSubmitted();
+                    return task;
+                })).call();
+            } finally {
+                // 서킷 열림 / 실행 풀 포화로 실행 풀에 넘기지 못한 경우에만 여기서 반납
+                task.releaseIfNotSubmitted();
+            }
+        } catch (CallNotPermittedException | BulkheadFullException | RejectedExecutionException e) {
+            outcome = "rejected";
+            throw e;
+        } catch (TimeoutException e) {
+            outcome = "timeout";
+            throw new IllegalStateException("외부 API 응답 시간 초과 : " + api, e);
+        } catch (Exception e) {
+            outcome = "error";
+            throw unwrap(e);
+        } finally {
+            sample.stop(Timer.builder("external.call")
+                    .description("외부 API 호출 지연")
+                    .tag("api", api)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    public void run(String api, Runnable runnable) {
+        call(api, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * 호출을 시도하지 않고 거절된 경우 (서킷 열림 / 벌크헤드 포화 / 실행 풀 포화)
+     * -> 시도 횟수를 소모하지 않고 내구성 큐에 되돌리면 됨
+     */
+    public static boolean isShed(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException || cause instanceof ExecutionException) {
+            if (cause.getCause() == null) {
+                break;
+            }
+            cause = cause.getCause();
+        }
+        return cause instanceof CallNotPermittedException
+                || cause instanceof BulkheadFullException
+                || cause instanceof RejectedExecutionException;
+    }
+
+    /**
+     * 상위 호출 1건 -> 실행이 끝나면 (정상 / 예외 / 인터럽트 / 대기열에서 취소된 뒤 꺼내짐) 벌크헤드 permit 반납
+     */
+    private static final class PermitHoldingCall<T> extends FutureTask<T> {
+        private final Bulkhead bulkhead;
+        private final AtomicBoolean submitted = new AtomicBoolean();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitHoldingCall(Supplier<T> supplier, Bulkhead bulkhead) {
+            super(supplier::get);
+            this.bulkhead = bulkhead;
+        }
+
+        @Override
+        public void run() {
+            try {
+                super.run();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    bulkhead.onComplete();
+                }
+            }
+        }
+
+        private void markSubmitted() {
+            submitted.set(true);
+        }
+
+        // 실행 풀에 넘긴 작업은 꺼내져 run() 이 끝날 때 반납
+        private void releaseIfNotSubmitted() {
+            if (!submitted.get() && released.compareAndSet(false, true)) {
+                bulkhead.releasePermission();
+            }
+        }
+    }
+
+    private RuntimeException unwrap(Exception e) {
+        Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(cause.getMessage(), cause);
+    }
+}
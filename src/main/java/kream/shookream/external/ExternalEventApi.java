@@ -1,12 +1,14 @@
 package kream.shookream.external;
 
 import kream.shookream.external.dto.ExternalEventResponse;
+import kream.shookream.external.dto.ExternalParticipantRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Random;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 @Slf4j
@@ -28,6 +30,25 @@ public class ExternalEventApi {
         }
     }
 
+    /**
+     * 일괄 참가 등록 -> 왕복 1회로 여러 건 처리
+     * 응답은 요청과 같은 순서, 건별로 성공 / 실패가 나뉠 수 있음
+     */
+    public List<ExternalEventResponse> registerParticipants(List<ExternalParticipantRequest> requests) {
+        try {
+            Thread.sleep(random.nextInt(500, 1500));
+            return requests.stream()
+                    .map(request -> ExternalEventResponse.builder()
+                            .success(true)
+                            .externalId(UUID.randomUUID().toString())
+                            .errorMessage(null)
+                            .build())
+                    .collect(Collectors.toList());
+
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
 
     public ExternalEventResponse getParticipantInfo(Long eventId, Long memberId) {
         try {
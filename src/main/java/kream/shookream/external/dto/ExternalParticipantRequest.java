@@ -0,0 +1,17 @@
+package kream.shookream.external.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+// 일괄 참가 등록 1건 (registerParticipant 인자와 같은 구성)
+// idempotencyKey : 같은 등록을 다시 보내도 티켓 링크가 한 번만 반영하도록 하는 키 (outbox 메시지 ID)
+@Data
+@AllArgsConstructor
+public class ExternalParticipantRequest {
+    private List<Long> eventIds;
+    private Long memberId;
+    private List<String> eventNames;
+    private String idempotencyKey;
+}
@@ -1,28 +1,27 @@
 package kream.shookream.external.event;
 
-import kream.shookream.external.KakaoTalkMessageApi;
+import kream.shookream.service.notification.NotificationQueueService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 참가 등록 완료 -> 카카오톡 알림을 notification_queue 에 적재
+ * 발행한 트랜잭션의 커밋 직전에 같은 트랜잭션으로 기록 -> 등록 결과와 알림이 함께 커밋되고, 재시작해도 유실되지 않음
+ * 실제 발송은 NotificationWorker 가 배치로 처리
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class EventJoinEventListener {
-    private final KakaoTalkMessageApi kakaoTalkMessageApi;
+    private final NotificationQueueService notificationQueueService;
 
-    @Async
-    @EventListener
+    // 트랜잭션 밖에서 발행되면 단독 트랜잭션으로 적재
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void handleEventJoinCompleted(EventJoinCompletedEvent event) {
-        try {
-            kakaoTalkMessageApi.sendEventJoinMessage(
-                    event.getPhoneNumber(),
-                    event.getEventName()
-            );
-        } catch (Exception e) {
-            log.error("알림 발송 실패 eventId = {}, eventName = {}", event.getEventId(), event.getEventName());
-        }
+        notificationQueueService.enqueue(event.getPhoneNumber(), event.getEventName());
+        log.debug("알림 적재 eventId = {}, eventName = {}", event.getEventId(), event.getEventName());
     }
 }
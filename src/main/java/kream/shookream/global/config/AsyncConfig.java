@@ -0,0 +1,32 @@
+package kream.shookream.global.config;
+
+import kream.shookream.global.executor.BoundedExecutorFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+
+import java.util.concurrent.Executor;
+
+/**
+ * @Async 기본 실행기
+ * 지정하지 않으면 작업마다 스레드를 만드는 SimpleAsyncTaskExecutor 로 떨어짐 -> 이름 붙은 고정 크기 풀 (executors.pools.async) 사용
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+
+    private final BoundedExecutorFactory boundedExecutorFactory;
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return boundedExecutorFactory.create("async");
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (e, method, params) -> log.error("비동기 작업 실패 method = {}, message = {}", method.getName(), e.getMessage(), e);
+    }
+}
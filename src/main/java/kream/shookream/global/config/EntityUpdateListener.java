@@ -0,0 +1,59 @@
+package kream.shookream.global.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import kream.shookream.domain.EventStock;
+import kream.shookream.domain.Ticket;
+import kream.shookream.service.seat.SeatAvailabilityIndex;
+import kream.shookream.service.stock.stream.StockChangeTracker;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Dirty Checking 으로 바뀐 엔티티를 커밋 이후 인메모리 구독자에게 전달하는 단일 POST_UPDATE 리스너
+ * - Ticket (sell / revertToAvailable 등) -> 좌석 인덱스 (SeatAvailabilityIndex)
+ * - EventStock (decrease / increase) -> 재고 스트림 (StockChangeTracker)
+ * 벌크 UPDATE / 조건부 UPDATE / Redis 로 바뀌는 값은 엔티티 콜백이 없으므로 호출하는 쪽에서 직접 알림
+ *
+ * 도메인이 서비스 계층을 알지 않도록 엔티티(@EntityListeners)가 아닌 Hibernate 이벤트 리스너로 등록
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityUpdateListener implements PostUpdateEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final SeatAvailabilityIndex seatAvailabilityIndex;
+    private final StockChangeTracker stockChangeTracker;
+
+    @PostConstruct
+    void register() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_UPDATE, this);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Object entity = event.getEntity();
+        if (entity instanceof Ticket ticket && ticket.getEvent() != null) {
+            seatAvailabilityIndex.afterCommit(ticket.getEvent().getId(), List.of(ticket.getId()), ticket.getStatus());
+        } else if (entity instanceof EventStock stock) {
+            stockChangeTracker.afterCommit(List.of(stock.getEventId()));
+        }
+    }
+
+    // 커밋 이후 반영은 각 구독자의 afterCommit 이 직접 처리
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+}
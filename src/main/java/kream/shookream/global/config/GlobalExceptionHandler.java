@@ -0,0 +1,22 @@
+package kream.shookream.global.config;
+
+import kream.shookream.domain.exception.SoldOutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 매진은 409 로 응답 -> 부하 테스트 / 클라이언트가 5xx (서버 오류) 와 구분할 수 있도록
+ * 주문 엔진이 future 로 감싸서 던져도 (CompletionException 등) 원인 예외로 매칭됨
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(SoldOutException.class)
+    public ProblemDetail handleSoldOut(SoldOutException e) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+        problemDetail.setTitle("SOLD_OUT");
+        return problemDetail;
+    }
+}
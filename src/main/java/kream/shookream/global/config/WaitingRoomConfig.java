@@ -0,0 +1,25 @@
+package kream.shookream.global.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 가상 대기실을 켜면 (waiting-room.enabled) 주문 생성 API 가 끝난 뒤 실패한 주문의 입장 허용을 되돌림
+ * 토큰 검사 자체는 본문을 읽은 직후 WaitingRoomInterceptor (RequestBodyAdvice) 에서 수행
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "waiting-room", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class WaitingRoomConfig implements WebMvcConfigurer {
+
+    private final WaitingRoomInterceptor waitingRoomInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(waitingRoomInterceptor)
+                .addPathPatterns("/api/orders", "/api/orders/submissions");
+    }
+}
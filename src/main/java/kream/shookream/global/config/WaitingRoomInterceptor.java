@@ -0,0 +1,109 @@
+package kream.shookream.global.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kream.shookream.controller.OrderController;
+import kream.shookream.controller.dto.OrderRequest;
+import kream.shookream.repository.TicketRepository;
+import kream.shookream.service.idempotency.IdempotentOrderService;
+import kream.shookream.service.waitingroom.WaitingRoomProperties;
+import kream.shookream.service.waitingroom.WaitingRoomStore;
+import kream.shookream.service.waitingroom.WaitingRoomToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 주문 생성 요청 (POST /api/orders, /api/orders/submissions) 은 대기열에서 입장 허용된 토큰 (X-Waiting-Room-Token) 이 있어야 통과
+ * 토큰에 묶인 이벤트 / 회원을 요청 본문 (회원 ID, 티켓이 속한 이벤트) 과 비교해야 하므로 본문을 읽은 직후에 검사
+ *
+ * 토큰은 1회용 -> 검사를 통과하는 순간 소모 (동시에 같은 토큰으로 두 번 주문할 수 없음)
+ * 주문이 실패해 응답이 오류 (4xx / 5xx) 로 끝나면 afterCompletion 에서 입장 허용을 되돌려 다시 줄 서지 않고 재시도 가능
+ * 이미 완료된 Idempotency-Key 의 재시도는 새 주문을 만들지 않으므로 토큰 없이 저장된 결과를 돌려받음
+ */
+@Slf4j
+@ControllerAdvice(assignableTypes = OrderController.class)
+@ConditionalOnProperty(prefix = "waiting-room", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class WaitingRoomInterceptor extends RequestBodyAdviceAdapter implements HandlerInterceptor {
+
+    public static final String TOKEN_HEADER = "X-Waiting-Room-Token";
+
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String CONSUMED_TOKEN_ATTRIBUTE = WaitingRoomInterceptor.class.getName() + ".consumedToken";
+
+    private final WaitingRoomStore waitingRoomStore;
+    private final WaitingRoomProperties waitingRoomProperties;
+    private final TicketRepository ticketRepository;
+    private final IdempotentOrderService idempotentOrderService;
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return targetType == OrderRequest.class;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                Class<? extends HttpMessageConverter<?>> converterType) {
+        OrderRequest request = (OrderRequest) body;
+
+        String idempotencyKey = inputMessage.getHeaders().getFirst(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey != null && acceptsIdempotencyKey(parameter) && idempotentOrderService.hasCompletedResult(idempotencyKey)) {
+            return body;
+        }
+
+        WaitingRoomToken token = WaitingRoomToken.parse(inputMessage.getHeaders().getFirst(TOKEN_HEADER))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "대기열 입장 후 주문할 수 있습니다."));
+
+        // 다른 회원 / 이벤트의 토큰이면 소모하지 않고 거부
+        List<Long> eventIds = request.getTicketIds() == null || request.getTicketIds().isEmpty()
+                ? List.of()
+                : ticketRepository.findDistinctEventIdsByIdIn(request.getTicketIds());
+        if (eventIds.size() != 1 || !token.isIssuedFor(eventIds.get(0), request.getMemberId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "대기열 토큰의 이벤트 / 회원과 주문 요청이 다릅니다.");
+        }
+
+        if (!waitingRoomStore.consumeAdmission(token.getValue())) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "대기열 입장 후 주문할 수 있습니다.");
+        }
+        RequestContextHolder.currentRequestAttributes()
+                .setAttribute(CONSUMED_TOKEN_ATTRIBUTE, token.getValue(), RequestAttributes.SCOPE_REQUEST);
+        return body;
+    }
+
+    // 주문이 실패했으면 소모한 입장 허용을 되돌림
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object token = request.getAttribute(CONSUMED_TOKEN_ATTRIBUTE);
+        if (token == null || (ex == null && response.getStatus() < 400)) {
+            return;
+        }
+
+        waitingRoomStore.admit((String) token, Duration.ofSeconds(waitingRoomProperties.getAdmissionTtlSeconds()));
+        log.info("주문 실패로 대기열 입장 허용 복구 status = {}", response.getStatus());
+    }
+
+    // 저장된 결과를 돌려주는 엔드포인트 (POST /api/orders) 만 Idempotency-Key 를 받음
+    private boolean acceptsIdempotencyKey(MethodParameter parameter) {
+        return Arrays.stream(parameter.getMethod().getParameters())
+                .map(methodParameter -> methodParameter.getAnnotation(RequestHeader.class))
+                .anyMatch(header -> header != null && IDEMPOTENCY_KEY_HEADER.equals(header.value()));
+    }
+}
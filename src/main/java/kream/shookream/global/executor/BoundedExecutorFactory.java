@@ -0,0 +1,87 @@
+package kream.shookream.global.executor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이름 붙은 고정 크기 스레드풀 생성
+ * 큐 크기가 정해져 있어 스파이크에도 스레드 / 메모리가 무한히 늘지 않음
+ * Micrometer 지표 (executor.active, executor.queued, executor.pool.size, 작업 실행 / 대기 시간, executor.rejected) 를 name 태그로 노출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoundedExecutorFactory {
+
+    private final ExecutorProperties executorProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final List<ExecutorService> executors = new CopyOnWriteArrayList<>();
+
+    // 가상 스레드 모드 -> 풀의 스레드 / 큐 한도는 그대로 두고 (외부 API 동시 호출 수 제한) 스레드만 가상 스레드로 생성
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    public ExecutorService create(String name) {
+        ExecutorProperties.Pool pool = executorProperties.pool(name);
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                pool.getCoreSize(),
+                Math.max(pool.getCoreSize(), pool.getMaxSize()),
+                pool.getKeepAliveSeconds(), TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(pool.getQueueCapacity()),
+                threadFactory(name),
+                rejectionHandler(name, pool.getRejection()));
+        executors.add(executor);
+
+        // 실행 / 대기 시간을 재기 위해 감싼 ExecutorService 를 사용해야 함
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, name);
+    }
+
+    private ThreadFactory threadFactory(String name) {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name(name + "-", 1).factory();
+        }
+        return new CustomizableThreadFactory(name + "-");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executors.forEach(ExecutorService::shutdown);
+    }
+
+    private RejectedExecutionHandler rejectionHandler(String name, RejectionPolicy policy) {
+        Counter rejected = Counter.builder("executor.rejected")
+                .tag("name", name)
+                .tag("policy", policy.name())
+                .register(meterRegistry);
+
+        RejectedExecutionHandler delegate = switch (policy) {
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case DROP_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+            case SPILL -> new ThreadPoolExecutor.AbortPolicy();
+        };
+
+        return (task, executor) -> {
+            rejected.increment();
+            log.warn("스레드풀 포화 name = {}, policy = {}, queued = {}", name, policy, executor.getQueue().size());
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package kream.shookream.global.executor;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "executors")
+public class ExecutorProperties {
+
+    // 설정하지 않은 풀에 적용
+    private Pool defaults = new Pool();
+
+    // 풀 이름별 설정 (async / external-batch / notification-send)
+    private Map<String, Pool> pools = new HashMap<>();
+
+    public Pool pool(String name) {
+        return pools.getOrDefault(name, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private int coreSize = 8;
+        private int maxSize = 8;
+
+        // 대기 큐 크기 (무한 큐 금지 -> 가득 차면 거절 정책 적용)
+        private int queueCapacity = 1000;
+
+        private long keepAliveSeconds = 60;
+
+        private RejectionPolicy rejection = RejectionPolicy.CALLER_RUNS;
+    }
+}
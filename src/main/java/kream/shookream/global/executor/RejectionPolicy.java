@@ -0,0 +1,12 @@
+package kream.shookream.global.executor;
+
+public enum RejectionPolicy {
+    // 큐가 가득 차면 제출한 스레드가 직접 실행 -> 자연스러운 배압 (요청 스레드가 제출하는 풀에는 쓰지 않음)
+    CALLER_RUNS,
+
+    // 가장 오래 기다린 작업을 버리고 새 작업을 넣음
+    DROP_OLDEST,
+
+    // 거절 예외 -> 제출한 쪽이 작업을 내구성 큐(outbox / notification_queue)에 되돌려 나중에 다시 처리
+    SPILL
+}
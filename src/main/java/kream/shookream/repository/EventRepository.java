@@ -1,22 +1,20 @@
 package kream.shookream.repository;
 
-import jakarta.persistence.LockModeType;
 import kream.shookream.domain.Event;
+import kream.shookream.repository.dto.EventMetadata;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 public interface EventRepository extends JpaRepository<Event, Long> {
 
-    // 비관적 락 적용
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select e from Event e where e.id = :id")
-    Optional<Event> findWithPessimisticLockById(@Param("id") Long id); // SELECT FOR UPDATE 문
-
-    @Lock(LockModeType.OPTIMISTIC)
-    @Query("select e from Event e where e.id = :id")
-    Optional<Event> findWithOptimisticLockById(@Param("id") Long id); // SELECT FOR UPDATE 문
+    // 메타데이터 캐시 미스분을 한 번에 조회 -> 엔티티 대신 DTO 로 바로 매핑 (영속성 컨텍스트에 올리지 않음)
+    // 결과는 EventMetadataCache 가 캐시함 (쿼리 캐시를 겹쳐 두지 않음)
+    @Query("select new kream.shookream.repository.dto.EventMetadata(e.id, e.eventName, e.eventType, v.id, v.venueName,"
+            + " e.eventTime.startTime, e.eventTime.endTime)"
+            + " from Event e left join e.venue v where e.id in :ids")
+    List<EventMetadata> findMetadataByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,98 @@
+package kream.shookream.repository;
+
+import kream.shookream.domain.EventType;
+import kream.shookream.repository.dto.EventSearchCondition;
+import kream.shookream.repository.dto.EventSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이벤트 목록 keyset(seek) 페이지네이션
+ * OFFSET 대신 이전 페이지 마지막 행 (start_time, event_id) 다음부터 LIMIT 만큼만 읽음 -> 페이지 번호와 관계없이 읽는 행 수 일정
+ *
+ * 정렬은 start_time DESC, event_id ASC
+ * InnoDB 보조 인덱스 뒤에 PK 가 오름차순으로 붙으므로 (IDX_EVENT_SEARCH / IDX_EVENT_SELLER_TIME / IDX_EVENT_START_TIME)
+ * 인덱스 순서 그대로 읽으면 filesort 없이 LIMIT 에서 멈춤
+ *
+ * countAvailableSeats 이면 (SEAT_CLAIM 모드는 event_stock 재고 컬럼을 갱신하지 않음) 남은 재고를 AVAILABLE 좌석 수로 계산
+ * -> 페이지 행마다 IDX_TICKET_EVENT_STATUS 범위 COUNT 한 번
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventSearchRepository {
+
+    private static final RowMapper<EventSummary> EVENT_SUMMARY_ROW_MAPPER = (rs, rowNum) -> new EventSummary(
+            rs.getLong("event_id"),
+            rs.getString("event_name"),
+            rs.getString("event_type") == null ? null : EventType.valueOf(rs.getString("event_type")),
+            rs.getTimestamp("start_time").toLocalDateTime(),
+            rs.getTimestamp("end_time") == null ? null : rs.getTimestamp("end_time").toLocalDateTime(),
+            rs.getObject("seller_id", Long.class),
+            rs.getObject("venue_id", Long.class),
+            rs.getString("venue_name"),
+            rs.getObject("current_ticket_stock_count", Integer.class));
+
+    private static final String STOCK_COLUMN_SELECT = """
+            SELECT e.event_id, e.event_name, e.event_type, e.start_time, e.end_time, e.seller_id,
+                   v.venue_id, v.venue_name, s.current_ticket_stock_count
+            FROM events e
+            LEFT JOIN venues v ON v.venue_id = e.venue_id
+            LEFT JOIN event_stock s ON s.event_id = e.event_id
+            WHERE e.start_time IS NOT NULL
+            """;
+
+    private static final String AVAILABLE_SEAT_COUNT_SELECT = """
+            SELECT e.event_id, e.event_name, e.event_type, e.start_time, e.end_time, e.seller_id,
+                   v.venue_id, v.venue_name,
+                   (SELECT COUNT(*) FROM tickets t
+                    WHERE t.event_id = e.event_id AND t.status = 'AVAILABLE') AS current_ticket_stock_count
+            FROM events e
+            LEFT JOIN venues v ON v.venue_id = e.venue_id
+            WHERE e.start_time IS NOT NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<EventSummary> search(EventSearchCondition condition) {
+        StringBuilder sql = new StringBuilder(condition.isCountAvailableSeats()
+                ? AVAILABLE_SEAT_COUNT_SELECT
+                : STOCK_COLUMN_SELECT);
+        List<Object> args = new ArrayList<>();
+
+        if (condition.getEventType() != null) {
+            sql.append(" AND e.event_type = ?");
+            args.add(condition.getEventType().name());
+        }
+        if (condition.getSellerId() != null) {
+            sql.append(" AND e.seller_id = ?");
+            args.add(condition.getSellerId());
+        }
+        if (condition.getFrom() != null) {
+            sql.append(" AND e.start_time >= ?");
+            args.add(Timestamp.valueOf(condition.getFrom()));
+        }
+        if (condition.getTo() != null) {
+            sql.append(" AND e.start_time < ?");
+            args.add(Timestamp.valueOf(condition.getTo()));
+        }
+        if (condition.hasCursor()) {
+            // (start_time, event_id) 가 커서보다 뒤인 행 -> 인덱스 range 조건으로 풀림
+            Timestamp cursorStartTime = Timestamp.valueOf(condition.getCursorStartTime());
+            sql.append(" AND (e.start_time < ? OR (e.start_time = ? AND e.event_id > ?))");
+            args.add(cursorStartTime);
+            args.add(cursorStartTime);
+            args.add(condition.getCursorEventId());
+        }
+
+        sql.append(" ORDER BY e.start_time DESC, e.event_id ASC LIMIT ?");
+        args.add(condition.getLimit());
+
+        return jdbcTemplate.query(sql.toString(), EVENT_SUMMARY_ROW_MAPPER, args.toArray());
+    }
+}
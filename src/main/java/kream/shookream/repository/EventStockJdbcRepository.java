@@ -0,0 +1,95 @@
+package kream.shookream.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.StringJoiner;
+
+/**
+ * 조건부 UPDATE 한 문장으로 재고를 조정 (SELECT FOR UPDATE + Dirty Checking 대체)
+ * 여러 이벤트도 CASE 로 묶어 한 번에 처리 -> 반환값(영향받은 행 수)이 이벤트 수와 같아야 성공
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventStockJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int decreaseIfAvailable(SortedMap<Long, Integer> quantityByEventId) {
+        if (quantityByEventId.size() == 1) {
+            Map.Entry<Long, Integer> entry = quantityByEventId.entrySet().iterator().next();
+            return jdbcTemplate.update("""
+                            UPDATE event_stock
+                            SET current_ticket_stock_count = current_ticket_stock_count - ?,
+                                version = version + 1
+                            WHERE event_id = ? AND current_ticket_stock_count >= ?
+                            """,
+                    entry.getValue(), entry.getKey(), entry.getValue());
+        }
+
+        List<Object> args = new ArrayList<>();
+        String quantityCase = quantityCase(quantityByEventId, args);
+        String inClause = inClause(quantityByEventId, args);
+        String guardCase = quantityCase(quantityByEventId, args);
+
+        return jdbcTemplate.update(
+                "UPDATE event_stock"
+                        + " SET current_ticket_stock_count = current_ticket_stock_count - " + quantityCase + ","
+                        + " version = version + 1"
+                        + " WHERE event_id IN " + inClause
+                        + " AND current_ticket_stock_count >= " + guardCase,
+                args.toArray());
+    }
+
+    public int increaseIfWithinMax(SortedMap<Long, Integer> quantityByEventId) {
+        if (quantityByEventId.size() == 1) {
+            Map.Entry<Long, Integer> entry = quantityByEventId.entrySet().iterator().next();
+            return jdbcTemplate.update("""
+                            UPDATE event_stock
+                            SET current_ticket_stock_count = current_ticket_stock_count + ?,
+                                version = version + 1
+                            WHERE event_id = ? AND current_ticket_stock_count + ? <= max_ticket_count
+                            """,
+                    entry.getValue(), entry.getKey(), entry.getValue());
+        }
+
+        List<Object> args = new ArrayList<>();
+        String quantityCase = quantityCase(quantityByEventId, args);
+        String inClause = inClause(quantityByEventId, args);
+        String guardCase = quantityCase(quantityByEventId, args);
+
+        return jdbcTemplate.update(
+                "UPDATE event_stock"
+                        + " SET current_ticket_stock_count = current_ticket_stock_count + " + quantityCase + ","
+                        + " version = version + 1"
+                        + " WHERE event_id IN " + inClause
+                        + " AND current_ticket_stock_count + " + guardCase + " <= max_ticket_count",
+                args.toArray());
+    }
+
+    // CASE event_id WHEN ? THEN ? ... END
+    private String quantityCase(SortedMap<Long, Integer> quantityByEventId, List<Object> args) {
+        StringBuilder sql = new StringBuilder("CASE event_id");
+        quantityByEventId.forEach((eventId, quantity) -> {
+            sql.append(" WHEN ? THEN ?");
+            args.add(eventId);
+            args.add(quantity);
+        });
+        return sql.append(" END").toString();
+    }
+
+    // (?, ?, ...)
+    private String inClause(SortedMap<Long, Integer> quantityByEventId, List<Object> args) {
+        StringJoiner sql = new StringJoiner(", ", "(", ")");
+        quantityByEventId.keySet().forEach(eventId -> {
+            sql.add("?");
+            args.add(eventId);
+        });
+        return sql.toString();
+    }
+}
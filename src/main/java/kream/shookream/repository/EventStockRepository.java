@@ -0,0 +1,41 @@
+package kream.shookream.repository;
+
+import jakarta.persistence.LockModeType;
+import kream.shookream.domain.EventStock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// 재고 락 / 차감은 이벤트 행이 아닌 event_stock 행에만 적용
+public interface EventStockRepository extends JpaRepository<EventStock, Long> {
+
+    // 비관적 락 적용
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from EventStock s where s.eventId = :eventId")
+    Optional<EventStock> findWithPessimisticLockById(@Param("eventId") Long eventId); // SELECT FOR UPDATE 문
+
+    @Lock(LockModeType.OPTIMISTIC)
+    @Query("select s from EventStock s where s.eventId = :eventId")
+    Optional<EventStock> findWithOptimisticLockById(@Param("eventId") Long eventId);
+
+    // Redis write-behind 반영용 -> 판매량(음수면 복구량)만큼 재고 조정
+    @Modifying
+    @Query("update EventStock s set s.currentTicketStockCount = s.currentTicketStockCount - :soldDelta where s.eventId = :eventId")
+    int applySoldDelta(@Param("eventId") Long eventId, @Param("soldDelta") int soldDelta);
+
+    // 엔티티를 영속성 컨텍스트에 올리지 않고 샤딩 여부만 확인 -> 이후 락 조회가 오래된 스냅샷을 보지 않도록
+    @Query("select s.eventId as id, s.stockShardCount as stockShardCount from EventStock s where s.eventId in :ids and s.stockShardCount > 0")
+    List<ShardedEventView> findShardedByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface ShardedEventView {
+        Long getId();
+
+        Integer getStockShardCount();
+    }
+}
@@ -0,0 +1,37 @@
+package kream.shookream.repository;
+
+import jakarta.persistence.LockModeType;
+import kream.shookream.domain.EventStockShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface EventStockShardRepository extends JpaRepository<EventStockShard, Long> {
+
+    // 샤드 한 행만 잠그는 조건부 차감
+    @Modifying
+    @Query("update EventStockShard s set s.stockCount = s.stockCount - :quantity " +
+            "where s.event.id = :eventId and s.shardNo = :shardNo and s.stockCount >= :quantity")
+    int decreaseIfAvailable(@Param("eventId") Long eventId, @Param("shardNo") int shardNo, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("update EventStockShard s set s.stockCount = s.stockCount + :quantity " +
+            "where s.event.id = :eventId and s.shardNo = :shardNo")
+    int increase(@Param("eventId") Long eventId, @Param("shardNo") int shardNo, @Param("quantity") int quantity);
+
+    @Query("select coalesce(sum(s.stockCount), 0) from EventStockShard s where s.event.id = :eventId")
+    long sumStockCountByEventId(@Param("eventId") Long eventId);
+
+    // 샤딩 해제 시 진행 중인 차감과 겹치지 않도록 전체 샤드 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from EventStockShard s where s.event.id = :eventId order by s.shardNo")
+    List<EventStockShard> findAllWithLockByEventId(@Param("eventId") Long eventId);
+
+    @Modifying
+    @Query("delete from EventStockShard s where s.event.id = :eventId")
+    int deleteAllByEventId(@Param("eventId") Long eventId);
+}
@@ -0,0 +1,29 @@
+package kream.shookream.repository;
+
+import kream.shookream.domain.NotificationMessage;
+import kream.shookream.domain.NotificationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationMessageRepository extends JpaRepository<NotificationMessage, Long> {
+
+    // 여러 워커(인스턴스)가 동시에 돌아도 같은 행을 가져가지 않도록 SKIP LOCKED (MySQL 8)
+    @Query(value = """
+            SELECT * FROM notification_queue
+            WHERE status = 'PENDING' AND next_attempt_at <= :now
+            ORDER BY notification_id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<NotificationMessage> findSendableForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    long countByStatus(NotificationStatus status);
+
+    // 가장 오래 기다린 대기 메시지의 적재 시각 (지연 지표용)
+    @Query("select min(n.createdAt) from NotificationMessage n where n.status = :status")
+    LocalDateTime findOldestCreatedAtByStatus(@Param("status") NotificationStatus status);
+}
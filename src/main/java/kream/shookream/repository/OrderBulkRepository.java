@@ -0,0 +1,131 @@
+package kream.shookream.repository;
+
+import kream.shookream.domain.Order;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 / 주문 티켓 batch insert
+ * IDENTITY 전략이라 Hibernate 는 insert 를 묶지 못함 -> JdbcTemplate batchUpdate + 생성 키 회수 (rewriteBatchedStatements)
+ * 호출하는 쪽 트랜잭션(JPA)과 같은 커넥션을 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderBulkRepository {
+
+    private static final String INSERT_ORDER = """
+            INSERT INTO orders (member_id, ordered_at, total_order_amount, status)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_ORDER_TICKET = """
+            INSERT INTO order_ticket (order_id, ticket_id, created_at, purchase_price)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 영속화되지 않은 Order 와 OrderTicket 을 한 번에 저장하고, 입력 순서대로 생성된 주문 ID 를 반환
+     */
+    public List<Long> insertAll(List<Order> orders) {
+        return insertRows(orders.stream()
+                .map(OrderRow::from)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 엔티티 없이 값만으로 주문을 저장 (메모리 상태로 주문을 처리하는 엔진용)
+     */
+    public List<Long> insertRows(List<OrderRow> orders) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_ORDER, new String[]{"order_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        OrderRow order = orders.get(i);
+                        ps.setLong(1, order.getMemberId());
+                        ps.setObject(2, order.getOrderedAt());
+                        ps.setInt(3, order.getTotalAmount());
+                        ps.setString(4, order.getStatus());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return orders.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> orderIds = new ArrayList<>();
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            orderIds.add(((Number) keys.values().iterator().next()).longValue());
+        }
+
+        if (orderIds.size() != orders.size()) {
+            throw new IllegalStateException("생성된 주문 ID 개수가 주문 수와 다릅니다.");
+        }
+
+        insertOrderTickets(orders, orderIds);
+
+        return orderIds;
+    }
+
+    private void insertOrderTickets(List<OrderRow> orders, List<Long> orderIds) {
+        List<Object[]> args = new ArrayList<>();
+        for (int i = 0; i < orders.size(); i++) {
+            OrderRow order = orders.get(i);
+            for (TicketLine line : order.getLines()) {
+                args.add(new Object[]{
+                        orderIds.get(i),
+                        line.getTicketId(),
+                        order.getOrderedAt(),
+                        line.getPurchasePrice()
+                });
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_ORDER_TICKET, args);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class OrderRow {
+        private final Long memberId;
+        private final LocalDateTime orderedAt;
+        private final Integer totalAmount;
+        private final String status;
+        private final List<TicketLine> lines;
+
+        static OrderRow from(Order order) {
+            List<TicketLine> lines = order.getOrderTickets().stream()
+                    .map(orderTicket -> new TicketLine(orderTicket.getTicket().getId(), orderTicket.getPurchase_price()))
+                    .collect(Collectors.toList());
+
+            return new OrderRow(order.getMember().getId(), order.getOrderedAt(),
+                    order.getTotalOrderAmount(), order.getStatus().name(), lines);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class TicketLine {
+        private final Long ticketId;
+        private final Integer purchasePrice;
+    }
+}
@@ -0,0 +1,88 @@
+package kream.shookream.repository;
+
+import kream.shookream.repository.dto.OrderHistoryView;
+import kream.shookream.repository.dto.OrderLineView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 회원 주문 내역 조회
+ * 엔티티를 거치지 않고 JDBC 행을 DTO 로 바로 매핑 -> orderTickets / Ticket 지연 로딩 없음
+ *
+ * 주문 목록 : IDX_ORDER_MEMBER_TIME (member_id, ordered_at DESC) 을 따라 keyset 페이지네이션
+ *            정렬은 인덱스 물리 순서 그대로 ordered_at DESC, order_id ASC (보조 인덱스 뒤에 PK 오름차순)
+ * 주문 티켓 : 페이지에 포함된 주문들을 order_id IN (...) 한 번으로 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderHistoryRepository {
+
+    private static final RowMapper<OrderHistoryView> ORDER_ROW_MAPPER = (rs, rowNum) -> new OrderHistoryView(
+            rs.getLong("order_id"),
+            rs.getTimestamp("ordered_at").toLocalDateTime(),
+            rs.getObject("total_order_amount", Integer.class),
+            rs.getString("status"));
+
+    private static final RowMapper<OrderLineView> LINE_ROW_MAPPER = (rs, rowNum) -> new OrderLineView(
+            rs.getLong("order_id"),
+            rs.getLong("order_ticket_id"),
+            rs.getObject("ticket_id", Long.class),
+            rs.getString("seat_info"),
+            rs.getObject("event_id", Long.class),
+            rs.getString("event_name"),
+            rs.getObject("purchase_price", Integer.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<OrderHistoryView> findPageByMemberId(Long memberId, LocalDateTime cursorOrderedAt, Long cursorOrderId, int limit) {
+        if (cursorOrderedAt == null || cursorOrderId == null) {
+            return jdbcTemplate.query("""
+                            SELECT o.order_id, o.ordered_at, o.total_order_amount, o.status
+                            FROM orders o
+                            WHERE o.member_id = ? AND o.ordered_at IS NOT NULL
+                            ORDER BY o.ordered_at DESC, o.order_id ASC
+                            LIMIT ?
+                            """,
+                    ORDER_ROW_MAPPER, memberId, limit);
+        }
+
+        Timestamp cursorTime = Timestamp.valueOf(cursorOrderedAt);
+        return jdbcTemplate.query("""
+                        SELECT o.order_id, o.ordered_at, o.total_order_amount, o.status
+                        FROM orders o
+                        WHERE o.member_id = ?
+                          AND (o.ordered_at < ? OR (o.ordered_at = ? AND o.order_id > ?))
+                        ORDER BY o.ordered_at DESC, o.order_id ASC
+                        LIMIT ?
+                        """,
+                ORDER_ROW_MAPPER, memberId, cursorTime, cursorTime, cursorOrderId, limit);
+    }
+
+    public List<OrderLineView> findLinesByOrderIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        StringJoiner placeholders = new StringJoiner(", ", "(", ")");
+        orderIds.forEach(orderId -> placeholders.add("?"));
+
+        return jdbcTemplate.query(
+                "SELECT ot.order_id, ot.order_ticket_id, ot.purchase_price,"
+                        + " t.ticket_id, t.seat_info, e.event_id, e.event_name"
+                        + " FROM order_ticket ot"
+                        + " LEFT JOIN tickets t ON t.ticket_id = ot.ticket_id"
+                        + " LEFT JOIN events e ON e.event_id = t.event_id"
+                        + " WHERE ot.order_id IN " + placeholders
+                        + " ORDER BY ot.order_id, ot.order_ticket_id",
+                LINE_ROW_MAPPER, orderIds.toArray());
+    }
+}
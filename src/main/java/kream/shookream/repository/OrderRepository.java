@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -14,4 +15,8 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     @Query("select o from Order o join fetch o.orderTickets ot join fetch ot.ticket where o.id = :id")
     Optional<Order> findWithOrderDetailAndTicketById(@Param("id") Long id);
+
+    // 트랜잭션 시작 전 락 대상 이벤트를 알아내기 위한 조회
+    @Query("select distinct ot.ticket.event.id from OrderTicket ot where ot.order.id = :id")
+    List<Long> findDistinctEventIdsById(@Param("id") Long id);
 }
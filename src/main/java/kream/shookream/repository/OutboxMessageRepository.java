@@ -0,0 +1,35 @@
+package kream.shookream.repository;
+
+import kream.shookream.domain.OutboxMessage;
+import kream.shookream.domain.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    // 여러 디스패처가 동시에 돌아도 같은 행을 가져가지 않도록 SKIP LOCKED (MySQL 8)
+    @Query(value = """
+            SELECT * FROM outbox
+            WHERE status = 'PENDING' AND next_attempt_at <= :now
+            ORDER BY outbox_id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxMessage> findDispatchableForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 보상 (주문 취소) 대기 메시지, 발행 대상과 같은 방식으로 나눠 가져감
+    @Query(value = """
+            SELECT * FROM outbox
+            WHERE status = 'COMPENSATING' AND next_attempt_at <= :now
+            ORDER BY outbox_id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxMessage> findCompensatableForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    long countByStatus(OutboxStatus status);
+}
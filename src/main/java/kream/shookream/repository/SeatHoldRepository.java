@@ -0,0 +1,37 @@
+package kream.shookream.repository;
+
+import jakarta.persistence.LockModeType;
+import kream.shookream.domain.SeatHold;
+import kream.shookream.domain.SeatHoldStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface SeatHoldRepository extends JpaRepository<SeatHold, Long> {
+
+    // 확정 / 만료가 동시에 일어나지 않도록 hold 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h from SeatHold h where h.id = :id")
+    Optional<SeatHold> findWithLockById(@Param("id") Long id);
+
+    // 만료 배치 -> ID 순서로 잠가 Deadlock 방지
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h from SeatHold h where h.id in :ids and h.status = :status order by h.id")
+    List<SeatHold> findAllWithLockByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") SeatHoldStatus status);
+
+    // 재시작 시 만료 스케줄 복구용 (IDX_HOLD_STATUS_EXPIRES)
+    @Query("select h.id as id, h.expiresAt as expiresAt from SeatHold h where h.status = :status")
+    List<HoldExpiryView> findExpiriesByStatus(@Param("status") SeatHoldStatus status);
+
+    interface HoldExpiryView {
+        Long getId();
+
+        LocalDateTime getExpiresAt();
+    }
+}
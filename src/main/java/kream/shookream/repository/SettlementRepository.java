@@ -0,0 +1,61 @@
+package kream.shookream.repository;
+
+import kream.shookream.repository.dto.SettlementLineView;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 판매자 정산 내역 스트리밍 조회
+ * 판매자 티켓 (IDX_TICKET_SELLER_EVENT) -> 티켓별 판매 기간 주문 티켓 (IDX_OT_TICKET_TIME 범위 조회) -> 주문 / 이벤트 PK 조회 순서로 조인
+ * 결과는 드라이빙 인덱스 순서 그대로 event_id 순 -> filesort / 임시 테이블 없이 첫 행부터 바로 흘려보냄
+ *
+ * MySQL 드라이버는 기본적으로 결과 전체를 메모리에 올림 -> fetchSize = Integer.MIN_VALUE 로 행 단위 스트리밍 (forward-only, read-only)
+ * 엔티티 / 영속성 컨텍스트를 거치지 않고 행을 바로 콜백에 넘김 -> 행 수와 관계없이 힙 사용량 일정
+ * 스트리밍 중에는 해당 커넥션으로 다른 쿼리를 실행할 수 없으므로 콜백에서 DB 를 조회하면 안 됨
+ */
+@Repository
+public class SettlementRepository {
+
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public SettlementRepository(DataSource dataSource) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(STREAMING_FETCH_SIZE);
+    }
+
+    /**
+     * 판매 시각이 [from, to) 인 결제 완료 주문 티켓을 event_id 순으로 한 행씩 전달
+     */
+    public void streamBySeller(Long sellerId, LocalDateTime from, LocalDateTime to, Consumer<SettlementLineView> consumer) {
+        // 조인 순서를 고정해야 tickets 가 드라이빙 테이블이 되어 ORDER BY 가 인덱스 순서로 해결됨
+        streamingJdbcTemplate.query("""
+                        SELECT STRAIGHT_JOIN
+                               t.event_id, e.event_name, ot.order_id, ot.order_ticket_id,
+                               t.ticket_id, t.seat_info, ot.created_at, ot.purchase_price
+                        FROM tickets t
+                        JOIN order_ticket ot ON ot.ticket_id = t.ticket_id AND ot.created_at >= ? AND ot.created_at < ?
+                        JOIN orders o ON o.order_id = ot.order_id
+                        JOIN events e ON e.event_id = t.event_id
+                        WHERE t.seller_id = ? AND o.status = 'SUCCESS'
+                        ORDER BY t.event_id
+                        """,
+                (RowCallbackHandler) rs -> consumer.accept(new SettlementLineView(
+                        rs.getLong("event_id"),
+                        rs.getString("event_name"),
+                        rs.getLong("order_id"),
+                        rs.getLong("order_ticket_id"),
+                        rs.getLong("ticket_id"),
+                        rs.getString("seat_info"),
+                        rs.getTimestamp("created_at").toLocalDateTime(),
+                        rs.getInt("purchase_price"))),
+                Timestamp.valueOf(from), Timestamp.valueOf(to), sellerId);
+    }
+}
@@ -1,7 +1,37 @@
 package kream.shookream.repository;
 
 import kream.shookream.domain.Ticket;
+import kream.shookream.domain.TicketStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface TicketRepository extends JpaRepository<Ticket, Long> {
+
+    // 트랜잭션 시작 전 락 대상 이벤트를 알아내기 위한 조회
+    @Query("select distinct t.event.id from Ticket t where t.id in :ids")
+    List<Long> findDistinctEventIdsByIdIn(@Param("ids") List<Long> ids);
+
+    // 좌석 CAS : 현재 상태가 from 인 좌석만 to 로 변경 -> 영향받은 행 수로 선점 성공 여부 판단
+    @Modifying
+    @Query("update Ticket t set t.status = :to where t.id in :ids and t.status = :from")
+    int updateStatusIfCurrent(@Param("ids") List<Long> ids, @Param("from") TicketStatus from, @Param("to") TicketStatus to);
+
+    // IDX_TICKET_EVENT_STATUS 로 처리되는 이벤트별 잔여 좌석 수
+    long countByEventIdAndStatus(Long eventId, TicketStatus status);
+
+    // 파티션 엔진이 이벤트 좌석 상태를 메모리에 적재할 때 사용 -> 엔티티 대신 필요한 컬럼만
+    @Query("select t.id as id, t.ticketPrice as ticketPrice, t.status as status from Ticket t where t.event.id = :eventId")
+    List<SeatView> findSeatsByEventId(@Param("eventId") Long eventId);
+
+    interface SeatView {
+        Long getId();
+
+        Integer getTicketPrice();
+
+        TicketStatus getStatus();
+    }
 }
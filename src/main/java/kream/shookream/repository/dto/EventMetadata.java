@@ -0,0 +1,33 @@
+package kream.shookream.repository.dto;
+
+import kream.shookream.domain.EventType;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거의 바뀌지 않는 이벤트 메타데이터 (이름 / 분류 / 공연장 / 일시)
+ * 재고처럼 자주 바뀌는 값은 넣지 않음 -> 로컬 캐시에 그대로 보관해도 되도록 불변
+ */
+@Getter
+public class EventMetadata {
+
+    private final Long eventId;
+    private final String eventName;
+    private final EventType eventType;
+    private final Long venueId;
+    private final String venueName;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+
+    public EventMetadata(Long eventId, String eventName, EventType eventType, Long venueId, String venueName,
+                         LocalDateTime startTime, LocalDateTime endTime) {
+        this.eventId = eventId;
+        this.eventName = eventName;
+        this.eventType = eventType;
+        this.venueId = venueId;
+        this.venueName = venueName;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+}
@@ -0,0 +1,33 @@
+package kream.shookream.repository.dto;
+
+import kream.shookream.domain.EventType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 목록 검색 조건 (null 인 조건은 적용하지 않음)
+ * cursorStartTime / cursorEventId : 이전 페이지의 마지막 행 -> 이 행 다음부터 조회
+ * countAvailableSeats : 남은 재고를 event_stock 컬럼 대신 AVAILABLE 좌석 수로 계산 (SEAT_CLAIM 모드)
+ */
+@Getter
+@Builder
+public class EventSearchCondition {
+
+    private final EventType eventType;
+    private final Long sellerId;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    private final LocalDateTime cursorStartTime;
+    private final Long cursorEventId;
+
+    private final int limit;
+
+    private final boolean countAvailableSeats;
+
+    public boolean hasCursor() {
+        return cursorStartTime != null && cursorEventId != null;
+    }
+}
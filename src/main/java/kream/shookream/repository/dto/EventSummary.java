@@ -0,0 +1,36 @@
+package kream.shookream.repository.dto;
+
+import kream.shookream.domain.EventType;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 목록 조회용 DTO -> 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 조회
+ */
+@Getter
+public class EventSummary {
+
+    private final Long eventId;
+    private final String eventName;
+    private final EventType eventType;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final Long sellerId;
+    private final Long venueId;
+    private final String venueName;
+    private final Integer remainingStock;
+
+    public EventSummary(Long eventId, String eventName, EventType eventType, LocalDateTime startTime, LocalDateTime endTime,
+                        Long sellerId, Long venueId, String venueName, Integer remainingStock) {
+        this.eventId = eventId;
+        this.eventName = eventName;
+        this.eventType = eventType;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.sellerId = sellerId;
+        this.venueId = venueId;
+        this.venueName = venueName;
+        this.remainingStock = remainingStock;
+    }
+}
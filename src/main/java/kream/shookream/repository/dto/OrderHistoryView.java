@@ -0,0 +1,24 @@
+package kream.shookream.repository.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 주문 내역 조회용 DTO (주문 1건)
+ */
+@Getter
+public class OrderHistoryView {
+
+    private final Long orderId;
+    private final LocalDateTime orderedAt;
+    private final Integer totalAmount;
+    private final String status;
+
+    public OrderHistoryView(Long orderId, LocalDateTime orderedAt, Integer totalAmount, String status) {
+        this.orderId = orderId;
+        this.orderedAt = orderedAt;
+        this.totalAmount = totalAmount;
+        this.status = status;
+    }
+}
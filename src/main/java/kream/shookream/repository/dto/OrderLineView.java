@@ -0,0 +1,29 @@
+package kream.shookream.repository.dto;
+
+import lombok.Getter;
+
+/**
+ * 회원 주문 내역 조회용 DTO (주문 티켓 1건, 티켓 / 이벤트 정보 포함)
+ */
+@Getter
+public class OrderLineView {
+
+    private final Long orderId;
+    private final Long orderTicketId;
+    private final Long ticketId;
+    private final String seatInfo;
+    private final Long eventId;
+    private final String eventName;
+    private final Integer purchasePrice;
+
+    public OrderLineView(Long orderId, Long orderTicketId, Long ticketId, String seatInfo,
+                         Long eventId, String eventName, Integer purchasePrice) {
+        this.orderId = orderId;
+        this.orderTicketId = orderTicketId;
+        this.ticketId = ticketId;
+        this.seatInfo = seatInfo;
+        this.eventId = eventId;
+        this.eventName = eventName;
+        this.purchasePrice = purchasePrice;
+    }
+}
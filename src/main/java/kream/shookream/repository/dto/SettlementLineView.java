@@ -0,0 +1,33 @@
+package kream.shookream.repository.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 판매자 정산용 DTO (판매된 주문 티켓 1건, 이벤트 / 좌석 정보 포함)
+ */
+@Getter
+public class SettlementLineView {
+
+    private final Long eventId;
+    private final String eventName;
+    private final Long orderId;
+    private final Long orderTicketId;
+    private final Long ticketId;
+    private final String seatInfo;
+    private final LocalDateTime soldAt;
+    private final int purchasePrice;
+
+    public SettlementLineView(Long eventId, String eventName, Long orderId, Long orderTicketId, Long ticketId,
+                              String seatInfo, LocalDateTime soldAt, int purchasePrice) {
+        this.eventId = eventId;
+        this.eventName = eventName;
+        this.orderId = orderId;
+        this.orderTicketId = orderTicketId;
+        this.ticketId = ticketId;
+        this.seatInfo = seatInfo;
+        this.soldAt = soldAt;
+        this.purchasePrice = purchasePrice;
+    }
+}
@@ -1,26 +1,25 @@
 package kream.shookream.service;
 
 import kream.shookream.domain.Event;
+import kream.shookream.domain.EventStock;
 import kream.shookream.domain.Member;
 import kream.shookream.domain.Order;
 import kream.shookream.domain.Ticket;
-import kream.shookream.external.ExternalEventApi;
-import kream.shookream.external.KakaoTalkMessageApi;
-import kream.shookream.external.dto.ExternalEventResponse;
-import kream.shookream.external.event.EventJoinCompletedEvent;
-import kream.shookream.repository.EventRepository;
 import kream.shookream.repository.MemberRepository;
 import kream.shookream.repository.OrderRepository;
 import kream.shookream.repository.TicketRepository;
+import kream.shookream.service.event.EventMetadataCache;
 import kream.shookream.service.facade.StockManagerFacade;
+import kream.shookream.service.facade.StockReservation;
+import kream.shookream.service.outbox.OutboxService;
+import kream.shookream.service.outbox.ParticipantRegistration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @Transactional(readOnly = true)
@@ -31,14 +30,12 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final TicketRepository ticketRepository;
     private final MemberRepository memberRepository;
-    private final EventRepository eventRepository;
 
     private final StockManagerFacade stockManagerFacade;
 
-    private final ExternalEventApi externalEventApi;
-    private final KakaoTalkMessageApi kakaoTalkMessageApi;
+    private final OutboxService outboxService;
 
-    private final ApplicationEventPublisher eventPublisher;
+    private final EventMetadataCache eventMetadataCache;
 
     @Transactional
     public Order createOrder(Long memberId, List<Long> ticketsIds) {
@@ -54,36 +51,27 @@ public class OrderService {
         }
 
         // Facade 패턴 적용
-        List<Long> sortedEventIds = stockManagerFacade.prepareLockAndStockForOrder(tickets);
+        StockReservation stockReservation = stockManagerFacade.prepareLockAndStockForOrder(tickets);
+        List<Long> sortedEventIds = stockReservation.getSortedEventIds();
 
-        // 이 시점에 베타락 걸려있음 -> 안전하게 주문 생성
-        Order newOrder = Order.createOrder(member, tickets);
+        // 이 시점에 베타락 걸려있음 (Redis 모드는 재고 선점 완료) -> 안전하게 주문 생성
+        Order newOrder = Order.createOrder(member, tickets, stockReservation.getLockedStockByEventId());
 
-        List<String> eventNameList = sortedEventIds.stream()
-                .map(eventId -> eventRepository.findById(eventId).get())
-                .map(event -> event.getEventName())
-                .collect(Collectors.toList());
-
-        // 이 시점에 상위 회사 (티켓 링크) API 호출 -> 해당 이벤트 참가 처리
-        ExternalEventResponse response = externalEventApi.registerParticipant(
-                sortedEventIds, memberId, eventNameList
-        );
-
-        if (!response.isSuccess()) {
-            throw new RuntimeException("티켓 링크 API 호출 실패 : " + response.getErrorMessage());
-        }
+        // 이벤트 이름은 로컬 메타데이터 캐시에서 -> 이벤트마다 영속성 컨텍스트 / DB 조회하지 않음
+        List<String> eventNameList = eventMetadataCache.getEventNames(sortedEventIds);
 
         // 여기에서 insert 문 실행
         Order savedOrder = orderRepository.save(newOrder);
 
-
-
-        // 3. 카카오톡 알림 발송 (비동기 처리)
-        eventPublisher.publishEvent(new EventJoinCompletedEvent(
-                sortedEventIds,
-                eventNameList,
-                member.getPhoneNumber()
-        ));
+        // 상위 회사 (티켓 링크) 참가 등록은 outbox 에 기록만 -> 커밋 이후 OutboxDispatcher 가 호출 (락 / 커넥션 점유 없이)
+        // 등록이 끝나면 디스패처가 카카오톡 알림까지 발행, 실패하면 주문 취소로 후보정
+        outboxService.appendParticipantRegistration(ParticipantRegistration.builder()
+                .orderId(savedOrder.getId())
+                .memberId(memberId)
+                .eventIds(sortedEventIds)
+                .eventNames(eventNameList)
+                .phoneNumber(member.getPhoneNumber())
+                .build());
 
         return savedOrder;
     }
@@ -96,10 +84,10 @@ public class OrderService {
                 .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다"));
 
         // 락 필요한 이벤트(취소 대상) 조회 및 해당 이벤트 락 걸기 -> 수정이기 때문
-        stockManagerFacade.prepareLockForCancel(order.getOrderTickets());
+        Map<Long, EventStock> lockedStockByEventId = stockManagerFacade.prepareLockAndStockForCancel(order.getOrderTickets());
 
         // 주문 취소 (취소 + 재고 복구) + dirtyCheck 실행
-        order.cancel();
+        order.cancel(lockedStockByEventId);
 
     }
 
@@ -1,6 +1,7 @@
 package kream.shookream.service;
 
 import kream.shookream.domain.Event;
+import kream.shookream.domain.EventStock;
 import kream.shookream.domain.Member;
 import kream.shookream.domain.Order;
 import kream.shookream.domain.Ticket;
@@ -13,6 +14,7 @@ import kream.shookream.repository.MemberRepository;
 import kream.shookream.repository.OrderRepository;
 import kream.shookream.repository.TicketRepository;
 import kream.shookream.service.facade.StockManagerFacade;
+import kream.shookream.service.facade.StockReservation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -20,6 +22,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -54,10 +57,11 @@ public class OrderServiceBeforeRefactor {
         }
 
         // Facade 패턴 적용
-        List<Long> sortedEventIds = stockManagerFacade.prepareLockAndStockForOrder(tickets);
+        StockReservation stockReservation = stockManagerFacade.prepareLockAndStockForOrder(tickets);
+        List<Long> sortedEventIds = stockReservation.getSortedEventIds();
 
-        // 이 시점에 베타락 걸려있음 -> 안전하게 주문 생성
-        Order newOrder = Order.createOrder(member, tickets);
+        // 이 시점에 베타락 걸려있음 (Redis 모드는 재고 선점 완료) -> 안전하게 주문 생성
+        Order newOrder = Order.createOrder(member, tickets, stockReservation.getLockedStockByEventId());
 
         List<String> eventNameList = sortedEventIds.stream()
                 .map(eventId -> eventRepository.findById(eventId).get())
@@ -99,10 +103,10 @@ public class OrderServiceBeforeRefactor {
                 .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다"));
 
         // 락 필요한 이벤트(취소 대상) 조회 및 해당 이벤트 락 걸기 -> 수정이기 때문
-        stockManagerFacade.prepareLockForCancel(order.getOrderTickets());
+        Map<Long, EventStock> lockedStockByEventId = stockManagerFacade.prepareLockAndStockForCancel(order.getOrderTickets());
 
         // 주문 취소 (취소 + 재고 복구) + dirtyCheck 실행
-        order.cancel();
+        order.cancel(lockedStockByEventId);
 
     }
 
@@ -0,0 +1,99 @@
+package kream.shookream.service.event;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import kream.shookream.repository.EventRepository;
+import kream.shookream.repository.dto.EventMetadata;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트 메타데이터 로컬 캐시 (크기 + TTL 제한)
+ * 주문 / 알림 페이로드 / 조회 API 가 이벤트 이름 등을 읽을 때마다 영속성 컨텍스트나 DB 를 거치지 않도록
+ * 미스분은 한 번의 IN 쿼리로 적재, 적중률은 cache.gets / cache.evictions 지표 (cache=event.metadata) 로 노출
+ */
+@Component
+@RequiredArgsConstructor
+public class EventMetadataCache {
+
+    private static final String CACHE_NAME = "event.metadata";
+
+    private final EventRepository eventRepository;
+    private final EventMetadataCacheProperties eventMetadataCacheProperties;
+    private final MeterRegistry meterRegistry;
+
+    private Cache<Long, EventMetadata> cache;
+
+    @PostConstruct
+    void start() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(eventMetadataCacheProperties.getMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(eventMetadataCacheProperties.getExpireAfterWriteSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public EventMetadata get(Long eventId) {
+        EventMetadata metadata = getAll(List.of(eventId)).get(eventId);
+        if (metadata == null) {
+            throw new IllegalArgumentException("이벤트 ID : " + eventId + " 를 찾을 수 없습니다.");
+        }
+        return metadata;
+    }
+
+    // 없는 이벤트 ID 는 결과에서 빠짐
+    public Map<Long, EventMetadata> getAll(Collection<Long> eventIds) {
+        return cache.getAll(eventIds, missingIds -> eventRepository.findMetadataByIdIn(
+                        missingIds.stream().map(Long.class::cast).toList())
+                .stream()
+                .collect(Collectors.toMap(EventMetadata::getEventId, Function.identity())));
+    }
+
+    // 요청 순서대로 이벤트 이름
+    public List<String> getEventNames(List<Long> eventIds) {
+        Map<Long, EventMetadata> metadataById = getAll(eventIds);
+        return eventIds.stream()
+                .map(eventId -> {
+                    EventMetadata metadata = metadataById.get(eventId);
+                    if (metadata == null) {
+                        throw new IllegalArgumentException("이벤트 ID : " + eventId + " 를 찾을 수 없습니다.");
+                    }
+                    return metadata.getEventName();
+                })
+                .toList();
+    }
+
+    /**
+     * 이벤트 이름 / 분류 / 공연장 / 일시를 수정한 쪽에서 호출 -> 커밋 이후 제거 (롤백되면 그대로 유지)
+     * 다른 인스턴스의 캐시는 TTL 로 만료
+     */
+    public void invalidate(Long eventId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(eventId);
+                }
+            });
+            return;
+        }
+        cache.invalidate(eventId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,16 @@
+package kream.shookream.service.event;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "event-metadata-cache")
+public class EventMetadataCacheProperties {
+
+    private long maximumSize = 10000;
+
+    // 다른 인스턴스에서 수정된 메타데이터도 이 시간 안에는 반영됨
+    private long expireAfterWriteSeconds = 300;
+}
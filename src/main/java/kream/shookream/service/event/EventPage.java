@@ -0,0 +1,24 @@
+package kream.shookream.service.event;
+
+import kream.shookream.repository.dto.EventSummary;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class EventPage {
+
+    private final List<EventSummary> events;
+
+    // 다음 페이지가 없으면 null
+    private final String nextCursor;
+
+    public EventPage(List<EventSummary> events, String nextCursor) {
+        this.events = events;
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,58 @@
+package kream.shookream.service.event;
+
+import kream.shookream.domain.EventType;
+import kream.shookream.global.pagination.KeysetCursor;
+import kream.shookream.repository.EventSearchRepository;
+import kream.shookream.repository.dto.EventSearchCondition;
+import kream.shookream.repository.dto.EventSummary;
+import kream.shookream.service.stock.StockMode;
+import kream.shookream.service.stock.StockProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 이벤트 목록 검색 (분류 / 판매자 / 시작일시 범위 필터 + keyset 페이지네이션)
+ */
+@Service
+@RequiredArgsConstructor
+public class EventSearchService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final EventSearchRepository eventSearchRepository;
+    private final StockProperties stockProperties;
+
+    public EventPage search(EventType eventType, Long sellerId, LocalDateTime from, LocalDateTime to,
+                            String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        KeysetCursor searchCursor = cursor == null ? null : KeysetCursor.decode(cursor);
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단 (COUNT 쿼리 없음)
+        List<EventSummary> rows = eventSearchRepository.search(EventSearchCondition.builder()
+                .eventType(eventType)
+                .sellerId(sellerId)
+                .from(from)
+                .to(to)
+                .cursorStartTime(searchCursor == null ? null : searchCursor.getTime())
+                .cursorEventId(searchCursor == null ? null : searchCursor.getId())
+                .limit(pageSize + 1)
+                .countAvailableSeats(stockProperties.getMode() == StockMode.SEAT_CLAIM)
+                .build());
+
+        if (rows.size() <= pageSize) {
+            return new EventPage(rows, null);
+        }
+
+        List<EventSummary> events = rows.subList(0, pageSize);
+        EventSummary last = events.get(pageSize - 1);
+        return new EventPage(events, new KeysetCursor(last.getStartTime(), last.getEventId()).encode());
+    }
+}
@@ -0,0 +1,58 @@
+package kream.shookream.service.facade;
+
+import kream.shookream.domain.Order;
+import kream.shookream.repository.OrderRepository;
+import kream.shookream.repository.TicketRepository;
+import kream.shookream.service.OrderService;
+import kream.shookream.service.stock.StockMode;
+import kream.shookream.service.stock.StockProperties;
+import kream.shookream.service.stock.lock.StockLockStrategyResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 락 전략 중 트랜잭션 바깥에서 처리해야 하는 부분(낙관적 락 재시도, 네임드 락)을 감싸서 OrderService 호출
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderFacade {
+
+    private final OrderService orderService;
+    private final TicketRepository ticketRepository;
+    private final OrderRepository orderRepository;
+    private final StockLockStrategyResolver stockLockStrategyResolver;
+    private final StockProperties stockProperties;
+
+    public Order createOrder(Long memberId, List<Long> ticketIds) {
+        if (stockProperties.getMode() != StockMode.DATABASE) {
+            return orderService.createOrder(memberId, ticketIds);
+        }
+
+        List<Long> sortedEventIds = sorted(ticketRepository.findDistinctEventIdsByIdIn(ticketIds));
+        return stockLockStrategyResolver.executeAround(sortedEventIds,
+                () -> orderService.createOrder(memberId, ticketIds));
+    }
+
+    public void cancelOrder(Long orderId) {
+        if (stockProperties.getMode() != StockMode.DATABASE) {
+            orderService.cancelOrder(orderId);
+            return;
+        }
+
+        List<Long> sortedEventIds = sorted(orderRepository.findDistinctEventIdsById(orderId));
+        stockLockStrategyResolver.executeAround(sortedEventIds, () -> {
+            orderService.cancelOrder(orderId);
+            return null;
+        });
+    }
+
+    private List<Long> sorted(List<Long> eventIds) {
+        return eventIds.stream()
+                .sorted(Comparator.naturalOrder()) // Deadlock 방지
+                .collect(Collectors.toList());
+    }
+}
@@ -1,24 +1,52 @@
 package kream.shookream.service.facade;
 
-import kream.shookream.domain.Event;
+import jakarta.persistence.EntityManager;
+import kream.shookream.domain.EventStock;
 import kream.shookream.domain.OrderTicket;
 import kream.shookream.domain.Ticket;
-import kream.shookream.repository.EventRepository;
+import kream.shookream.domain.TicketStatus;
+import kream.shookream.domain.exception.SoldOutException;
+import kream.shookream.repository.EventStockRepository;
+import kream.shookream.repository.EventStockJdbcRepository;
+import kream.shookream.repository.TicketRepository;
+import kream.shookream.service.seat.SeatAvailabilityIndex;
+import kream.shookream.service.stock.EventStockShardService;
+import kream.shookream.service.stock.RedisStockReservation;
+import kream.shookream.service.stock.StockMode;
+import kream.shookream.service.stock.StockProperties;
+import kream.shookream.service.stock.lock.StockLockStrategyResolver;
+import kream.shookream.service.stock.stream.StockChangeTracker;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class StockManagerFacade {
-    private final EventRepository eventRepository;
+    private final EventStockRepository eventStockRepository;
+    private final EventStockJdbcRepository eventStockJdbcRepository;
+    private final TicketRepository ticketRepository;
+    private final EntityManager entityManager;
+    private final RedisStockReservation redisStockReservation;
+    private final StockLockStrategyResolver stockLockStrategyResolver;
+    private final EventStockShardService eventStockShardService;
+    private final StockProperties stockProperties;
+    private final SeatAvailabilityIndex seatAvailabilityIndex;
+    private final StockChangeTracker stockChangeTracker;
 
     // 락 획득 / 재고 조정 / 플러시
-    public List<Long> prepareLockAndStockForOrder(List<Ticket> tickets) {
+    public StockReservation prepareLockAndStockForOrder(List<Ticket> tickets) {
         // 1. Deadlock 방지를 위해 락을 걸 Event ID 목록을 정렬
         Set<Long> distinctEventIds = tickets.stream()
                 .map(ticket -> ticket.getEvent().getId())
@@ -28,41 +56,273 @@ public class StockManagerFacade {
                 .sorted(Comparator.naturalOrder()) // ID 오름차순 정렬 강제
                 .collect(Collectors.toList());
 
-        // 2. 정렬된 순서대로 락 획득 및 재고 감소
-        for (Long eventId : sortedEventIds) {
-            Event eventWithLock = eventRepository.findWithPessimisticLockById(eventId)
-                    .orElseThrow(() -> new IllegalArgumentException("이벤트 ID : " + eventId + " 를 찾을 수 없습니다."));
+        // 모드와 관계없이 커밋되면 남은 재고 스트림에 알림 (롤백되면 알리지 않음)
+        stockChangeTracker.afterCommit(sortedEventIds);
 
-            // 안전을 위해 Ticket 내부의 Event 참조를 락 걸린 객체로 갱신
-            tickets.stream()
-                    .filter(ticket -> ticket.getEvent().getId().equals(eventId))
-                    .forEach(ticket -> ticket.setEvent(eventWithLock));
+        // 재고를 좌석 수로 계산하는 모드는 이벤트 행도 샤드도 건드리지 않음
+        if (stockProperties.getMode() == StockMode.SEAT_CLAIM) {
+            claimSeats(tickets);
+            return new StockReservation(sortedEventIds, Map.of());
+        }
+
+        // 2. 샤딩된 이벤트는 모드와 관계없이 좌석 CAS + 임의 샤드 차감 (이벤트 행 락 없음)
+        Map<Long, Integer> shardCountByEventId = shardCountByEventId(sortedEventIds);
+        List<Ticket> shardedTickets = filterByEvent(tickets, shardCountByEventId.keySet(), true);
+        List<Ticket> unshardedTickets = filterByEvent(tickets, shardCountByEventId.keySet(), false);
+
+        if (!shardedTickets.isEmpty()) {
+            claimSeats(shardedTickets);
+            eventStockShardService.decrease(quantityByEventId(shardedTickets), shardCountByEventId);
+        }
 
-            // 재고 감소 로직 실행
-            eventWithLock.decreaseTicketStock();
+        if (unshardedTickets.isEmpty()) {
+            return new StockReservation(sortedEventIds, Map.of());
+        }
 
-            // 쓰기 지연 회피: UPDATE 쿼리를 즉시 DB에 반영하여 재고 감소를 강제
-            eventRepository.flush();
+        // 3. 나머지 이벤트는 재고 모드별 처리 (DATABASE 만 재고 행 락 -> 차감은 Order.createOrder() 의 Dirty Checking)
+        if (stockProperties.getMode() == StockMode.REDIS) {
+            reserveOnRedis(unshardedTickets);
+        } else if (stockProperties.getMode() == StockMode.CONDITIONAL_UPDATE) {
+            // 이벤트 행 락이 없으므로 같은 좌석을 산 구매자끼리는 좌석 CAS 로 한 명만 통과 -> 그 다음에 재고 차감
+            claimSeats(unshardedTickets);
+            decreaseWithConditionalUpdate(unshardedTickets);
+        } else {
+            return new StockReservation(sortedEventIds, lockStocks(unshardedTickets));
         }
 
-        return sortedEventIds;
+        return new StockReservation(sortedEventIds, Map.of());
     }
 
     /**
      * 주문 취소 시, 락 획득만 수행하여 영속성 컨텍스트에 안전한 상태로 가져옴
+     * Redis / 조건부 UPDATE / 샤딩 이벤트는 락 없이 재고를 복구, DATABASE 는 락을 건 재고 행을 반환 -> Order.cancel() 에서 복구
      */
-    public void prepareLockForCancel(List<OrderTicket> orderTickets) {
-        // 취소 대상 OrderTicket에서 Event ID 목록을 추출 및 정렬
-        List<Long> eventIdsToLock = orderTickets.stream()
-                .map(orderTicket -> orderTicket.getTicket().getEvent().getId())
-                .distinct()
-                .sorted(Comparator.naturalOrder()) // Deadlock 방지
+    public Map<Long, EventStock> prepareLockAndStockForCancel(List<OrderTicket> orderTickets) {
+        List<Ticket> tickets = orderTickets.stream()
+                .map(OrderTicket::getTicket)
                 .collect(Collectors.toList());
+        stockChangeTracker.afterCommit(quantityByEventId(tickets).keySet());
+
+        // 좌석 복구는 Order.cancel() 의 Dirty Checking 으로 충분 (좌석 행만 잠김), 재고는 좌석 수로 계산되므로 복구할 것이 없음
+        if (stockProperties.getMode() == StockMode.SEAT_CLAIM) {
+            return Map.of();
+        }
+
+        Map<Long, Integer> shardCountByEventId = shardCountByEventId(quantityByEventId(tickets).keySet());
+        List<Ticket> shardedTickets = filterByEvent(tickets, shardCountByEventId.keySet(), true);
+        List<Ticket> unshardedTickets = filterByEvent(tickets, shardCountByEventId.keySet(), false);
+
+        if (!shardedTickets.isEmpty()) {
+            eventStockShardService.increase(quantityByEventId(shardedTickets), shardCountByEventId);
+        }
+
+        if (unshardedTickets.isEmpty()) {
+            return Map.of();
+        }
+
+        if (stockProperties.getMode() == StockMode.REDIS) {
+            releaseOnRedis(unshardedTickets);
+        } else if (stockProperties.getMode() == StockMode.CONDITIONAL_UPDATE) {
+            increaseWithConditionalUpdate(unshardedTickets);
+        } else {
+            return lockStocks(unshardedTickets);
+        }
+
+        return Map.of();
+    }
+
+    /**
+     * 좌석 선점(HOLD) 시 재고만 차감 -> 좌석 상태는 호출하는 쪽에서 CAS(AVAILABLE -> HELD) 로 처리
+     * 결제 대기 동안 이벤트 행 락을 잡지 않도록 DATABASE 모드도 조건부 UPDATE 로 차감
+     */
+    public void reserveStockForHold(List<Ticket> tickets) {
+        stockChangeTracker.afterCommit(quantityByEventId(tickets).keySet());
+
+        // HELD 좌석은 AVAILABLE 에서 빠지므로 재고에 자동 반영
+        if (stockProperties.getMode() == StockMode.SEAT_CLAIM) {
+            return;
+        }
+
+        Map<Long, Integer> shardCountByEventId = shardCountByEventId(quantityByEventId(tickets).keySet());
+        List<Ticket> shardedTickets = filterByEvent(tickets, shardCountByEventId.keySet(), true);
+        List<Ticket> unshardedTickets = filterByEvent(tickets, shardCountByEventId.keySet(), false);
+
+        if (!shardedTickets.isEmpty()) {
+            eventStockShardService.decrease(quantityByEventId(shardedTickets), shardCountByEventId);
+        }
+        if (unshardedTickets.isEmpty()) {
+            return;
+        }
+
+        if (stockProperties.getMode() == StockMode.REDIS) {
+            reserveOnRedis(unshardedTickets);
+        } else {
+            decreaseWithConditionalUpdate(unshardedTickets);
+        }
+    }
+
+    /**
+     * 선점 만료 / 반환 시 재고 복구 (reserveStockForHold 의 반대)
+     */
+    public void releaseStockForHold(List<Ticket> tickets) {
+        stockChangeTracker.afterCommit(quantityByEventId(tickets).keySet());
+
+        if (stockProperties.getMode() == StockMode.SEAT_CLAIM) {
+            return;
+        }
+
+        Map<Long, Integer> shardCountByEventId = shardCountByEventId(quantityByEventId(tickets).keySet());
+        List<Ticket> shardedTickets = filterByEvent(tickets, shardCountByEventId.keySet(), true);
+        List<Ticket> unshardedTickets = filterByEvent(tickets, shardCountByEventId.keySet(), false);
+
+        if (!shardedTickets.isEmpty()) {
+            eventStockShardService.increase(quantityByEventId(shardedTickets), shardCountByEventId);
+        }
+        if (unshardedTickets.isEmpty()) {
+            return;
+        }
+
+        if (stockProperties.getMode() == StockMode.REDIS) {
+            releaseOnRedis(unshardedTickets);
+        } else {
+            increaseWithConditionalUpdate(unshardedTickets);
+        }
+    }
+
+    /**
+     * 현재 판매 가능한 재고
+     * SEAT_CLAIM 은 AVAILABLE 좌석 수, 샤딩 이벤트는 샤드 합계, REDIS 는 Redis 카운터(미적재 시 DB), 그 외는 재고 컬럼
+     * SEAT_CLAIM 은 재고 컬럼을 갱신하지 않아 값이 실제와 다르므로 어떤 경우에도 컬럼으로 대체하지 않음
+     */
+    public int getRemainingStock(Long eventId) {
+        if (stockProperties.getMode() == StockMode.SEAT_CLAIM) {
+            return (int) ticketRepository.countByEventIdAndStatus(eventId, TicketStatus.AVAILABLE);
+        }
+
+        if (!shardCountByEventId(List.of(eventId)).isEmpty()) {
+            return eventStockShardService.sumStock(eventId);
+        }
+
+        if (stockProperties.getMode() == StockMode.REDIS) {
+            Integer redisStock = redisStockReservation.currentStock(eventId);
+            if (redisStock != null) {
+                return redisStock;
+            }
+        }
+
+        return eventStockRepository.findById(eventId)
+                .map(EventStock::getCurrentTicketStockCount)
+                .orElseThrow(() -> new IllegalArgumentException("이벤트 ID : " + eventId + " 를 찾을 수 없습니다."));
+    }
+
+    // 재고 행 락만 획득 -> 차감 / 복구는 Order 가 이 엔티티에 Dirty Checking 으로 반영 (주문 / 취소 공통)
+    private Map<Long, EventStock> lockStocks(List<Ticket> tickets) {
+        // quantityByEventId 는 TreeMap -> ID 오름차순으로 Deadlock 방지
+        Map<Long, EventStock> lockedStockByEventId = new TreeMap<>();
+        for (Long eventId : quantityByEventId(tickets).keySet()) {
+            // 이벤트별 락 전략 (비관적 / 낙관적 / 네임드), 잠그는 대상은 재고 행 (event_stock)
+            lockedStockByEventId.put(eventId, stockLockStrategyResolver.resolve(eventId).loadForUpdate(eventId));
+        }
+        return lockedStockByEventId;
+    }
+
+    private void reserveOnRedis(List<Ticket> tickets) {
+        SortedMap<Long, Integer> quantityByEventId = quantityByEventId(tickets);
+        List<Long> ticketIds = ticketIds(tickets);
+
+        redisStockReservation.reserve(quantityByEventId, ticketIds);
+
+        // DB 트랜잭션이 롤백되면 Redis 선점분도 되돌림
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        redisStockReservation.release(quantityByEventId, ticketIds);
+                    }
+                }
+            });
+        }
+    }
+
+    private void releaseOnRedis(List<Ticket> tickets) {
+        SortedMap<Long, Integer> quantityByEventId = quantityByEventId(tickets);
+        List<Long> ticketIds = ticketIds(tickets);
+
+        // 취소는 커밋이 확정된 뒤에 복구해야 롤백 시 재고가 부풀지 않음
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    redisStockReservation.release(quantityByEventId, ticketIds);
+                }
+            });
+            return;
+        }
+        redisStockReservation.release(quantityByEventId, ticketIds);
+    }
+
 
-        // 락 획득 (Event 상태 변경은 Order.cancel() 내부에서 Dirty Checking으로 처리됨)
-        for (Long eventId : eventIdsToLock) {
-            eventRepository.findWithPessimisticLockById(eventId)
-                    .orElseThrow(() -> new IllegalArgumentException("아이디가 " + eventId + "인 이벤트를 찾을 수 없습니다"));
+    private void claimSeats(List<Ticket> tickets) {
+        List<Long> ticketIds = ticketIds(tickets);
+
+        // AVAILABLE -> SOLDOUT 조건부 UPDATE, 서로 다른 좌석을 사는 구매자끼리는 대기하지 않음
+        int claimedCount = ticketRepository.updateStatusIfCurrent(ticketIds, TicketStatus.AVAILABLE, TicketStatus.SOLDOUT);
+        if (claimedCount != ticketIds.size()) {
+            throw new SoldOutException("이미 매진된 표입니다.");
+        }
+
+        // DB 는 이미 SOLDOUT -> 이후 Order.createOrder() 의 ticket.sell() 이 중복 UPDATE 를 만들지 않도록 Dirty Checking 제외
+        Session session = entityManager.unwrap(Session.class);
+        tickets.forEach(ticket -> session.setReadOnly(ticket, true));
+
+        seatAvailabilityIndex.afterCommit(tickets, TicketStatus.SOLDOUT);
+    }
+
+    private void decreaseWithConditionalUpdate(List<Ticket> tickets) {
+        SortedMap<Long, Integer> quantityByEventId = quantityByEventId(tickets);
+
+        // 영향받은 행 수가 이벤트 수보다 적으면 어느 이벤트든 재고 부족 -> 예외로 트랜잭션 전체 롤백
+        int updatedCount = eventStockJdbcRepository.decreaseIfAvailable(quantityByEventId);
+        if (updatedCount != quantityByEventId.size()) {
+            throw new SoldOutException("표 재고가 부족합니다.");
+        }
+    }
+
+    private void increaseWithConditionalUpdate(List<Ticket> tickets) {
+        SortedMap<Long, Integer> quantityByEventId = quantityByEventId(tickets);
+
+        int updatedCount = eventStockJdbcRepository.increaseIfWithinMax(quantityByEventId);
+        if (updatedCount != quantityByEventId.size()) {
+            throw new IllegalStateException("판매 가능 수량을 초과하였습니다.");
         }
     }
+
+    private Map<Long, Integer> shardCountByEventId(Collection<Long> eventIds) {
+        return eventStockRepository.findShardedByIdIn(eventIds).stream()
+                .collect(Collectors.toMap(
+                        EventStockRepository.ShardedEventView::getId,
+                        EventStockRepository.ShardedEventView::getStockShardCount));
+    }
+
+    private List<Ticket> filterByEvent(List<Ticket> tickets, Set<Long> eventIds, boolean included) {
+        return tickets.stream()
+                .filter(ticket -> eventIds.contains(ticket.getEvent().getId()) == included)
+                .collect(Collectors.toList());
+    }
+
+    private SortedMap<Long, Integer> quantityByEventId(List<Ticket> tickets) {
+        return tickets.stream()
+                .collect(Collectors.toMap(
+                        ticket -> ticket.getEvent().getId(),
+                        ticket -> 1,
+                        Integer::sum,
+                        TreeMap::new));
+    }
+
+    private List<Long> ticketIds(List<Ticket> tickets) {
+        return tickets.stream()
+                .map(Ticket::getId)
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,20 @@
+package kream.shookream.service.facade;
+
+import kream.shookream.domain.EventStock;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 선점 결과
+ * - sortedEventIds : 주문에 포함된 이벤트 ID (오름차순)
+ * - lockedStockByEventId : 락을 걸고 불러온 재고 행 -> 주문 생성 시 차감 (여기 없는 이벤트는 EventStock 엔티티 밖에서 이미 차감됨)
+ */
+@Getter
+@RequiredArgsConstructor
+public class StockReservation {
+    private final List<Long> sortedEventIds;
+    private final Map<Long, EventStock> lockedStockByEventId;
+}
@@ -0,0 +1,113 @@
+package kream.shookream.service.hold;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 해시 타이밍 휠
+ * 만료 시각을 tick 단위로 바꿔 (tick % wheelSize) 칸에 넣고, 휠이 한 칸 진행할 때마다 그 칸만 확인
+ * -> 등록 O(1), tick 당 비용은 그 칸의 항목 수뿐 (전체 스캔 / 정렬 없음)
+ * 한 바퀴보다 먼 만료는 남은 바퀴 수(rounds)를 함께 저장하고 칸을 지날 때마다 1씩 감소
+ *
+ * schedule 은 여러 스레드에서 호출 가능 (대기열에만 추가), advanceTo 는 단일 스레드에서만 호출
+ */
+public class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<List<Entry<T>>> buckets;
+    private final Queue<Entry<T>> pending = new ConcurrentLinkedQueue<>();
+    private final long startMillis;
+
+    // 다음에 처리할 tick (advanceTo 스레드만 접근)
+    private long currentTick;
+
+    public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tick 간격은 0보다 커야 합니다.");
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("휠 크기는 0보다 커야 합니다.");
+        }
+
+        int normalizedSize = Integer.highestOneBit(wheelSize);
+        if (normalizedSize < wheelSize) {
+            normalizedSize <<= 1;
+        }
+
+        this.tickMillis = tickMillis;
+        this.mask = normalizedSize - 1;
+        this.startMillis = startMillis;
+        this.buckets = new ArrayList<>(normalizedSize);
+        for (int i = 0; i < normalizedSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    public void schedule(T item, long deadlineMillis) {
+        pending.add(new Entry<>(item, deadlineMillis));
+    }
+
+    /**
+     * 현재 시각까지 휠을 진행하고 만료된 항목을 반환
+     * 만료 시각보다 일찍 반환하지 않음 (tick 단위 올림)
+     */
+    public List<T> advanceTo(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        long targetTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+
+        transferPending(expired);
+
+        while (currentTick <= targetTick) {
+            int slot = (int) (currentTick & mask);
+            List<Entry<T>> bucket = buckets.get(slot);
+
+            if (!bucket.isEmpty()) {
+                // 중간 삭제(O(n)) 대신 남는 항목만 새 칸으로 옮김
+                List<Entry<T>> remaining = new ArrayList<>();
+                for (Entry<T> entry : bucket) {
+                    if (entry.remainingRounds <= 0) {
+                        expired.add(entry.item);
+                    } else {
+                        entry.remainingRounds--;
+                        remaining.add(entry);
+                    }
+                }
+                buckets.set(slot, remaining);
+            }
+            currentTick++;
+        }
+
+        return expired;
+    }
+
+    private void transferPending(List<T> expired) {
+        Entry<T> entry;
+        while ((entry = pending.poll()) != null) {
+            long elapsed = entry.deadlineMillis - startMillis;
+            long deadlineTick = elapsed <= 0 ? 0 : (elapsed + tickMillis - 1) / tickMillis;
+
+            // 이미 지나간 tick 의 만료는 칸에 넣지 않고 바로 반환 (다음 칸에 넣으면 같은 시각으로 진행할 때 꺼내지지 않음)
+            if (deadlineTick < currentTick) {
+                expired.add(entry.item);
+                continue;
+            }
+
+            entry.remainingRounds = (deadlineTick - currentTick) / buckets.size();
+            buckets.get((int) (deadlineTick & mask)).add(entry);
+        }
+    }
+
+    private static final class Entry<T> {
+        private final T item;
+        private final long deadlineMillis;
+        private long remainingRounds;
+
+        private Entry(T item, long deadlineMillis) {
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
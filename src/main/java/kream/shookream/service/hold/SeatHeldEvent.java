@@ -0,0 +1,14 @@
+package kream.shookream.service.hold;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 좌석 선점 커밋 후 만료 스케줄러에 등록하기 위한 이벤트
+@Getter
+@RequiredArgsConstructor
+public class SeatHeldEvent {
+    private final Long holdId;
+    private final LocalDateTime expiresAt;
+}
@@ -0,0 +1,81 @@
+package kream.shookream.service.hold;
+
+import jakarta.annotation.PostConstruct;
+import kream.shookream.domain.SeatHoldStatus;
+import kream.shookream.repository.SeatHoldRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 선점 만료 스케줄러
+ * tickets 테이블을 주기적으로 스캔하지 않고, 선점마다 타이밍 휠에 만료 시각을 등록해 두고 tick 마다 해당 칸만 처리
+ * 서버 재시작 시에는 아직 선점 중인 hold 를 한 번 조회해 휠에 다시 등록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatHoldExpirySweeper {
+
+    private final SeatHoldService seatHoldService;
+    private final SeatHoldRepository seatHoldRepository;
+    private final SeatHoldProperties seatHoldProperties;
+
+    private HashedTimingWheel<Long> wheel;
+
+    @PostConstruct
+    void init() {
+        wheel = new HashedTimingWheel<>(seatHoldProperties.getTickMs(),
+                seatHoldProperties.getWheelSize(), System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreActiveHolds() {
+        List<SeatHoldRepository.HoldExpiryView> activeHolds = seatHoldRepository.findExpiriesByStatus(SeatHoldStatus.HELD);
+        activeHolds.forEach(hold -> wheel.schedule(hold.getId(), toEpochMillis(hold.getExpiresAt())));
+
+        log.info("선점 만료 스케줄 복구 건수 = {}", activeHolds.size());
+    }
+
+    // 선점 트랜잭션이 커밋된 뒤에만 등록 -> 롤백된 선점은 휠에 들어가지 않음
+    @TransactionalEventListener
+    public void onSeatHeld(SeatHeldEvent event) {
+        wheel.schedule(event.getHoldId(), toEpochMillis(event.getExpiresAt()));
+    }
+
+    @Scheduled(fixedDelayString = "${seat-hold.tick-ms:100}")
+    public void sweep() {
+        List<Long> expiredHoldIds = wheel.advanceTo(System.currentTimeMillis());
+        if (expiredHoldIds.isEmpty()) {
+            return;
+        }
+
+        int batchSize = seatHoldProperties.getExpireBatchSize();
+        int releasedCount = 0;
+        for (int from = 0; from < expiredHoldIds.size(); from += batchSize) {
+            List<Long> batch = expiredHoldIds.subList(from, Math.min(from + batchSize, expiredHoldIds.size()));
+            try {
+                releasedCount += seatHoldService.expire(batch);
+            } catch (RuntimeException e) {
+                // 다음 tick 에 다시 시도하도록 재등록
+                log.warn("선점 만료 처리 실패 건수 = {}, message = {}", batch.size(), e.getMessage());
+                long retryAt = System.currentTimeMillis() + seatHoldProperties.getTickMs();
+                batch.forEach(holdId -> wheel.schedule(holdId, retryAt));
+            }
+        }
+
+        log.debug("선점 만료 대상 = {}, 반환 = {}", expiredHoldIds.size(), releasedCount);
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,23 @@
+package kream.shookream.service.hold;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "seat-hold")
+public class SeatHoldProperties {
+
+    // 선점 유지 시간 -> 이 시간 안에 확정하지 않으면 좌석 반환
+    private long ttlSeconds = 300;
+
+    // 타이밍 휠 한 칸의 시간 (만료 정밀도)
+    private long tickMs = 100;
+
+    // 타이밍 휠 칸 수 (2의 거듭제곱으로 올림), 한 바퀴 = tickMs * wheelSize
+    private int wheelSize = 4096;
+
+    // 한 트랜잭션에서 만료 처리할 최대 hold 수
+    private int expireBatchSize = 500;
+}
@@ -0,0 +1,163 @@
+package kream.shookream.service.hold;
+
+import kream.shookream.domain.Member;
+import kream.shookream.domain.Order;
+import kream.shookream.domain.SeatHold;
+import kream.shookream.domain.SeatHoldStatus;
+import kream.shookream.domain.Ticket;
+import kream.shookream.domain.TicketStatus;
+import kream.shookream.domain.exception.SoldOutException;
+import kream.shookream.repository.MemberRepository;
+import kream.shookream.repository.OrderRepository;
+import kream.shookream.repository.SeatHoldRepository;
+import kream.shookream.repository.TicketRepository;
+import kream.shookream.service.event.EventMetadataCache;
+import kream.shookream.service.facade.StockManagerFacade;
+import kream.shookream.service.outbox.OutboxService;
+import kream.shookream.service.outbox.ParticipantRegistration;
+import kream.shookream.service.seat.SeatAvailabilityIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 2단계 구매 : 좌석 선점(HOLD) -> 결제 확정(CONFIRM)
+ * 선점은 좌석 CAS + 재고 원자 차감으로 이벤트 행 락을 잡지 않음
+ * 확정 단계는 hold 행만 잠그고, 외부 API(티켓 링크) 호출은 outbox 로 넘겨 커밋 이후 처리
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class SeatHoldService {
+
+    private final SeatHoldRepository seatHoldRepository;
+    private final TicketRepository ticketRepository;
+    private final MemberRepository memberRepository;
+    private final OrderRepository orderRepository;
+    private final StockManagerFacade stockManagerFacade;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SeatHoldProperties seatHoldProperties;
+    private final SeatAvailabilityIndex seatAvailabilityIndex;
+    private final EventMetadataCache eventMetadataCache;
+
+    @Transactional
+    public SeatHold hold(Long memberId, List<Long> ticketIds) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다"));
+
+        List<Ticket> tickets = ticketRepository.findAllById(ticketIds);
+        if (tickets.size() != ticketIds.size()) {
+            throw new IllegalStateException("요청한 모든 티켓을 찾을 수 없습니다.");
+        }
+
+        // 1. 좌석 CAS : AVAILABLE -> HELD (다른 좌석을 고른 구매자끼리는 대기하지 않음)
+        int heldCount = ticketRepository.updateStatusIfCurrent(ticketIds, TicketStatus.AVAILABLE, TicketStatus.HELD);
+        if (heldCount != ticketIds.size()) {
+            throw new SoldOutException("이미 선점되었거나 매진된 표입니다.");
+        }
+        seatAvailabilityIndex.afterCommit(tickets, TicketStatus.HELD);
+
+        // 2. 재고 차감 (모드별 원자 차감, 실패 시 전체 롤백)
+        stockManagerFacade.reserveStockForHold(tickets);
+
+        LocalDateTime now = LocalDateTime.now();
+        SeatHold seatHold = seatHoldRepository.save(SeatHold.builder()
+                .member(member)
+                .ticketIds(ticketIds)
+                .heldAt(now)
+                .expiresAt(now.plusSeconds(seatHoldProperties.getTtlSeconds()))
+                .build());
+
+        // 3. 커밋 이후 만료 스케줄러에 등록
+        eventPublisher.publishEvent(new SeatHeldEvent(seatHold.getId(), seatHold.getExpiresAt()));
+
+        return seatHold;
+    }
+
+    @Transactional
+    public Order confirm(Long holdId) {
+        // 만료 처리와 겹치지 않도록 hold 행 잠금
+        SeatHold seatHold = seatHoldRepository.findWithLockById(holdId)
+                .orElseThrow(() -> new IllegalArgumentException("선점 정보를 찾을 수 없습니다."));
+        seatHold.confirm(LocalDateTime.now());
+
+        Member member = seatHold.getMember();
+        List<Ticket> tickets = ticketRepository.findAllById(seatHold.getTicketIds());
+
+        // 좌석 HELD -> SOLDOUT, 재고는 선점 시점에 이미 차감됨
+        Order order = Order.createHeldOrder(member, tickets);
+
+        // 이벤트 ID 오름차순, 이름은 메타데이터 캐시에서 (이벤트 프록시 초기화 없음)
+        List<Long> sortedEventIds = tickets.stream()
+                .map(ticket -> ticket.getEvent().getId())
+                .distinct()
+                .sorted()
+                .toList();
+        List<String> eventNameList = eventMetadataCache.getEventNames(sortedEventIds);
+
+        Order savedOrder = orderRepository.save(order);
+
+        // 티켓 링크 참가 등록 + 카카오톡 알림은 outbox 를 통해 커밋 이후 처리
+        outboxService.appendParticipantRegistration(ParticipantRegistration.builder()
+                .orderId(savedOrder.getId())
+                .memberId(member.getId())
+                .eventIds(sortedEventIds)
+                .eventNames(eventNameList)
+                .phoneNumber(member.getPhoneNumber())
+                .build());
+
+        return savedOrder;
+    }
+
+    /**
+     * 구매자가 확정 전에 직접 선점을 반환
+     */
+    @Transactional
+    public void release(Long holdId) {
+        SeatHold seatHold = seatHoldRepository.findWithLockById(holdId)
+                .orElseThrow(() -> new IllegalArgumentException("선점 정보를 찾을 수 없습니다."));
+
+        releaseSeats(seatHold);
+    }
+
+    /**
+     * 만료 스케줄러가 넘겨준 hold 들 중 아직 선점 중이고 만료 시각이 지난 것만 반환
+     * 이미 확정 / 반환된 hold 는 건너뜀 -> 스케줄러에서 따로 취소 처리할 필요 없음
+     */
+    @Transactional
+    public int expire(Collection<Long> holdIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<SeatHold> expiredHolds = seatHoldRepository.findAllWithLockByIdInAndStatus(holdIds, SeatHoldStatus.HELD).stream()
+                .filter(seatHold -> seatHold.isExpired(now))
+                .collect(Collectors.toList());
+
+        expiredHolds.forEach(this::releaseSeats);
+
+        return expiredHolds.size();
+    }
+
+    private void releaseSeats(SeatHold seatHold) {
+        seatHold.release();
+
+        List<Long> ticketIds = seatHold.getTicketIds();
+        List<Ticket> tickets = ticketRepository.findAllById(ticketIds);
+
+        // 좌석 HELD -> AVAILABLE, 재고 복구
+        int releasedCount = ticketRepository.updateStatusIfCurrent(ticketIds, TicketStatus.HELD, TicketStatus.AVAILABLE);
+        if (releasedCount != ticketIds.size()) {
+            throw new IllegalStateException("선점 좌석 상태가 일치하지 않습니다. holdId = " + seatHold.getId());
+        }
+        seatAvailabilityIndex.afterCommit(tickets, TicketStatus.AVAILABLE);
+
+        stockManagerFacade.releaseStockForHold(tickets);
+    }
+}
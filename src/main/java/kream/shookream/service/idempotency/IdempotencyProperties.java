@@ -0,0 +1,26 @@
+package kream.shookream.service.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+    private String keyPrefix = "idempotency";
+
+    // 완료된 결과 보관 시간 (클라이언트 재시도 구간보다 길게)
+    private long resultTtlSeconds = 600;
+
+    // 처리 중 표시 유지 시간 -> 처리하던 인스턴스가 죽어도 이후 재시도가 다시 실행될 수 있도록
+    private long inProgressTtlSeconds = 30;
+
+    // 다른 인스턴스가 처리 중일 때 결과를 기다리는 최대 시간 / 확인 주기
+    private long waitTimeoutMs = 5000;
+    private long pollIntervalMs = 50;
+
+    // 로컬 LRU 최대 항목 수
+    private int localMaxEntries = 10000;
+}
@@ -0,0 +1,41 @@
+package kream.shookream.service.idempotency;
+
+import kream.shookream.service.order.OrderResult;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Redis 에 저장하는 멱등 키 상태 (JSON)
+ * fingerprint : 같은 키로 다른 요청을 보냈는지 확인하기 위한 요청 내용 요약
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class IdempotencyRecord {
+
+    private String fingerprint;
+    private boolean completed;
+    private Long orderId;
+    private String status;
+    private Integer totalAmount;
+
+    private IdempotencyRecord(String fingerprint, boolean completed, Long orderId, String status, Integer totalAmount) {
+        this.fingerprint = fingerprint;
+        this.completed = completed;
+        this.orderId = orderId;
+        this.status = status;
+        this.totalAmount = totalAmount;
+    }
+
+    public static IdempotencyRecord inProgress(String fingerprint) {
+        return new IdempotencyRecord(fingerprint, false, null, null, null);
+    }
+
+    public static IdempotencyRecord completed(String fingerprint, OrderResult result) {
+        return new IdempotencyRecord(fingerprint, true, result.getOrderId(), result.getStatus(), result.getTotalAmount());
+    }
+
+    public OrderResult toResult() {
+        return new OrderResult(orderId, status, totalAmount);
+    }
+}
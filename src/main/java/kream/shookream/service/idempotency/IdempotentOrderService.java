@@ -0,0 +1,202 @@
+package kream.shookream.service.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import kream.shookream.service.order.OrderEngine;
+import kream.shookream.service.order.OrderResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Idempotency-Key 기반 주문 생성
+ * 1. 로컬 LRU 에 완료된 결과가 있으면 그대로 반환
+ * 2. 같은 인스턴스에서 같은 키가 처리 중이면 새로 실행하지 않고 같은 future 를 기다림 (요청 내용이 다르면 거부)
+ * 3. Redis 에 처리 중 표시 (SET NX) 를 남긴 쪽만 실행, 결과는 TTL 과 함께 Redis + 로컬 LRU 에 저장
+ *    다른 인스턴스가 처리 중이면 결과가 나올 때까지 잠시 기다린 뒤, 그래도 없으면 처리 중 예외
+ * 실패한 요청은 저장하지 않음 -> 같은 키로 재시도하면 다시 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotentOrderService {
+
+    private final OrderEngine orderEngine;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties idempotencyProperties;
+
+    private final Map<String, InFlightOrder> inFlightByKey = new ConcurrentHashMap<>();
+
+    private Map<String, IdempotencyRecord> localResults;
+
+    @PostConstruct
+    void start() {
+        int maxEntries = idempotencyProperties.getLocalMaxEntries();
+        localResults = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public OrderResult createOrder(String idempotencyKey, Long memberId, List<Long> ticketIds) {
+        String fingerprint = fingerprint(memberId, ticketIds);
+
+        IdempotencyRecord cached = localResults.get(idempotencyKey);
+        if (cached != null) {
+            return replay(cached, fingerprint);
+        }
+
+        InFlightOrder order = new InFlightOrder(fingerprint);
+        InFlightOrder inFlight = inFlightByKey.putIfAbsent(idempotencyKey, order);
+        if (inFlight != null) {
+            if (!inFlight.fingerprint.equals(fingerprint)) {
+                throw new IllegalArgumentException("같은 Idempotency-Key 로 다른 주문을 요청할 수 없습니다.");
+            }
+            // 같은 인스턴스의 동시 중복 요청 -> 먼저 들어온 요청의 결과를 공유
+            return await(inFlight.future);
+        }
+
+        try {
+            order.future.complete(execute(idempotencyKey, fingerprint, memberId, ticketIds));
+        } catch (RuntimeException e) {
+            order.future.completeExceptionally(e);
+        } finally {
+            inFlightByKey.remove(idempotencyKey, order);
+        }
+        return await(order.future);
+    }
+
+    /**
+     * 같은 키의 주문이 이미 완료됨 -> 다시 요청해도 새 주문 없이 저장된 결과만 돌려줌
+     */
+    public boolean hasCompletedResult(String idempotencyKey) {
+        if (localResults.containsKey(idempotencyKey)) {
+            return true;
+        }
+        String value = redisTemplate.opsForValue().get(redisKey(idempotencyKey));
+        return value != null && fromJson(value).isCompleted();
+    }
+
+    private OrderResult execute(String idempotencyKey, String fingerprint, Long memberId, List<Long> ticketIds) {
+        String redisKey = redisKey(idempotencyKey);
+
+        Boolean claimed = redisTemplate.opsForValue().setIfAbsent(redisKey, toJson(IdempotencyRecord.inProgress(fingerprint)),
+                Duration.ofSeconds(idempotencyProperties.getInProgressTtlSeconds()));
+
+        if (!Boolean.TRUE.equals(claimed)) {
+            return waitForOtherNode(idempotencyKey, redisKey, fingerprint);
+        }
+
+        OrderResult result;
+        try {
+            result = orderEngine.createOrder(memberId, ticketIds);
+        } catch (RuntimeException e) {
+            // 실패는 저장하지 않음 -> 같은 키로 재시도 가능
+            redisTemplate.delete(redisKey);
+            throw e;
+        }
+
+        IdempotencyRecord record = IdempotencyRecord.completed(fingerprint, result);
+        redisTemplate.opsForValue().set(redisKey, toJson(record), Duration.ofSeconds(idempotencyProperties.getResultTtlSeconds()));
+        localResults.put(idempotencyKey, record);
+        return result;
+    }
+
+    // 다른 인스턴스가 먼저 처리 중 -> 결과가 저장될 때까지 짧게 폴링
+    private OrderResult waitForOtherNode(String idempotencyKey, String redisKey, String fingerprint) {
+        long deadline = System.currentTimeMillis() + idempotencyProperties.getWaitTimeoutMs();
+
+        while (true) {
+            String value = redisTemplate.opsForValue().get(redisKey);
+            if (value == null) {
+                // 처리하던 쪽이 실패해서 표시를 지움
+                throw new IllegalStateException("같은 Idempotency-Key 의 이전 요청이 실패했습니다. 다시 시도해주세요.");
+            }
+
+            IdempotencyRecord record = fromJson(value);
+            if (record.isCompleted()) {
+                localResults.put(idempotencyKey, record);
+                return replay(record, fingerprint);
+            }
+            if (!record.getFingerprint().equals(fingerprint)) {
+                throw new IllegalArgumentException("같은 Idempotency-Key 로 다른 주문을 요청할 수 없습니다.");
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                throw new IllegalStateException("같은 Idempotency-Key 의 요청이 아직 처리 중입니다.");
+            }
+
+            try {
+                Thread.sleep(idempotencyProperties.getPollIntervalMs());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("멱등 요청 대기 중 인터럽트 발생", e);
+            }
+        }
+    }
+
+    private OrderResult replay(IdempotencyRecord record, String fingerprint) {
+        if (!record.getFingerprint().equals(fingerprint)) {
+            throw new IllegalArgumentException("같은 Idempotency-Key 로 다른 주문을 요청할 수 없습니다.");
+        }
+        return record.toResult();
+    }
+
+    private String fingerprint(Long memberId, List<Long> ticketIds) {
+        return memberId + ":" + ticketIds.stream().sorted().map(String::valueOf).toList();
+    }
+
+    private String redisKey(String idempotencyKey) {
+        return idempotencyProperties.getKeyPrefix() + ":order:" + idempotencyKey;
+    }
+
+    private String toJson(IdempotencyRecord record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등 키 상태를 저장할 수 없습니다.", e);
+        }
+    }
+
+    private IdempotencyRecord fromJson(String value) {
+        try {
+            return objectMapper.readValue(value, IdempotencyRecord.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등 키 상태를 읽을 수 없습니다.", e);
+        }
+    }
+
+    // 처리 중인 요청 -> 동시 중복 요청은 fingerprint 가 같을 때만 결과를 공유
+    private static final class InFlightOrder {
+        private final String fingerprint;
+        private final CompletableFuture<OrderResult> future = new CompletableFuture<>();
+
+        private InFlightOrder(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    private static OrderResult await(CompletableFuture<OrderResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
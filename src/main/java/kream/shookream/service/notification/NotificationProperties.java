@@ -0,0 +1,27 @@
+package kream.shookream.service.notification;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "notification")
+public class NotificationProperties {
+
+    // 발송 대상 조회 주기
+    private long pollIntervalMs = 100;
+
+    // 한 번에 가져오는 최대 메시지 수 (같은 번호는 묶어서 1회 발송)
+    private int batchSize = 200;
+
+    // 발송 중 다른 워커가 가져가지 못하는 시간 (배치 하나를 다 보내는 최악 시간보다 길어야 중복 발송이 없음)
+    private long leaseSeconds = 60;
+
+    private int maxAttempts = 5;
+    private long baseBackoffMs = 1000;
+    private long maxBackoffMs = 60000;
+
+    // 큐 깊이 / 지연 지표 갱신 주기
+    private long metricsRefreshMs = 5000;
+}
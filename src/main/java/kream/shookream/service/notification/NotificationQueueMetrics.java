@@ -0,0 +1,48 @@
+package kream.shookream.service.notification;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kream.shookream.domain.NotificationStatus;
+import kream.shookream.repository.NotificationMessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 큐 깊이 / 지연 지표
+ * 스크랩마다 DB 를 조회하지 않도록 주기적으로 갱신한 값을 게이지로 노출
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationQueueMetrics {
+
+    private final NotificationMessageRepository notificationMessageRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong oldestPendingAgeMs = new AtomicLong();
+
+    @PostConstruct
+    void register() {
+        Gauge.builder("notification.queue.depth", pendingCount, AtomicLong::get)
+                .description("발송 대기 중인 알림 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.queue.lag", oldestPendingAgeMs, value -> value.get() / 1000.0)
+                .description("가장 오래 기다린 대기 알림의 적재 후 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.metrics-refresh-ms:5000}")
+    public void refresh() {
+        pendingCount.set(notificationMessageRepository.countByStatus(NotificationStatus.PENDING));
+
+        LocalDateTime oldest = notificationMessageRepository.findOldestCreatedAtByStatus(NotificationStatus.PENDING);
+        oldestPendingAgeMs.set(oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis());
+    }
+}
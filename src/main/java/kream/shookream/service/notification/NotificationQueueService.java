@@ -0,0 +1,53 @@
+package kream.shookream.service.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kream.shookream.domain.NotificationMessage;
+import kream.shookream.repository.NotificationMessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 카카오톡 알림을 notification_queue 테이블에 적재
+ * 호출하는 쪽 트랜잭션에 참여 -> 참가 등록 결과와 함께 커밋되므로 재시작해도 유실되지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationQueueService {
+
+    private static final TypeReference<List<String>> EVENT_NAMES_TYPE = new TypeReference<>() {
+    };
+
+    private final NotificationMessageRepository notificationMessageRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional
+    public void enqueue(String phoneNumber, List<String> eventNames) {
+        notificationMessageRepository.save(NotificationMessage.builder()
+                .phoneNumber(phoneNumber)
+                .eventNames(toJson(eventNames))
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    public List<String> readEventNames(NotificationMessage message) {
+        try {
+            return objectMapper.readValue(message.getEventNames(), EVENT_NAMES_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림 내용을 읽을 수 없습니다. notificationId = " + message.getId(), e);
+        }
+    }
+
+    private String toJson(List<String> eventNames) {
+        try {
+            return objectMapper.writeValueAsString(eventNames);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림 내용을 만들 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package kream.shookream.service.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import kream.shookream.domain.NotificationMessage;
+import kream.shookream.external.ExternalCallGuard;
+import kream.shookream.external.KakaoTalkMessageApi;
+import kream.shookream.global.executor.BoundedExecutorFactory;
+import kream.shookream.repository.NotificationMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * notification_queue 발송 워커
+ * 1. 짧은 트랜잭션으로 발송 대상을 SKIP LOCKED 로 가져와 임대 (lease) -> 커밋
+ * 2. 같은 전화번호로 쌓인 알림은 이벤트 이름을 합쳐 1회만 발송 (오픈 직후 한 사람이 여러 번 구매하는 경우)
+ * 3. 이름 붙은 고정 크기 스레드풀 (executors.pools.notification-send) 로 동시 발송 수 제한
+ * 4. 짧은 트랜잭션으로 결과 반영 : 발송 완료 / 재시도 예약 (지수 백오프) / 실패
+ *
+ * 결과는 발송이 실제로 끝난 뒤에 반영 (카카오 호출은 ExternalCallGuard 데드라인이 상한)
+ * -> 진행 중인 발송을 미뤄 두고 시도 횟수를 되돌리지 않음, 시도 전에 거절된 발송만 큐에 되돌림
+ * 임대 시간 (notification.lease-seconds) 은 배치 하나를 다 보내는 최악 시간 (batch-size / 풀 크기 x 데드라인) 보다 길어야 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationWorker {
+
+    private final NotificationMessageRepository notificationMessageRepository;
+    private final NotificationQueueService notificationQueueService;
+    private final KakaoTalkMessageApi kakaoTalkMessageApi;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationProperties notificationProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final BoundedExecutorFactory boundedExecutorFactory;
+    private final ExternalCallGuard externalCallGuard;
+
+    private ExecutorService sendExecutor;
+    private Counter sentCounter;
+    private Counter failedCounter;
+    private Counter coalescedCounter;
+    private Timer deliveryLag;
+
+    @PostConstruct
+    void start() {
+        sendExecutor = boundedExecutorFactory.create("notification-send");
+
+        sentCounter = meterRegistry.counter("notification.sent");
+        failedCounter = meterRegistry.counter("notification.failed");
+        coalescedCounter = meterRegistry.counter("notification.coalesced");
+        deliveryLag = Timer.builder("notification.delivery.lag")
+                .description("알림 적재부터 발송 완료까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.poll-interval-ms:100}")
+    public void drain() {
+        List<NotificationMessage> claimed;
+        do {
+            claimed = transactionTemplate.execute(status -> claim());
+            if (claimed == null || claimed.isEmpty()) {
+                return;
+            }
+            send(claimed);
+        } while (claimed.size() == notificationProperties.getBatchSize()); // 가득 찼으면 밀린 알림이 더 있을 수 있음
+    }
+
+    private List<NotificationMessage> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationMessage> messages = notificationMessageRepository.findSendableForUpdate(now, notificationProperties.getBatchSize());
+        messages.forEach(message -> message.getLease().lease(now.plusSeconds(notificationProperties.getLeaseSeconds())));
+        return messages;
+    }
+
+    private void send(List<NotificationMessage> messages) {
+        // 전화번호별로 묶음 (먼저 적재된 순서 유지)
+        Map<String, List<NotificationMessage>> messagesByPhone = messages.stream()
+                .collect(Collectors.groupingBy(NotificationMessage::getPhoneNumber, LinkedHashMap::new, Collectors.toList()));
+        coalescedCounter.increment(messages.size() - messagesByPhone.size());
+
+        List<CompletableFuture<Delivery>> futures = messagesByPhone.entrySet().stream()
+                .map(entry -> submit(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+
+        List<Delivery> deliveries = futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+
+        transactionTemplate.executeWithoutResult(status -> record(deliveries));
+    }
+
+    // 실행기가 포화되어 거절 (SPILL) 된 알림은 발송을 시도하지 않았으므로 큐에 되돌림
+    private CompletableFuture<Delivery> submit(String phoneNumber, List<NotificationMessage> messages) {
+        try {
+            return CompletableFuture.supplyAsync(() -> deliver(phoneNumber, messages), sendExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(Delivery.deferred(messages));
+        }
+    }
+
+    private Delivery deliver(String phoneNumber, List<NotificationMessage> messages) {
+        try {
+            Set<String> eventNames = new LinkedHashSet<>();
+            for (NotificationMessage message : messages) {
+                eventNames.addAll(notificationQueueService.readEventNames(message));
+            }
+
+            externalCallGuard.run(ExternalCallGuard.KAKAO,
+                    () -> kakaoTalkMessageApi.sendEventJoinMessage(phoneNumber, new ArrayList<>(eventNames)));
+            return new Delivery(messages, false, null);
+        } catch (RuntimeException e) {
+            // 서킷 열림 / 벌크헤드 포화 -> 발송을 시도하지 않았으므로 큐에 되돌림
+            if (ExternalCallGuard.isShed(e)) {
+                return Delivery.deferred(messages);
+            }
+            log.warn("알림 발송 실패 phoneNumber = {}, message = {}", phoneNumber, e.getMessage());
+            return new Delivery(messages, false, e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage());
+        }
+    }
+
+    private void record(List<Delivery> deliveries) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, NotificationMessage> messageById = notificationMessageRepository.findAllById(deliveries.stream()
+                        .flatMap(delivery -> delivery.messages.stream())
+                        .map(NotificationMessage::getId)
+                        .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(NotificationMessage::getId, Function.identity()));
+
+        for (Delivery delivery : deliveries) {
+            for (NotificationMessage claimed : delivery.messages) {
+                NotificationMessage message = messageById.get(claimed.getId());
+
+                if (delivery.deferred) {
+                    message.getLease().defer(now.plus(Duration.ofMillis(notificationProperties.getBaseBackoffMs())));
+                } else if (delivery.error == null) {
+                    message.markSent(now);
+                    sentCounter.increment();
+                    deliveryLag.record(Duration.between(message.getCreatedAt(), now));
+                } else if (message.getLease().getAttemptCount() >= notificationProperties.getMaxAttempts()) {
+                    message.markFailed(delivery.error);
+                    failedCounter.increment();
+                    log.error("알림 발송 재시도 소진 notificationId = {}, phoneNumber = {}", message.getId(), message.getPhoneNumber());
+                } else {
+                    message.getLease().scheduleRetry(now, notificationProperties.getBaseBackoffMs(), notificationProperties.getMaxBackoffMs(), delivery.error);
+                }
+            }
+        }
+    }
+
+    // 같은 번호로 묶여 발송된 메시지들과 결과 (error 가 null 이면 성공, deferred 면 발송 시도 전)
+    private static final class Delivery {
+        private final List<NotificationMessage> messages;
+        private final boolean deferred;
+        private final String error;
+
+        private Delivery(List<NotificationMessage> messages, boolean deferred, String error) {
+            this.messages = messages;
+            this.deferred = deferred;
+            this.error = error;
+        }
+
+        private static Delivery deferred(List<NotificationMessage> messages) {
+            return new Delivery(messages, true, null);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package kream.shookream.service.order;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 배치에 담긴 주문 요청 1건
+ * 배치 트랜잭션 안에서는 결과만 기록하고, future 는 커밋 이후에 완료 -> 롤백된 결과가 호출자에게 새어나가지 않도록
+ */
+@Getter
+public class BatchOrderRequest {
+
+    private final Long memberId;
+    private final List<Long> ticketIds;
+    private final CompletableFuture<OrderResult> future = new CompletableFuture<>();
+
+    private OrderResult result;
+    private RuntimeException failure;
+
+    public BatchOrderRequest(Long memberId, List<Long> ticketIds) {
+        this.memberId = memberId;
+        this.ticketIds = ticketIds;
+    }
+
+    public void succeed(OrderResult result) {
+        this.result = result;
+    }
+
+    public void fail(RuntimeException failure) {
+        this.failure = failure;
+    }
+
+    public boolean isSucceeded() {
+        return this.result != null && this.failure == null;
+    }
+}
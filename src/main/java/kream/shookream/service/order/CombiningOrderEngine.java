@@ -0,0 +1,206 @@
+package kream.shookream.service.order;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kream.shookream.repository.EventStockRepository;
+import kream.shookream.repository.TicketRepository;
+import kream.shookream.service.facade.OrderFacade;
+import kream.shookream.service.stock.StockMode;
+import kream.shookream.service.stock.StockProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Flat-combining 주문 엔진
+ * 같은 이벤트에 대한 요청을 짧은 윈도우(또는 최대 배치 크기)만큼 모아 OrderBatchService 로 한 번에 처리
+ * -> 요청 수만큼 반복되던 트랜잭션 시작 / 이벤트 락 대기 / 커밋 비용을 배치 단위로 분산
+ *
+ * 단일 이벤트 주문 + DATABASE 모드 + 샤딩되지 않은 이벤트만 묶고, 나머지는 기존 OrderFacade 경로로 처리
+ * (컴바이너 스레드에서 확인한 샤딩 이벤트는 DirectOrderExecutor 풀로 넘김 -> 컴바이너 스레드는 배치만 처리)
+ * 외부 API(티켓 링크) 호출은 배치 트랜잭션에서 outbox 에 기록하고 커밋 이후 OutboxDispatcher 가 수행
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order.engine", name = "type", havingValue = "COMBINING")
+@RequiredArgsConstructor
+public class CombiningOrderEngine implements OrderEngine {
+
+    private final OrderBatchService orderBatchService;
+    private final OrderFacade orderFacade;
+    private final DirectOrderExecutor directOrderExecutor;
+    private final TicketRepository ticketRepository;
+    private final EventStockRepository eventStockRepository;
+    private final StockProperties stockProperties;
+    private final OrderEngineProperties orderEngineProperties;
+
+    private final ConcurrentHashMap<Long, EventBatch> batchByEventId = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService combinerExecutor;
+
+    @PostConstruct
+    void start() {
+        OrderEngineProperties.Combining combining = orderEngineProperties.getCombining();
+        combinerExecutor = Executors.newScheduledThreadPool(combining.getCombinerThreads(),
+                new CustomizableThreadFactory("order-combiner-"));
+    }
+
+    @PreDestroy
+    void stop() {
+        combinerExecutor.shutdown();
+    }
+
+    @Override
+    public CompletableFuture<OrderResult> submit(Long memberId, List<Long> ticketIds) {
+        if (stockProperties.getMode() != StockMode.DATABASE) {
+            return direct(memberId, ticketIds);
+        }
+
+        // 여러 이벤트에 걸친 주문(또는 존재하지 않는 티켓)은 묶지 않음
+        List<Long> eventIds = ticketRepository.findDistinctEventIdsByIdIn(ticketIds);
+        if (eventIds.size() != 1) {
+            return direct(memberId, ticketIds);
+        }
+
+        Long eventId = eventIds.get(0);
+        BatchOrderRequest request = new BatchOrderRequest(memberId, ticketIds);
+        batchByEventId.computeIfAbsent(eventId, EventBatch::new).enqueue(request);
+
+        return request.getFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> cancel(Long orderId) {
+        try {
+            orderFacade.cancelOrder(orderId);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private CompletableFuture<OrderResult> direct(Long memberId, List<Long> ticketIds) {
+        try {
+            return CompletableFuture.completedFuture(OrderResult.from(orderFacade.createOrder(memberId, ticketIds)));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void process(Long eventId, List<BatchOrderRequest> batch) {
+        try {
+            // 샤딩된 이벤트는 이미 이벤트 행 락 없이 처리됨 -> 묶을 이유가 없음
+            // 컴바이너 스레드에서 직접 실행하면 다른 이벤트의 배치가 밀리므로 전용 풀로 넘김
+            if (!eventStockRepository.findShardedByIdIn(List.of(eventId)).isEmpty()) {
+                batch.forEach(request -> directOrderExecutor.submit(request.getMemberId(), request.getTicketIds())
+                        .whenComplete((result, e) -> {
+                            if (e != null) {
+                                request.getFuture().completeExceptionally(e);
+                            } else {
+                                request.getFuture().complete(result);
+                            }
+                        }));
+                return;
+            }
+
+            orderBatchService.createOrders(eventId, batch);
+        } catch (RuntimeException e) {
+            // 락 획득 실패 / insert 실패 / 커밋 실패 -> 배치 전체 롤백
+            log.warn("주문 배치 처리 실패 eventId = {}, 요청 수 = {}, message = {}", eventId, batch.size(), e.getMessage());
+            batch.forEach(request -> request.getFuture().completeExceptionally(e));
+            return;
+        }
+
+        // 커밋 이후에 호출자에게 결과 전달
+        for (BatchOrderRequest request : batch) {
+            if (request.isSucceeded()) {
+                request.getFuture().complete(request.getResult());
+            } else {
+                request.getFuture().completeExceptionally(request.getFailure());
+            }
+        }
+    }
+
+    /**
+     * 이벤트별 대기열
+     * 첫 요청이 윈도우 타이머를 걸고, 타이머(또는 최대 배치 크기 도달)가 drain 을 실행
+     * drain 은 대기열이 빌 때까지 배치를 연속 처리 -> 처리 중에 쌓인 요청이 다음 배치가 됨
+     */
+    private final class EventBatch {
+
+        private final Long eventId;
+        private final Queue<BatchOrderRequest> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger(); // ConcurrentLinkedQueue.size() 는 O(n)
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile ScheduledFuture<?> pendingFlush;
+
+        private EventBatch(Long eventId) {
+            this.eventId = eventId;
+        }
+
+        void enqueue(BatchOrderRequest request) {
+            queue.add(request);
+            int pending = pendingCount.incrementAndGet();
+
+            if (scheduled.compareAndSet(false, true)) {
+                schedule();
+                return;
+            }
+
+            // 윈도우가 끝나기 전에 배치가 가득 차면 타이머를 취소하고 즉시 처리
+            ScheduledFuture<?> flush = pendingFlush;
+            if (pending >= orderEngineProperties.getCombining().getMaxBatchSize()
+                    && flush != null && flush.cancel(false)) {
+                combinerExecutor.execute(this::drain);
+            }
+        }
+
+        private void schedule() {
+            pendingFlush = combinerExecutor.schedule(this::drain,
+                    orderEngineProperties.getCombining().getWindowMs(), TimeUnit.MILLISECONDS);
+        }
+
+        private void drain() {
+            try {
+                List<BatchOrderRequest> batch = poll();
+                while (!batch.isEmpty()) {
+                    process(eventId, batch);
+                    batch = poll();
+                }
+            } finally {
+                scheduled.set(false);
+                // 플래그를 내리는 사이에 들어온 요청은 타이머를 걸지 못했으므로 여기서 다시 예약
+                if (pendingCount.get() > 0 && scheduled.compareAndSet(false, true)) {
+                    schedule();
+                }
+            }
+        }
+
+        private List<BatchOrderRequest> poll() {
+            int maxBatchSize = orderEngineProperties.getCombining().getMaxBatchSize();
+            List<BatchOrderRequest> batch = new ArrayList<>(maxBatchSize);
+
+            BatchOrderRequest request;
+            while (batch.size() < maxBatchSize && (request = queue.poll()) != null) {
+                batch.add(request);
+                pendingCount.decrementAndGet();
+            }
+            return batch;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package kream.shookream.service.order;
+
+import kream.shookream.service.facade.OrderFacade;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 호출 스레드에서 바로 OrderFacade 실행
+ */
+@Component
+@ConditionalOnProperty(prefix = "order.engine", name = "type", havingValue = "DIRECT", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DirectOrderEngine implements OrderEngine {
+
+    private final OrderFacade orderFacade;
+
+    @Override
+    public CompletableFuture<OrderResult> submit(Long memberId, List<Long> ticketIds) {
+        try {
+            return CompletableFuture.completedFuture(OrderResult.from(orderFacade.createOrder(memberId, ticketIds)));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> cancel(Long orderId) {
+        try {
+            orderFacade.cancelOrder(orderId);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
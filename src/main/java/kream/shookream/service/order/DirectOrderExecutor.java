@@ -0,0 +1,49 @@
+package kream.shookream.service.order;
+
+import jakarta.annotation.PostConstruct;
+import kream.shookream.global.executor.BoundedExecutorFactory;
+import kream.shookream.service.facade.OrderFacade;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 묶거나 파티션에 넣지 않는 주문 (샤딩된 이벤트 등) 을 전용 풀 (executors.pools.order-direct) 에서 기존 OrderFacade 경로로 실행
+ * -> 컴바이너 / 파티션 스레드가 트랜잭션을 기다리느라 다른 이벤트의 주문 처리를 멈추지 않음
+ * 풀이 가득 차면 RejectedExecutionException 으로 완료
+ */
+@Component
+@RequiredArgsConstructor
+public class DirectOrderExecutor {
+
+    private final OrderFacade orderFacade;
+    private final BoundedExecutorFactory boundedExecutorFactory;
+
+    private ExecutorService directExecutor;
+
+    @PostConstruct
+    void start() {
+        directExecutor = boundedExecutorFactory.create("order-direct");
+    }
+
+    // 비즈니스 예외는 CompletionException 으로 감싸지 않고 그대로 전달
+    public CompletableFuture<OrderResult> submit(Long memberId, List<Long> ticketIds) {
+        CompletableFuture<OrderResult> future = new CompletableFuture<>();
+        try {
+            directExecutor.execute(() -> {
+                try {
+                    future.complete(OrderResult.from(orderFacade.createOrder(memberId, ticketIds)));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+}
@@ -0,0 +1,91 @@
+package kream.shookream.service.order;
+
+import kream.shookream.domain.TicketStatus;
+import kream.shookream.domain.exception.SoldOutException;
+import kream.shookream.repository.TicketRepository;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 파티션이 소유하는 이벤트 1개의 재고 / 좌석 상태
+ * 해당 파티션 스레드만 접근하므로 동기화 없이 일반 컬렉션 사용
+ */
+@Getter
+class EventSeatState {
+
+    private final Long eventId;
+    private final String eventName;
+    private final boolean stockSharded;
+
+    private final Map<Long, Integer> priceByTicketId = new HashMap<>();
+    private final Set<Long> availableTicketIds = new HashSet<>();
+    private int remainingStock;
+
+    // 마지막으로 주문에 사용된 시각 (System.nanoTime) -> 오래 쓰이지 않은 상태는 파티션이 버림
+    private long lastAccessNanos = System.nanoTime();
+
+    EventSeatState(Long eventId, String eventName, boolean stockSharded, int remainingStock,
+                   List<TicketRepository.SeatView> seats) {
+        this.eventId = eventId;
+        this.eventName = eventName;
+        this.stockSharded = stockSharded;
+        this.remainingStock = remainingStock;
+
+        for (TicketRepository.SeatView seat : seats) {
+            priceByTicketId.put(seat.getId(), seat.getTicketPrice());
+            if (seat.getStatus() == TicketStatus.AVAILABLE) {
+                availableTicketIds.add(seat.getId());
+            }
+        }
+    }
+
+    /**
+     * 검증을 모두 통과해야 좌석과 재고를 차감 -> 실패하면 상태는 그대로
+     * 반환값은 주문 총액
+     */
+    int sell(List<Long> ticketIds) {
+        if (new HashSet<>(ticketIds).size() != ticketIds.size()) {
+            throw new IllegalArgumentException("중복된 티켓이 포함되어 있습니다.");
+        }
+
+        int totalAmount = 0;
+        for (Long ticketId : ticketIds) {
+            Integer price = priceByTicketId.get(ticketId);
+            if (price == null) {
+                throw new IllegalStateException("요청한 모든 티켓을 찾을 수 없습니다.");
+            }
+            if (!availableTicketIds.contains(ticketId)) {
+                throw new SoldOutException("이미 매진된 표입니다.");
+            }
+            totalAmount += price;
+        }
+
+        if (remainingStock < ticketIds.size()) {
+            throw new SoldOutException("표 재고가 부족합니다.");
+        }
+
+        ticketIds.forEach(availableTicketIds::remove);
+        remainingStock -= ticketIds.size();
+
+        return totalAmount;
+    }
+
+    // DB 반영 전에 제외된 주문 (회원 없음 등) 의 차감분을 되돌림
+    void release(List<Long> ticketIds) {
+        availableTicketIds.addAll(ticketIds);
+        remainingStock += ticketIds.size();
+    }
+
+    void touch(long nowNanos) {
+        this.lastAccessNanos = nowNanos;
+    }
+
+    int priceOf(Long ticketId) {
+        return priceByTicketId.get(ticketId);
+    }
+}
@@ -0,0 +1,140 @@
+package kream.shookream.service.order;
+
+import kream.shookream.domain.EventStock;
+import kream.shookream.domain.Member;
+import kream.shookream.domain.Order;
+import kream.shookream.domain.Ticket;
+import kream.shookream.domain.exception.SoldOutException;
+import kream.shookream.repository.EventStockRepository;
+import kream.shookream.repository.MemberRepository;
+import kream.shookream.repository.OrderBulkRepository;
+import kream.shookream.repository.TicketRepository;
+import kream.shookream.service.outbox.OutboxService;
+import kream.shookream.service.outbox.ParticipantRegistration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 같은 이벤트에 대한 주문 묶음을 한 트랜잭션으로 처리
+ * 재고 행 락 1회 -> 회원/티켓 일괄 조회 -> 요청별 메모리 검증 -> 주문/주문 티켓 batch insert + outbox 기록 -> 커밋 1회
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderBatchService {
+
+    private final EventStockRepository eventStockRepository;
+    private final MemberRepository memberRepository;
+    private final TicketRepository ticketRepository;
+    private final OrderBulkRepository orderBulkRepository;
+    private final OutboxService outboxService;
+
+    /**
+     * 요청별 성공/실패는 BatchOrderRequest 에 기록 -> 실패한 요청은 아무것도 변경하지 않았으므로 나머지 요청만 커밋
+     * 예외가 던져지면 (락 타임아웃, insert 실패 등) 배치 전체가 롤백됨
+     */
+    @Transactional
+    public void createOrders(Long eventId, List<BatchOrderRequest> requests) {
+        // 1. 배치 전체에 대해 재고 행 락 1회 -> 티켓보다 먼저 조회해야 영속성 컨텍스트에 락 이전 스냅샷이 올라오지 않음
+        EventStock stock = eventStockRepository.findWithPessimisticLockById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("이벤트 ID : " + eventId + " 를 찾을 수 없습니다."));
+
+        // 2. 배치에 포함된 회원 / 티켓을 한 번에 조회
+        Map<Long, Member> memberById = memberRepository.findAllById(requests.stream()
+                        .map(BatchOrderRequest::getMemberId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        Map<Long, Ticket> ticketById = ticketRepository.findAllById(requests.stream()
+                        .flatMap(request -> request.getTicketIds().stream())
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Ticket::getId, Function.identity()));
+
+        // 3. 요청 순서대로 검증 후 주문 생성 (티켓 SOLDOUT + 재고 차감은 Dirty Checking 으로 한 번에 반영)
+        List<Order> orders = new ArrayList<>();
+        List<BatchOrderRequest> acceptedRequests = new ArrayList<>();
+        for (BatchOrderRequest request : requests) {
+            try {
+                orders.add(createOrder(stock, request, memberById, ticketById));
+                acceptedRequests.add(request);
+            } catch (RuntimeException e) {
+                request.fail(e);
+            }
+        }
+
+        if (orders.isEmpty()) {
+            return;
+        }
+
+        // 4. 주문 / 주문 티켓 batch insert
+        List<Long> orderIds = orderBulkRepository.insertAll(orders);
+
+        // 5. 티켓 링크 참가 등록은 같은 트랜잭션에서 outbox 에 기록 -> 커밋 이후 OutboxDispatcher 가 호출
+        List<ParticipantRegistration> registrations = new ArrayList<>();
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            acceptedRequests.get(i).succeed(
+                    new OrderResult(orderIds.get(i), order.getStatus().name(), order.getTotalOrderAmount()));
+
+            registrations.add(ParticipantRegistration.builder()
+                    .orderId(orderIds.get(i))
+                    .memberId(order.getMember().getId())
+                    .eventIds(List.of(eventId))
+                    .eventNames(List.of(stock.getEvent().getEventName()))
+                    .phoneNumber(order.getMember().getPhoneNumber())
+                    .build());
+        }
+        outboxService.appendParticipantRegistrations(registrations);
+
+        log.debug("주문 배치 처리 eventId = {}, 요청 = {}, 성공 = {}", eventId, requests.size(), orders.size());
+    }
+
+    // 검증을 모두 통과한 뒤에만 엔티티를 변경 -> 실패한 요청이 배치의 다른 요청에 영향을 주지 않음
+    private Order createOrder(EventStock stock, BatchOrderRequest request,
+                              Map<Long, Member> memberById, Map<Long, Ticket> ticketById) {
+        Member member = memberById.get(request.getMemberId());
+        if (member == null) {
+            throw new IllegalArgumentException("회원을 찾을 수 없습니다");
+        }
+
+        if (new HashSet<>(request.getTicketIds()).size() != request.getTicketIds().size()) {
+            throw new IllegalArgumentException("중복된 티켓이 포함되어 있습니다.");
+        }
+
+        List<Ticket> tickets = request.getTicketIds().stream()
+                .map(ticketById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        if (tickets.size() != request.getTicketIds().size()) {
+            throw new IllegalStateException("요청한 모든 티켓을 찾을 수 없습니다.");
+        }
+
+        // 같은 배치의 앞선 요청이 이미 판매한 좌석도 여기서 걸러짐
+        for (Ticket ticket : tickets) {
+            if (!ticket.getEvent().getId().equals(stock.getEventId())) {
+                throw new IllegalStateException("같은 이벤트의 티켓만 묶어서 처리할 수 있습니다.");
+            }
+            if (!ticket.isAvailable()) {
+                throw new SoldOutException("이미 매진된 표입니다.");
+            }
+        }
+
+        if (stock.getCurrentTicketStockCount() < tickets.size()) {
+            throw new SoldOutException("표 재고가 부족합니다.");
+        }
+
+        return Order.createOrder(member, tickets, Map.of(stock.getEventId(), stock));
+    }
+}
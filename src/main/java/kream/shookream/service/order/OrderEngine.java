@@ -0,0 +1,35 @@
+package kream.shookream.service.order;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 주문 생성 진입점 -> order.engine.type 으로 구현체 선택
+ */
+public interface OrderEngine {
+
+    CompletableFuture<OrderResult> submit(Long memberId, List<Long> ticketIds);
+
+    CompletableFuture<Void> cancel(Long orderId);
+
+    // 결과가 나올 때까지 대기, 비즈니스 예외는 감싸지 않고 그대로 던짐
+    default OrderResult createOrder(Long memberId, List<Long> ticketIds) {
+        return await(submit(memberId, ticketIds));
+    }
+
+    default void cancelOrder(Long orderId) {
+        await(cancel(orderId));
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package kream.shookream.service.order;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.engine")
+public class OrderEngineProperties {
+
+    // 주문 처리 방식 (기본값: 요청별 트랜잭션)
+    private OrderEngineType type = OrderEngineType.DIRECT;
+
+    private final Combining combining = new Combining();
+
+    private final Partitioned partitioned = new Partitioned();
+
+    @Getter
+    @Setter
+    public static class Combining {
+        // 첫 요청이 들어온 뒤 배치를 모으는 시간
+        private long windowMs = 3;
+
+        // 윈도우가 끝나기 전이라도 이 개수가 모이면 즉시 처리
+        private int maxBatchSize = 64;
+
+        // 이벤트별 배치를 처리하는 스레드 수 (같은 이벤트의 배치는 한 번에 하나만 처리)
+        private int combinerThreads = 4;
+    }
+
+    @Getter
+    @Setter
+    public static class Partitioned {
+        // 단일 스레드 파티션 수 (이벤트 ID 해시로 배정)
+        private int partitionCount = Runtime.getRuntime().availableProcessors();
+
+        // 파티션이 한 번에 꺼내 DB 에 반영하는 최대 명령 수
+        private int maxBatchSize = 128;
+
+        // 파티션별 대기열 크기, 가득 차면 주문을 RejectedExecutionException 으로 거절
+        private int queueCapacity = 10000;
+
+        // 이 시간 동안 주문이 없던 이벤트의 메모리 상태는 버림 (다음 주문 때 DB 에서 다시 적재)
+        private long stateIdleSeconds = 300;
+    }
+}
@@ -0,0 +1,12 @@
+package kream.shookream.service.order;
+
+public enum OrderEngineType {
+    // 요청마다 트랜잭션 + 이벤트 락 (기존 방식)
+    DIRECT,
+
+    // 이벤트별로 짧은 시간 동안 모인 요청을 한 트랜잭션 / 한 번의 락 / 한 번의 batch insert 로 처리
+    COMBINING,
+
+    // 이벤트 ID 해시로 단일 스레드 파티션에 배정, 메모리 재고 / 좌석 상태로 처리한 뒤 batch 반영
+    PARTITIONED
+}
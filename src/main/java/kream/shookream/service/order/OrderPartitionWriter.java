@@ -0,0 +1,75 @@
+package kream.shookream.service.order;
+
+import kream.shookream.domain.TicketStatus;
+import kream.shookream.repository.EventStockJdbcRepository;
+import kream.shookream.repository.OrderBulkRepository;
+import kream.shookream.repository.TicketRepository;
+import kream.shookream.service.outbox.OutboxService;
+import kream.shookream.service.outbox.ParticipantRegistration;
+import kream.shookream.service.seat.SeatAvailabilityIndex;
+import kream.shookream.service.stock.stream.StockChangeTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 파티션이 메모리에서 확정한 주문 묶음을 한 트랜잭션으로 DB 에 반영
+ * 이벤트 행 락 없이 좌석 CAS + 재고 차감 + 주문 batch insert + outbox 기록
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderPartitionWriter {
+
+    private final TicketRepository ticketRepository;
+    private final EventStockJdbcRepository eventStockJdbcRepository;
+    private final OrderBulkRepository orderBulkRepository;
+    private final OutboxService outboxService;
+    private final SeatAvailabilityIndex seatAvailabilityIndex;
+    private final StockChangeTracker stockChangeTracker;
+
+    /**
+     * 메모리 상태와 DB 가 어긋났으면 (좌석 선점 등 다른 경로로 좌석 / 재고가 바뀜) StaleStateException -> 배치 전체 롤백
+     * 파티션은 해당 이벤트 상태를 다시 적재해 명령을 다시 적용하고, 좌석이 실제로 없어진 주문만 실패시킴
+     */
+    @Transactional
+    public List<Long> persist(List<OrderBulkRepository.OrderRow> orders, Map<Long, List<Long>> soldTicketIdsByEventId,
+                              List<ParticipantRegistration> registrations) {
+        soldTicketIdsByEventId.forEach((eventId, ticketIds) -> {
+            int claimedCount = ticketRepository.updateStatusIfCurrent(ticketIds, TicketStatus.AVAILABLE, TicketStatus.SOLDOUT);
+            if (claimedCount != ticketIds.size()) {
+                throw new StaleStateException("파티션 좌석 상태가 DB 와 일치하지 않습니다. eventId = " + eventId);
+            }
+            seatAvailabilityIndex.afterCommit(eventId, ticketIds, TicketStatus.SOLDOUT);
+
+            // 재고도 조건부로 차감 -> 좌석 선점(HOLD) 등 다른 경로로 줄어든 재고를 메모리가 모르더라도 초과 판매하지 않음
+            int updatedCount = eventStockJdbcRepository.decreaseIfAvailable(new TreeMap<>(Map.of(eventId, ticketIds.size())));
+            if (updatedCount != 1) {
+                throw new StaleStateException("파티션 재고 상태가 DB 와 일치하지 않습니다. eventId = " + eventId);
+            }
+        });
+        stockChangeTracker.afterCommit(soldTicketIdsByEventId.keySet());
+
+        List<Long> orderIds = orderBulkRepository.insertRows(orders);
+
+        // 티켓 링크 참가 등록은 같은 트랜잭션에서 outbox 에 기록 (orders 와 같은 순서)
+        List<ParticipantRegistration> registrationsWithOrderId = new ArrayList<>();
+        for (int i = 0; i < orderIds.size(); i++) {
+            registrationsWithOrderId.add(registrations.get(i).withOrderId(orderIds.get(i)));
+        }
+        outboxService.appendParticipantRegistrations(registrationsWithOrderId);
+
+        return orderIds;
+    }
+
+    // 메모리 상태가 DB 보다 오래됨 -> 다시 적재하면 해결되는 실패
+    static class StaleStateException extends IllegalStateException {
+        StaleStateException(String message) {
+            super(message);
+        }
+    }
+}
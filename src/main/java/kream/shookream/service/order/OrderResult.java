@@ -0,0 +1,26 @@
+package kream.shookream.service.order;
+
+import kream.shookream.domain.Order;
+import lombok.Getter;
+
+/**
+ * 주문 엔진이 호출자에게 돌려주는 결과
+ * 배치 insert 경로에서는 Order 엔티티가 영속화되지 않으므로 엔티티 대신 필요한 값만 전달
+ */
+@Getter
+public class OrderResult {
+
+    private final Long orderId;
+    private final String status;
+    private final Integer totalAmount;
+
+    public OrderResult(Long orderId, String status, Integer totalAmount) {
+        this.orderId = orderId;
+        this.status = status;
+        this.totalAmount = totalAmount;
+    }
+
+    public static OrderResult from(Order order) {
+        return new OrderResult(order.getId(), order.getStatus().name(), order.getTotalOrderAmount());
+    }
+}
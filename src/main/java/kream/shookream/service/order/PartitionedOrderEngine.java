@@ -0,0 +1,439 @@
+package kream.shookream.service.order;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kream.shookream.domain.Event;
+import kream.shookream.domain.EventStock;
+import kream.shookream.domain.Member;
+import kream.shookream.domain.OrderStatus;
+import kream.shookream.repository.EventRepository;
+import kream.shookream.repository.EventStockRepository;
+import kream.shookream.repository.MemberRepository;
+import kream.shookream.repository.OrderBulkRepository;
+import kream.shookream.repository.OrderRepository;
+import kream.shookream.repository.TicketRepository;
+import kream.shookream.service.facade.OrderFacade;
+import kream.shookream.service.outbox.ParticipantRegistration;
+import kream.shookream.service.stock.StockMode;
+import kream.shookream.service.stock.StockProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트 파티션 단일 writer 주문 엔진
+ * 이벤트 ID 해시로 N개 단일 스레드 파티션 중 하나에 배정 -> 파티션이 이벤트의 재고 / 좌석 상태를 메모리에 소유하고 순서대로 변경
+ * 같은 이벤트의 주문끼리는 DB 락 없이 직렬화되고, 서로 다른 이벤트는 코어 수만큼 병렬 처리
+ * 파티션이 한 번에 꺼낸 명령들은 OrderPartitionWriter 로 한 트랜잭션에 반영 (좌석 CAS + 재고 + 주문 batch insert + outbox)
+ *
+ * 한 주문의 티켓은 한 이벤트에 속해야 함 (여러 파티션에 걸친 주문은 거절)
+ * 취소도 해당 파티션에서 실행한 뒤 메모리 상태를 버려 다음 주문 때 DB 에서 다시 적재
+ * 좌석 선점 (HOLD) 등 다른 경로의 변경은 파티션이 모름 -> DB 반영 때 어긋남이 드러나면 해당 이벤트 상태를 다시 적재해 배치를 다시 적용
+ *
+ * 파티션 대기열은 크기 제한 (order.engine.partitioned.queue-capacity), 가득 차면 RejectedExecutionException 으로 거절
+ * 주문이 끊긴 이벤트의 메모리 상태는 state-idle-seconds 가 지나면 버림
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order.engine", name = "type", havingValue = "PARTITIONED")
+@RequiredArgsConstructor
+public class PartitionedOrderEngine implements OrderEngine {
+
+    private final OrderPartitionWriter orderPartitionWriter;
+    private final OrderFacade orderFacade;
+    private final DirectOrderExecutor directOrderExecutor;
+    private final EventRepository eventRepository;
+    private final EventStockRepository eventStockRepository;
+    private final MemberRepository memberRepository;
+    private final TicketRepository ticketRepository;
+    private final OrderRepository orderRepository;
+    private final StockProperties stockProperties;
+    private final OrderEngineProperties orderEngineProperties;
+
+    private Partition[] partitions;
+
+    @PostConstruct
+    void start() {
+        int partitionCount = orderEngineProperties.getPartitioned().getPartitionCount();
+        partitions = new Partition[partitionCount];
+        for (int partitionNo = 0; partitionNo < partitionCount; partitionNo++) {
+            partitions[partitionNo] = new Partition(partitionNo);
+            partitions[partitionNo].thread.start();
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        for (Partition partition : partitions) {
+            partition.thread.interrupt();
+        }
+    }
+
+    @Override
+    public CompletableFuture<OrderResult> submit(Long memberId, List<Long> ticketIds) {
+        // 메모리 상태는 DATABASE 모드의 이벤트 재고 컬럼을 기준으로 함
+        if (stockProperties.getMode() != StockMode.DATABASE) {
+            return direct(memberId, ticketIds);
+        }
+
+        List<Long> eventIds = ticketRepository.findDistinctEventIdsByIdIn(ticketIds);
+        if (eventIds.isEmpty()) {
+            return CompletableFuture.failedFuture(new IllegalStateException("요청한 모든 티켓을 찾을 수 없습니다."));
+        }
+        if (eventIds.size() > 1) {
+            return CompletableFuture.failedFuture(new IllegalStateException("한 주문에는 하나의 이벤트 티켓만 담을 수 있습니다."));
+        }
+
+        Long eventId = eventIds.get(0);
+        CreateCommand command = new CreateCommand(eventId, memberId, ticketIds);
+        if (!partitionOf(eventId).queue.offer(command)) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("주문 파티션 대기열이 가득 찼습니다. eventId = " + eventId));
+        }
+
+        return command.future;
+    }
+
+    @Override
+    public CompletableFuture<Void> cancel(Long orderId) {
+        if (stockProperties.getMode() != StockMode.DATABASE) {
+            return cancelDirect(orderId);
+        }
+
+        List<Long> eventIds = orderRepository.findDistinctEventIdsById(orderId);
+        if (eventIds.size() != 1) {
+            // 파티션 엔진 이전에 만들어진 여러 이벤트 주문 -> 기존 경로로 취소 후 관련 파티션 상태만 버림
+            CompletableFuture<Void> cancelled = cancelDirect(orderId);
+            eventIds.forEach(eventId -> {
+                // 대기열이 가득 차 버리지 못한 상태는 유휴 정리 / 재적재로 복구됨
+                if (!partitionOf(eventId).queue.offer(new EvictCommand(eventId))) {
+                    log.warn("주문 파티션 대기열이 가득 차 상태 폐기를 건너뜀 eventId = {}", eventId);
+                }
+            });
+            return cancelled;
+        }
+
+        CancelCommand command = new CancelCommand(eventIds.get(0), orderId);
+        if (!partitionOf(command.eventId).queue.offer(command)) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("주문 파티션 대기열이 가득 찼습니다. eventId = " + command.eventId));
+        }
+        return command.future;
+    }
+
+    private Partition partitionOf(Long eventId) {
+        return partitions[Math.floorMod(eventId.hashCode(), partitions.length)];
+    }
+
+    private CompletableFuture<OrderResult> direct(Long memberId, List<Long> ticketIds) {
+        try {
+            return CompletableFuture.completedFuture(OrderResult.from(orderFacade.createOrder(memberId, ticketIds)));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private CompletableFuture<Void> cancelDirect(Long orderId) {
+        try {
+            orderFacade.cancelOrder(orderId);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 단일 스레드 파티션
+     * 대기열에서 명령을 최대 배치 크기만큼 꺼내 메모리에서 순서대로 적용하고, 주문 생성분을 한 번에 DB 에 반영
+     */
+    private final class Partition implements Runnable {
+
+        private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>(orderEngineProperties.getPartitioned().getQueueCapacity());
+        private final Map<Long, EventSeatState> stateByEventId = new HashMap<>();
+        private final Thread thread;
+
+        private long lastEvictionNanos = System.nanoTime();
+
+        private Partition(int partitionNo) {
+            this.thread = new Thread(this, "order-partition-" + partitionNo);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            int maxBatchSize = orderEngineProperties.getPartitioned().getMaxBatchSize();
+            List<Object> commands = new ArrayList<>(maxBatchSize);
+
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    evictIdleStates();
+
+                    Object first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+
+                    commands.add(first);
+                    queue.drainTo(commands, maxBatchSize - 1);
+                    handle(commands);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    // 파티션 스레드는 죽으면 안 됨 -> 개별 명령의 실패는 handle 안에서 future 로 전달됨
+                    log.error("주문 파티션 처리 중 예외", e);
+                } finally {
+                    commands.clear();
+                }
+            }
+        }
+
+        private void handle(List<Object> commands) {
+            List<CreateCommand> pending = new ArrayList<>();
+
+            for (Object command : commands) {
+                if (command instanceof CreateCommand create) {
+                    if (apply(create)) {
+                        pending.add(create);
+                    }
+                    continue;
+                }
+
+                // 취소 / 상태 폐기 전에 앞선 주문을 먼저 반영해야 순서가 유지됨
+                flush(pending);
+                pending.clear();
+
+                if (command instanceof CancelCommand cancel) {
+                    applyCancel(cancel);
+                } else if (command instanceof EvictCommand evict) {
+                    stateByEventId.remove(evict.eventId);
+                }
+            }
+
+            flush(pending);
+        }
+
+        // 메모리 상태에 주문 적용, DB 반영 대상이면 true
+        private boolean apply(CreateCommand command) {
+            try {
+                EventSeatState state = stateOf(command.eventId);
+
+                // 샤딩된 이벤트는 이벤트 행 락 없이 샤드에서 차감 -> 메모리 상태 없이 기존 경로로 처리
+                // 파티션 스레드에서 트랜잭션을 기다리면 같은 파티션의 다른 이벤트가 멈추므로 전용 풀로 넘김
+                if (state.isStockSharded()) {
+                    directOrderExecutor.submit(command.memberId, command.ticketIds)
+                            .whenComplete((result, e) -> {
+                                if (e != null) {
+                                    command.future.completeExceptionally(e);
+                                } else {
+                                    command.future.complete(result);
+                                }
+                            });
+                    return false;
+                }
+
+                command.totalAmount = state.sell(command.ticketIds);
+                command.eventName = state.getEventName();
+                return true;
+            } catch (RuntimeException e) {
+                command.future.completeExceptionally(e);
+                return false;
+            }
+        }
+
+        private void flush(List<CreateCommand> pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            // 회원 확인 (배치당 조회 1회), 없는 회원의 주문은 메모리 차감분을 되돌리고 제외
+            Map<Long, Member> memberById = memberRepository.findAllById(pending.stream()
+                            .map(command -> command.memberId)
+                            .collect(Collectors.toSet()))
+                    .stream()
+                    .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+            List<CreateCommand> accepted = new ArrayList<>();
+            for (CreateCommand command : pending) {
+                Member member = memberById.get(command.memberId);
+                if (member == null) {
+                    stateByEventId.get(command.eventId).release(command.ticketIds);
+                    command.future.completeExceptionally(new IllegalArgumentException("회원을 찾을 수 없습니다"));
+                    continue;
+                }
+                command.phoneNumber = member.getPhoneNumber();
+                accepted.add(command);
+            }
+
+            if (accepted.isEmpty()) {
+                return;
+            }
+
+            persist(accepted, true);
+        }
+
+        // 어긋난 메모리 상태로 실패하면 한 번만 다시 적재해 재시도
+        private void persist(List<CreateCommand> accepted, boolean retryOnStale) {
+            LocalDateTime orderedAt = LocalDateTime.now();
+            List<OrderBulkRepository.OrderRow> rows = new ArrayList<>();
+            Map<Long, List<Long>> soldTicketIdsByEventId = new LinkedHashMap<>();
+            for (CreateCommand command : accepted) {
+                EventSeatState state = stateByEventId.get(command.eventId);
+                List<OrderBulkRepository.TicketLine> lines = command.ticketIds.stream()
+                        .map(ticketId -> new OrderBulkRepository.TicketLine(ticketId, state.priceOf(ticketId)))
+                        .collect(Collectors.toList());
+
+                rows.add(new OrderBulkRepository.OrderRow(command.memberId, orderedAt, command.totalAmount,
+                        OrderStatus.SUCCESS.name(), lines));
+                soldTicketIdsByEventId.computeIfAbsent(command.eventId, id -> new ArrayList<>()).addAll(command.ticketIds);
+            }
+
+            List<ParticipantRegistration> registrations = accepted.stream()
+                    .map(command -> ParticipantRegistration.builder()
+                            .memberId(command.memberId)
+                            .eventIds(List.of(command.eventId))
+                            .eventNames(List.of(command.eventName))
+                            .phoneNumber(command.phoneNumber)
+                            .build())
+                    .collect(Collectors.toList());
+
+            List<Long> orderIds;
+            try {
+                orderIds = orderPartitionWriter.persist(rows, soldTicketIdsByEventId, registrations);
+            } catch (OrderPartitionWriter.StaleStateException e) {
+                if (!retryOnStale) {
+                    failAll(accepted, soldTicketIdsByEventId, e);
+                    return;
+                }
+                log.info("주문 파티션 상태가 DB 와 달라 다시 적재 events = {}, message = {}", soldTicketIdsByEventId.keySet(), e.getMessage());
+                reapply(accepted, soldTicketIdsByEventId);
+                return;
+            } catch (RuntimeException e) {
+                // 롤백됨 -> 메모리 상태를 버리고 다음 주문 때 DB 에서 다시 적재
+                failAll(accepted, soldTicketIdsByEventId, e);
+                return;
+            }
+
+            for (int i = 0; i < accepted.size(); i++) {
+                CreateCommand command = accepted.get(i);
+                command.future.complete(new OrderResult(orderIds.get(i), OrderStatus.SUCCESS.name(), command.totalAmount));
+            }
+        }
+
+        private void failAll(List<CreateCommand> accepted, Map<Long, List<Long>> soldTicketIdsByEventId, RuntimeException e) {
+            log.warn("주문 파티션 반영 실패 events = {}, 주문 수 = {}, message = {}",
+                    soldTicketIdsByEventId.keySet(), accepted.size(), e.getMessage());
+            soldTicketIdsByEventId.keySet().forEach(stateByEventId::remove);
+            accepted.forEach(command -> command.future.completeExceptionally(e));
+        }
+
+        // 롤백됨 -> 관련 이벤트 상태를 DB 에서 다시 적재한 뒤 같은 순서로 다시 적용, 좌석 / 재고가 실제로 없어진 주문만 실패
+        private void reapply(List<CreateCommand> accepted, Map<Long, List<Long>> soldTicketIdsByEventId) {
+            soldTicketIdsByEventId.keySet().forEach(stateByEventId::remove);
+
+            List<CreateCommand> reapplied = new ArrayList<>();
+            for (CreateCommand command : accepted) {
+                if (apply(command)) {
+                    reapplied.add(command);
+                }
+            }
+
+            if (!reapplied.isEmpty()) {
+                persist(reapplied, false);
+            }
+        }
+
+        private void evictIdleStates() {
+            long now = System.nanoTime();
+            if (now - lastEvictionNanos < TimeUnit.SECONDS.toNanos(1)) {
+                return;
+            }
+            lastEvictionNanos = now;
+
+            long idleNanos = TimeUnit.SECONDS.toNanos(orderEngineProperties.getPartitioned().getStateIdleSeconds());
+            stateByEventId.values().removeIf(state -> now - state.getLastAccessNanos() > idleNanos);
+        }
+
+        private void applyCancel(CancelCommand command) {
+            try {
+                orderFacade.cancelOrder(command.orderId);
+                command.future.complete(null);
+            } catch (RuntimeException e) {
+                command.future.completeExceptionally(e);
+            } finally {
+                // 좌석 / 재고가 DB 에서 복구됨 -> 다음 주문 때 다시 적재
+                stateByEventId.remove(command.eventId);
+            }
+        }
+
+        private EventSeatState stateOf(Long eventId) {
+            EventSeatState state = stateByEventId.get(eventId);
+            if (state != null) {
+                state.touch(System.nanoTime());
+                return state;
+            }
+
+            Event event = eventRepository.findById(eventId)
+                    .orElseThrow(() -> new IllegalArgumentException("이벤트 ID : " + eventId + " 를 찾을 수 없습니다."));
+            EventStock stock = eventStockRepository.findById(eventId)
+                    .orElseThrow(() -> new IllegalArgumentException("이벤트 ID : " + eventId + " 의 재고를 찾을 수 없습니다."));
+
+            state = new EventSeatState(eventId, event.getEventName(), stock.isStockSharded(),
+                    stock.getCurrentTicketStockCount(), ticketRepository.findSeatsByEventId(eventId));
+            stateByEventId.put(eventId, state);
+
+            log.info("파티션 상태 적재 thread = {}, eventId = {}, 재고 = {}, 좌석 = {}",
+                    thread.getName(), eventId, state.getRemainingStock(), state.getPriceByTicketId().size());
+            return state;
+        }
+    }
+
+    private static final class CreateCommand {
+        private final Long eventId;
+        private final Long memberId;
+        private final List<Long> ticketIds;
+        private final CompletableFuture<OrderResult> future = new CompletableFuture<>();
+
+        // 파티션 스레드에서만 기록 / 조회
+        private int totalAmount;
+        private String eventName;
+        private String phoneNumber;
+
+        private CreateCommand(Long eventId, Long memberId, List<Long> ticketIds) {
+            this.eventId = eventId;
+            this.memberId = memberId;
+            this.ticketIds = ticketIds;
+        }
+    }
+
+    private static final class CancelCommand {
+        private final Long eventId;
+        private final Long orderId;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private CancelCommand(Long eventId, Long orderId) {
+            this.eventId = eventId;
+            this.orderId = orderId;
+        }
+    }
+
+    private static final class EvictCommand {
+        private final Long eventId;
+
+        private EvictCommand(Long eventId) {
+            this.eventId = eventId;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package kream.shookream.service.order.history;
+
+import kream.shookream.repository.dto.OrderHistoryView;
+import kream.shookream.repository.dto.OrderLineView;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 주문 내역 1건, lines 는 expand 요청 시에만 채움 (아니면 null)
+ */
+@Getter
+public class MemberOrder {
+
+    private final OrderHistoryView order;
+    private final List<OrderLineView> lines;
+
+    public MemberOrder(OrderHistoryView order, List<OrderLineView> lines) {
+        this.order = order;
+        this.lines = lines;
+    }
+}
@@ -0,0 +1,23 @@
+package kream.shookream.service.order.history;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class MemberOrderPage {
+
+    private final List<MemberOrder> orders;
+
+    // 다음 페이지가 없으면 null
+    private final String nextCursor;
+
+    public MemberOrderPage(List<MemberOrder> orders, String nextCursor) {
+        this.orders = orders;
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
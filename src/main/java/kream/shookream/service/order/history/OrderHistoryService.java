@@ -0,0 +1,63 @@
+package kream.shookream.service.order.history;
+
+import kream.shookream.global.pagination.KeysetCursor;
+import kream.shookream.repository.OrderHistoryRepository;
+import kream.shookream.repository.dto.OrderHistoryView;
+import kream.shookream.repository.dto.OrderLineView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 주문 내역 조회
+ * 페이지당 쿼리 수 고정 : 주문 목록 1회 + (expand 시) 주문 티켓 IN 조회 1회
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderHistoryService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final OrderHistoryRepository orderHistoryRepository;
+
+    public MemberOrderPage findOrders(Long memberId, String cursor, Integer size, boolean expandLines) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        KeysetCursor pageCursor = cursor == null ? null : KeysetCursor.decode(cursor);
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<OrderHistoryView> rows = orderHistoryRepository.findPageByMemberId(memberId,
+                pageCursor == null ? null : pageCursor.getTime(),
+                pageCursor == null ? null : pageCursor.getId(),
+                pageSize + 1);
+
+        List<OrderHistoryView> orders = rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+
+        Map<Long, List<OrderLineView>> linesByOrderId = expandLines
+                ? orderHistoryRepository.findLinesByOrderIds(orders.stream().map(OrderHistoryView::getOrderId).toList())
+                        .stream()
+                        .collect(Collectors.groupingBy(OrderLineView::getOrderId))
+                : null;
+
+        List<MemberOrder> memberOrders = orders.stream()
+                .map(order -> new MemberOrder(order, linesByOrderId == null
+                        ? null
+                        : linesByOrderId.getOrDefault(order.getOrderId(), Collections.emptyList())))
+                .toList();
+
+        if (rows.size() <= pageSize) {
+            return new MemberOrderPage(memberOrders, null);
+        }
+
+        OrderHistoryView last = orders.get(pageSize - 1);
+        return new MemberOrderPage(memberOrders, new KeysetCursor(last.getOrderedAt(), last.getOrderId()).encode());
+    }
+}
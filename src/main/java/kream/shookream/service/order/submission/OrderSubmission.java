@@ -0,0 +1,47 @@
+package kream.shookream.service.order.submission;
+
+import kream.shookream.service.order.OrderResult;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 비동기 주문 접수 1건의 진행 상태
+ * 처리 스레드가 한 번만 완료시키고, 조회 / SSE 구독은 volatile 필드를 읽음
+ */
+@Getter
+public class OrderSubmission {
+
+    private final String token;
+    private final Long memberId;
+    private final LocalDateTime submittedAt;
+
+    private volatile OrderSubmissionStatus status = OrderSubmissionStatus.PENDING;
+    private volatile OrderResult result;
+    private volatile String failureReason;
+    private volatile LocalDateTime completedAt;
+
+    // 결과를 기다리는 SSE 구독자
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    public OrderSubmission(String token, Long memberId, LocalDateTime submittedAt) {
+        this.token = token;
+        this.memberId = memberId;
+        this.submittedAt = submittedAt;
+    }
+
+    void confirm(OrderResult result, LocalDateTime now) {
+        this.result = result;
+        this.completedAt = now;
+        this.status = OrderSubmissionStatus.CONFIRMED;
+    }
+
+    void fail(String failureReason, LocalDateTime now) {
+        this.failureReason = failureReason;
+        this.completedAt = now;
+        this.status = OrderSubmissionStatus.FAILED;
+    }
+}
@@ -0,0 +1,20 @@
+package kream.shookream.service.order.submission;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.submission")
+public class OrderSubmissionProperties {
+
+    // 완료된 접수 결과를 조회할 수 있는 시간
+    private long retentionSeconds = 600;
+
+    // SSE 연결 유지 시간 (이후 클라이언트가 재연결하거나 상태 조회)
+    private long sseTimeoutSeconds = 60;
+
+    // 보존 시간이 지난 접수 정리 주기
+    private long cleanupIntervalMs = 60000;
+}
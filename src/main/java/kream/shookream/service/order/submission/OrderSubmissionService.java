@@ -0,0 +1,170 @@
+package kream.shookream.service.order.submission;
+
+import jakarta.annotation.PostConstruct;
+import kream.shookream.global.executor.BoundedExecutorFactory;
+import kream.shookream.service.order.OrderEngine;
+import kream.shookream.service.order.OrderResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 비동기 주문 접수
+ * 요청 스레드는 입력 검증 + 접수 토큰 발급만 하고 바로 반환 (202)
+ * 주문 처리는 이름 붙은 풀 (executors.pools.order-submit) 에서 OrderEngine 으로 수행 -> 풀 크기가 곧 백엔드 처리 속도
+ * COMBINING / PARTITIONED 엔진은 submit 이 바로 반환하므로 풀 스레드가 결과를 기다림 -> 엔진에 동시에 들어가는 주문도 풀 크기까지만
+ * 풀 대기열이 가득 차면 접수 자체를 거절 (RejectedExecutionException -> 503)
+ *
+ * 진행 상태는 토큰으로 조회하거나 SSE 로 구독 (PENDING -> CONFIRMED / FAILED)
+ * 상태는 이 인스턴스의 메모리에만 있음 -> 여러 인스턴스로 띄울 때는 토큰 조회가 같은 인스턴스로 가도록 라우팅해야 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderSubmissionService {
+
+    private final OrderEngine orderEngine;
+    private final BoundedExecutorFactory boundedExecutorFactory;
+    private final OrderSubmissionProperties orderSubmissionProperties;
+
+    private final Map<String, OrderSubmission> submissionByToken = new ConcurrentHashMap<>();
+
+    private ExecutorService submitExecutor;
+
+    @PostConstruct
+    void start() {
+        submitExecutor = boundedExecutorFactory.create("order-submit");
+    }
+
+    public OrderSubmission submit(Long memberId, List<Long> ticketIds) {
+        if (memberId == null) {
+            throw new IllegalArgumentException("회원 ID 가 필요합니다.");
+        }
+        if (ticketIds == null || ticketIds.isEmpty()) {
+            throw new IllegalArgumentException("주문할 티켓이 없습니다.");
+        }
+        if (new HashSet<>(ticketIds).size() != ticketIds.size()) {
+            throw new IllegalArgumentException("중복된 티켓이 포함되어 있습니다.");
+        }
+
+        OrderSubmission submission = new OrderSubmission(UUID.randomUUID().toString(), memberId, LocalDateTime.now());
+        submissionByToken.put(submission.getToken(), submission);
+
+        try {
+            submitExecutor.execute(() -> process(submission, List.copyOf(ticketIds)));
+        } catch (RuntimeException e) {
+            submissionByToken.remove(submission.getToken());
+            throw e;
+        }
+
+        return submission;
+    }
+
+    public Optional<OrderSubmission> find(String token) {
+        return Optional.ofNullable(submissionByToken.get(token));
+    }
+
+    /**
+     * 현재 상태를 바로 보내고, 아직 처리 중이면 완료될 때 최종 상태를 한 번 더 보낸 뒤 연결 종료
+     * 최종 상태는 정확히 한 번만 전송
+     */
+    public SseEmitter subscribe(String token) {
+        OrderSubmission submission = find(token)
+                .orElseThrow(() -> new IllegalArgumentException("주문 접수 정보를 찾을 수 없습니다. token = " + token));
+
+        SseEmitter emitter = newEmitter();
+        emitter.onCompletion(() -> submission.getEmitters().remove(emitter));
+        emitter.onTimeout(() -> submission.getEmitters().remove(emitter));
+
+        // 상태를 한 번만 읽어 보냄 -> 이미 완료됐으면 최종 상태를 보내고 바로 종료
+        OrderSubmissionView current = OrderSubmissionView.from(submission);
+        if (current.getStatus().isTerminal()) {
+            sendAndComplete(emitter, current);
+            return emitter;
+        }
+        if (!send(emitter, current)) {
+            return emitter;
+        }
+
+        submission.getEmitters().add(emitter);
+
+        // 등록하는 사이에 완료됐으면 완료 알림을 놓쳤을 수 있음 -> 목록에서 먼저 꺼낸 쪽이 한 번만 전송
+        if (submission.getStatus().isTerminal() && submission.getEmitters().remove(emitter)) {
+            sendAndComplete(emitter, OrderSubmissionView.from(submission));
+        }
+        return emitter;
+    }
+
+    private void process(OrderSubmission submission, List<Long> ticketIds) {
+        // 엔진 결과가 나올 때까지 풀 스레드를 잡고 있음 -> 풀 크기가 엔진 동시성 상한
+        OrderResult result;
+        try {
+            result = orderEngine.submit(submission.getMemberId(), ticketIds).join();
+        } catch (RuntimeException e) {
+            complete(submission, null, e);
+            return;
+        }
+        complete(submission, result, null);
+    }
+
+    private void complete(OrderSubmission submission, OrderResult result, Throwable error) {
+        LocalDateTime now = LocalDateTime.now();
+        if (error == null) {
+            submission.confirm(result, now);
+        } else {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            submission.fail(cause.getMessage(), now);
+        }
+
+        OrderSubmissionView view = OrderSubmissionView.from(submission);
+        for (SseEmitter emitter : submission.getEmitters()) {
+            if (submission.getEmitters().remove(emitter)) {
+                sendAndComplete(emitter, view);
+            }
+        }
+    }
+
+    // 완료된 접수는 보존 시간이 지나면 정리
+    @Scheduled(fixedDelayString = "${order.submission.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minusSeconds(orderSubmissionProperties.getRetentionSeconds());
+        submissionByToken.values().removeIf(submission -> submission.getStatus().isTerminal()
+                && submission.getCompletedAt().isBefore(threshold));
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(orderSubmissionProperties.getSseTimeoutSeconds() * 1000);
+    }
+
+    private void sendAndComplete(SseEmitter emitter, OrderSubmissionView view) {
+        if (send(emitter, view)) {
+            emitter.complete();
+        }
+    }
+
+    private boolean send(SseEmitter emitter, OrderSubmissionView view) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("status")
+                    .data(view));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 먼저 끊음
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package kream.shookream.service.order.submission;
+
+public enum OrderSubmissionStatus {
+    // 접수 후 처리 대기 / 처리 중
+    PENDING,
+
+    // 주문 생성 완료
+    CONFIRMED,
+
+    // 매진 / 재고 부족 등으로 주문 실패
+    FAILED;
+
+    public boolean isTerminal() {
+        return this != PENDING;
+    }
+}
@@ -0,0 +1,38 @@
+package kream.shookream.service.order.submission;
+
+import kream.shookream.service.order.OrderResult;
+import lombok.Getter;
+
+/**
+ * 접수 상태 응답 (조회 / SSE 공용)
+ */
+@Getter
+public class OrderSubmissionView {
+
+    private final String token;
+    private final OrderSubmissionStatus status;
+    private final Long orderId;
+    private final Integer totalAmount;
+    private final String failureReason;
+
+    private OrderSubmissionView(String token, OrderSubmissionStatus status, Long orderId, Integer totalAmount, String failureReason) {
+        this.token = token;
+        this.status = status;
+        this.orderId = orderId;
+        this.totalAmount = totalAmount;
+        this.failureReason = failureReason;
+    }
+
+    public static OrderSubmissionView from(OrderSubmission submission) {
+        // 상태를 먼저 읽음 -> CONFIRMED 이면 result 는 이미 기록되어 있음
+        OrderSubmissionStatus status = submission.getStatus();
+        OrderResult result = submission.getResult();
+        return new OrderSubmissionView(
+                submission.getToken(),
+                status,
+                status == OrderSubmissionStatus.CONFIRMED ? result.getOrderId() : null,
+                status == OrderSubmissionStatus.CONFIRMED ? result.getTotalAmount() : null,
+                status == OrderSubmissionStatus.FAILED ? submission.getFailureReason() : null
+        );
+    }
+}
@@ -0,0 +1,216 @@
+package kream.shookream.service.outbox;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kream.shookream.domain.OutboxMessage;
+import kream.shookream.external.BatchingExternalEventClient;
+import kream.shookream.external.ExternalCallGuard;
+import kream.shookream.external.dto.ExternalEventResponse;
+import kream.shookream.external.event.EventJoinCompletedEvent;
+import kream.shookream.domain.Order;
+import kream.shookream.domain.OrderStatus;
+import kream.shookream.repository.OrderRepository;
+import kream.shookream.repository.OutboxMessageRepository;
+import kream.shookream.service.order.OrderEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * outbox 디스패처 (후보정)
+ * 1. 짧은 트랜잭션으로 발행 대상을 SKIP LOCKED 로 가져와 임대 (lease) -> 커밋
+ * 2. 락 / 커넥션 없이 외부 API 호출 (BatchingExternalEventClient 가 일괄 등록으로 묶음)
+ * 3. 짧은 트랜잭션으로 결과 반영 : 성공 / 재시도 예약 (지수 백오프) / 보상 대기 (COMPENSATING)
+ * 4. 보상 대기 메시지를 같은 방식으로 임대해 주문 취소 -> 취소가 커밋된 뒤에만 COMPENSATED 로 완료, 실패하면 백오프 후 다시 시도
+ *    (결과 반영과 취소 사이에 죽어도 COMPENSATING 으로 남으므로 팔린 채 등록도 취소도 안 된 주문이 생기지 않음)
+ *    취소가 계속 실패하면 (주문 없음, 도메인 규칙 위반 등) max-compensation-attempts 후 FAILED 로 멈추고 메트릭 / 에러 로그로 알림
+ * 성공한 주문만 카카오톡 알림
+ *
+ * 외부 호출 결과는 실제 완료까지 기다림 (ExternalCallGuard 데드라인이 상한) -> 진행 중인 호출을 미뤄 두고 다시 보내지 않음
+ * 임대가 만료되어 다른 디스패처가 같은 메시지를 다시 보내더라도 outbox ID 를 멱등 키로 보내므로 티켓 링크에는 한 번만 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxDispatcher {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final OrderRepository orderRepository;
+    private final OutboxService outboxService;
+    private final BatchingExternalEventClient batchingExternalEventClient;
+    private final OrderEngine orderEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties outboxProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:200}")
+    public void dispatch() {
+        List<OutboxMessage> claimed;
+        do {
+            claimed = transactionTemplate.execute(status -> claim(false));
+            if (claimed == null || claimed.isEmpty()) {
+                break;
+            }
+            publish(claimed);
+        } while (claimed.size() == outboxProperties.getBatchSize()); // 가득 찼으면 밀린 메시지가 더 있을 수 있음
+
+        do {
+            claimed = transactionTemplate.execute(status -> claim(true));
+            if (claimed == null || claimed.isEmpty()) {
+                return;
+            }
+            claimed.forEach(this::compensate);
+        } while (claimed.size() == outboxProperties.getBatchSize());
+    }
+
+    private List<OutboxMessage> claim(boolean compensation) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> messages = compensation
+                ? outboxMessageRepository.findCompensatableForUpdate(now, outboxProperties.getBatchSize())
+                : outboxMessageRepository.findDispatchableForUpdate(now, outboxProperties.getBatchSize());
+        messages.forEach(message -> message.getLease().lease(now.plusSeconds(outboxProperties.getLeaseSeconds())));
+        return messages;
+    }
+
+    private void publish(List<OutboxMessage> messages) {
+        // 외부 API 는 트랜잭션 밖에서 일괄 호출
+        List<CompletableFuture<Delivery>> futures = messages.stream()
+                .map(this::submit)
+                .collect(Collectors.toList());
+
+        List<Delivery> deliveries = futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+
+        transactionTemplate.executeWithoutResult(status -> record(deliveries));
+    }
+
+    // 등록 요청은 BatchingExternalEventClient 가 일괄 호출로 묶고, 응답이 오면 건별 결과로 변환
+    private CompletableFuture<Delivery> submit(OutboxMessage message) {
+        ParticipantRegistration registration;
+        try {
+            registration = outboxService.readParticipantRegistration(message);
+        } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(new Delivery(message, null, Outcome.FAILED, e.getMessage()));
+        }
+
+        return batchingExternalEventClient.registerParticipant(idempotencyKey(message),
+                        registration.getEventIds(), registration.getMemberId(), registration.getEventNames())
+                .handle((response, error) -> toDelivery(message, registration, response, error));
+    }
+
+    private Delivery toDelivery(OutboxMessage message, ParticipantRegistration registration,
+                                ExternalEventResponse response, Throwable error) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+
+            // 호출 풀 포화 / 서킷 열림 / 벌크헤드 포화 -> 시도하지 못했으므로 outbox 에 되돌림
+            if (ExternalCallGuard.isShed(cause)) {
+                return new Delivery(message, registration, Outcome.DEFERRED, null);
+            }
+            // 타임아웃 / 일시 장애 -> 재시도, 소진되면 거절과 같이 보상
+            Outcome outcome = message.getLease().getAttemptCount() >= outboxProperties.getMaxAttempts() ? Outcome.REJECTED : Outcome.RETRY;
+            return new Delivery(message, registration, outcome, cause.getMessage());
+        }
+
+        if (response.isSuccess()) {
+            return new Delivery(message, registration, Outcome.PUBLISHED, null);
+        }
+        // 외부 시스템이 명시적으로 거절 -> 재시도해도 같은 결과
+        return new Delivery(message, registration, Outcome.REJECTED, response.getErrorMessage());
+    }
+
+    private void record(List<Delivery> deliveries) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, OutboxMessage> messageById = outboxMessageRepository.findAllById(deliveries.stream()
+                        .map(delivery -> delivery.message.getId())
+                        .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(OutboxMessage::getId, Function.identity()));
+
+        for (Delivery delivery : deliveries) {
+            OutboxMessage message = messageById.get(delivery.message.getId());
+            switch (delivery.outcome) {
+                case PUBLISHED -> {
+                    message.markPublished(now);
+                    // 카카오톡 알림은 같은 트랜잭션에서 알림 큐에 적재 (EventJoinEventListener)
+                    eventPublisher.publishEvent(new EventJoinCompletedEvent(
+                            delivery.registration.getEventIds(),
+                            delivery.registration.getEventNames(),
+                            delivery.registration.getPhoneNumber()
+                    ));
+                }
+                case RETRY -> message.getLease().scheduleRetry(now, outboxProperties.getBaseBackoffMs(), outboxProperties.getMaxBackoffMs(), delivery.error);
+                // 보상 대기로 기록만 하고 취소는 커밋 이후 compensate 에서 수행
+                case REJECTED, FAILED -> message.startCompensation(now, delivery.error);
+                case DEFERRED -> message.getLease().defer(now.plus(Duration.ofMillis(outboxProperties.getBaseBackoffMs())));
+            }
+        }
+    }
+
+    // 보상 : 주문 취소 (좌석 / 재고 복구), 취소가 커밋된 뒤에만 완료로 기록
+    private void compensate(OutboxMessage message) {
+        Long orderId = message.getAggregateId();
+        try {
+            // 이미 취소된 주문 (사용자 취소, 취소 커밋 후 완료 기록 전에 죽은 경우) 은 다시 취소하지 않음
+            boolean alreadyCanceled = orderRepository.findById(orderId)
+                    .map(Order::getStatus)
+                    .filter(OrderStatus.CANCELED::equals)
+                    .isPresent();
+            if (!alreadyCanceled) {
+                orderEngine.cancelOrder(orderId);
+                log.warn("티켓 링크 등록 실패로 주문 취소 orderId = {}, message = {}", orderId, message.getLease().getLastError());
+            }
+            transactionTemplate.executeWithoutResult(status -> outboxMessageRepository.findById(message.getId())
+                    .ifPresent(compensated -> compensated.markCompensated(LocalDateTime.now())));
+        } catch (RuntimeException e) {
+            if (message.getLease().getAttemptCount() >= outboxProperties.getMaxCompensationAttempts()) {
+                log.error("보상 취소 재시도 소진, 수동 처리 필요 orderId = {}, outboxId = {}, message = {}", orderId, message.getId(), e.getMessage());
+                meterRegistry.counter("outbox.compensation.failed").increment();
+                transactionTemplate.executeWithoutResult(status -> outboxMessageRepository.findById(message.getId())
+                        .ifPresent(failed -> failed.markFailed(LocalDateTime.now(), e.getMessage())));
+                return;
+            }
+
+            // COMPENSATING 으로 남겨 두고 백오프 후 다시 취소
+            log.error("보상 취소 실패 orderId = {}, attempt = {}, message = {}", orderId, message.getLease().getAttemptCount(), e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> outboxMessageRepository.findById(message.getId())
+                    .ifPresent(failed -> failed.getLease().scheduleRetry(LocalDateTime.now(),
+                            outboxProperties.getBaseBackoffMs(), outboxProperties.getMaxBackoffMs(), e.getMessage())));
+        }
+    }
+
+    private String idempotencyKey(OutboxMessage message) {
+        return "outbox-" + message.getId();
+    }
+
+    private enum Outcome {
+        PUBLISHED, RETRY, REJECTED, FAILED, DEFERRED
+    }
+
+    private static final class Delivery {
+        private final OutboxMessage message;
+        private final ParticipantRegistration registration;
+        private final Outcome outcome;
+        private final String error;
+
+        private Delivery(OutboxMessage message, ParticipantRegistration registration, Outcome outcome, String error) {
+            this.message = message;
+            this.registration = registration;
+            this.outcome = outcome;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package kream.shookream.service.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    // 발행 대상 조회 주기
+    private long pollIntervalMs = 200;
+
+    // 한 번에 가져와 발행하는 최대 메시지 수
+    private int batchSize = 100;
+
+    // 발행 중 다른 디스패처가 가져가지 못하는 시간 (도중에 죽으면 이후 재발행)
+    private long leaseSeconds = 30;
+
+    // 예외(타임아웃 등) 재시도 횟수, 소진되면 보상 처리
+    private int maxAttempts = 5;
+
+    // 보상 (주문 취소) 재시도 횟수, 소진되면 FAILED 로 남기고 알림 (outbox.compensation.failed)
+    private int maxCompensationAttempts = 10;
+    private long baseBackoffMs = 1000;
+    private long maxBackoffMs = 60000;
+}
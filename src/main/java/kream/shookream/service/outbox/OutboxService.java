@@ -0,0 +1,63 @@
+package kream.shookream.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kream.shookream.domain.OutboxMessage;
+import kream.shookream.domain.OutboxMessageType;
+import kream.shookream.repository.OutboxMessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 트랜잭션 안에서 외부 연동 요청을 outbox 테이블에 기록
+ * 주문이 커밋되어야 메시지도 남고, 롤백되면 메시지도 사라짐 -> 외부 호출은 OutboxDispatcher 가 커밋 이후에 수행
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final ObjectMapper objectMapper;
+
+    // 주문 트랜잭션 밖에서 호출되면 주문과 원자적으로 기록되지 않으므로 예외
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendParticipantRegistration(ParticipantRegistration registration) {
+        appendParticipantRegistrations(List.of(registration));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendParticipantRegistrations(List<ParticipantRegistration> registrations) {
+        LocalDateTime now = LocalDateTime.now();
+
+        outboxMessageRepository.saveAll(registrations.stream()
+                .map(registration -> OutboxMessage.builder()
+                        .messageType(OutboxMessageType.PARTICIPANT_REGISTRATION)
+                        .aggregateId(registration.getOrderId())
+                        .payload(toJson(registration))
+                        .createdAt(now)
+                        .build())
+                .collect(Collectors.toList()));
+    }
+
+    public ParticipantRegistration readParticipantRegistration(OutboxMessage message) {
+        try {
+            return objectMapper.readValue(message.getPayload(), ParticipantRegistration.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox payload 를 읽을 수 없습니다. outboxId = " + message.getId(), e);
+        }
+    }
+
+    private String toJson(ParticipantRegistration registration) {
+        try {
+            return objectMapper.writeValueAsString(registration);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox payload 를 만들 수 없습니다. orderId = " + registration.getOrderId(), e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package kream.shookream.service.outbox;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * outbox payload : 상위 회사 (티켓 링크) 참가 등록 + 등록 후 카카오톡 알림에 필요한 값
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ParticipantRegistration {
+
+    private Long orderId;
+    private Long memberId;
+    private List<Long> eventIds;
+    private List<String> eventNames;
+    private String phoneNumber;
+
+    @Builder
+    public ParticipantRegistration(Long orderId, Long memberId, List<Long> eventIds, List<String> eventNames, String phoneNumber) {
+        this.orderId = orderId;
+        this.memberId = memberId;
+        this.eventIds = eventIds;
+        this.eventNames = eventNames;
+        this.phoneNumber = phoneNumber;
+    }
+
+    // 주문 ID 가 insert 이후에 정해지는 배치 경로용
+    public ParticipantRegistration withOrderId(Long orderId) {
+        return new ParticipantRegistration(orderId, memberId, eventIds, eventNames, phoneNumber);
+    }
+}
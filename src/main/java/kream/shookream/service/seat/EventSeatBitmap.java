@@ -0,0 +1,84 @@
+package kream.shookream.service.seat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 이벤트 1개의 좌석 판매 가능 여부 비트맵
+ * 티켓 ID 는 이벤트 안에서도 연속이 아니므로 정렬된 ID 배열의 위치(index)를 비트 번호로 사용
+ * 비트 변경은 워드 단위 CAS -> 조회 / 변경 모두 락 없음
+ */
+public class EventSeatBitmap {
+
+    private final long[] ticketIds;
+    private final AtomicLongArray words;
+    private final long loadedAtMillis;
+
+    // sortedTicketIds 와 available 은 같은 순서
+    EventSeatBitmap(long[] sortedTicketIds, boolean[] available, long loadedAtMillis) {
+        this.ticketIds = sortedTicketIds;
+        this.words = new AtomicLongArray((sortedTicketIds.length + 63) >>> 6);
+        this.loadedAtMillis = loadedAtMillis;
+
+        for (int i = 0; i < available.length; i++) {
+            if (available[i]) {
+                set(i, true);
+            }
+        }
+    }
+
+    /**
+     * 이 이벤트의 좌석이 아니면 무시 (적재 이후 추가된 좌석은 다음 재적재 때 반영)
+     */
+    public void update(long ticketId, boolean available) {
+        int index = Arrays.binarySearch(ticketIds, ticketId);
+        if (index >= 0) {
+            set(index, available);
+        }
+    }
+
+    public List<Long> availableTicketIds() {
+        List<Long> result = new ArrayList<>();
+        for (int w = 0; w < words.length(); w++) {
+            long word = words.get(w);
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                result.add(ticketIds[(w << 6) + bit]);
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+
+    public int availableCount() {
+        int count = 0;
+        for (int w = 0; w < words.length(); w++) {
+            count += Long.bitCount(words.get(w));
+        }
+        return count;
+    }
+
+    public int totalCount() {
+        return ticketIds.length;
+    }
+
+    // 티켓 ID 배열 + 비트 워드 (객체 헤더 제외)
+    public long memoryBytes() {
+        return (long) ticketIds.length * Long.BYTES + (long) words.length() * Long.BYTES;
+    }
+
+    public long getLoadedAtMillis() {
+        return loadedAtMillis;
+    }
+
+    private void set(int index, boolean available) {
+        long mask = 1L << (index & 63);
+        if (available) {
+            words.getAndAccumulate(index >>> 6, mask, (word, bit) -> word | bit);
+        } else {
+            words.getAndAccumulate(index >>> 6, mask, (word, bit) -> word & ~bit);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package kream.shookream.service.seat;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kream.shookream.domain.Ticket;
+import kream.shookream.domain.TicketStatus;
+import kream.shookream.repository.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트별 좌석 판매 가능 여부 인메모리 인덱스 (좌석 배치도 조회용)
+ * 조회 시 없으면 DB (IDX_TICKET_EVENT_STATUS) 에서 적재, 이후 좌석 상태 변경은 커밋 이후에만 반영 -> 롤백된 변경이 보이지 않음
+ *
+ * 적재 중인 이벤트의 변경은 같은 맵 버킷에서 적재가 끝날 때까지 기다렸다가 반영 -> 적재 시점 스냅샷보다 오래된 상태로 남지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatAvailabilityIndex {
+
+    private final TicketRepository ticketRepository;
+    private final SeatIndexProperties seatIndexProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, EventSeatBitmap> bitmapByEventId = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void register() {
+        Gauge.builder("seat.index.memory", this, SeatAvailabilityIndex::memoryBytes)
+                .description("좌석 인덱스가 사용하는 메모리 (티켓 ID 배열 + 비트맵)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("seat.index.events", bitmapByEventId, Map::size)
+                .description("좌석 인덱스에 적재된 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    public EventSeatBitmap get(Long eventId) {
+        EventSeatBitmap bitmap = bitmapByEventId.get(eventId);
+        if (bitmap != null && !isStale(bitmap)) {
+            return bitmap;
+        }
+
+        return bitmapByEventId.compute(eventId, (id, current) ->
+                current != null && current != bitmap ? current : load(id));
+    }
+
+    /**
+     * 좌석 상태 변경을 커밋 이후 인덱스에 반영 (트랜잭션 밖이면 바로 반영)
+     */
+    public void afterCommit(Long eventId, Collection<Long> ticketIds, TicketStatus status) {
+        if (eventId == null || ticketIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> changedTicketIds = List.copyOf(ticketIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(eventId, changedTicketIds, status);
+                }
+            });
+            return;
+        }
+        apply(eventId, changedTicketIds, status);
+    }
+
+    // 벌크 UPDATE 로 상태를 바꾼 좌석들 (이벤트별로 묶어 반영)
+    public void afterCommit(Collection<Ticket> tickets, TicketStatus status) {
+        tickets.stream()
+                .filter(ticket -> ticket.getEvent() != null)
+                .collect(Collectors.groupingBy(ticket -> ticket.getEvent().getId(),
+                        Collectors.mapping(Ticket::getId, Collectors.toList())))
+                .forEach((eventId, ticketIds) -> afterCommit(eventId, ticketIds, status));
+    }
+
+    public void evict(Long eventId) {
+        bitmapByEventId.remove(eventId);
+    }
+
+    public long memoryBytes() {
+        return bitmapByEventId.values().stream()
+                .mapToLong(EventSeatBitmap::memoryBytes)
+                .sum();
+    }
+
+    // 적재되지 않은 이벤트는 무시 -> 다음 조회 때 DB 에서 최신 상태로 적재
+    private void apply(Long eventId, List<Long> ticketIds, TicketStatus status) {
+        boolean available = status == TicketStatus.AVAILABLE;
+        bitmapByEventId.computeIfPresent(eventId, (id, bitmap) -> {
+            ticketIds.forEach(ticketId -> bitmap.update(ticketId, available));
+            return bitmap;
+        });
+    }
+
+    private EventSeatBitmap load(Long eventId) {
+        List<TicketRepository.SeatView> seats = ticketRepository.findSeatsByEventId(eventId).stream()
+                .sorted(Comparator.comparing(TicketRepository.SeatView::getId))
+                .toList();
+
+        long[] ticketIds = new long[seats.size()];
+        boolean[] available = new boolean[seats.size()];
+        for (int i = 0; i < seats.size(); i++) {
+            ticketIds[i] = seats.get(i).getId();
+            available[i] = seats.get(i).getStatus() == TicketStatus.AVAILABLE;
+        }
+
+        EventSeatBitmap bitmap = new EventSeatBitmap(ticketIds, available, System.currentTimeMillis());
+        log.debug("좌석 인덱스 적재 eventId = {}, 좌석 = {}, 메모리 = {} bytes", eventId, bitmap.totalCount(), bitmap.memoryBytes());
+        return bitmap;
+    }
+
+    private boolean isStale(EventSeatBitmap bitmap) {
+        return System.currentTimeMillis() - bitmap.getLoadedAtMillis() > seatIndexProperties.getRefreshSeconds() * 1000;
+    }
+}
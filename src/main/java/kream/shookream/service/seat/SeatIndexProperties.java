@@ -0,0 +1,14 @@
+package kream.shookream.service.seat;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "seat-index")
+public class SeatIndexProperties {
+
+    // 적재 후 이 시간이 지난 비트맵은 다음 조회 때 DB 에서 다시 적재 (커밋 이후 반영 누락 보정)
+    private long refreshSeconds = 60;
+}
@@ -0,0 +1,93 @@
+package kream.shookream.service.settlement;
+
+import kream.shookream.repository.dto.SettlementLineView;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * CSV 정산 파일 (모든 행이 같은 열을 쓰고, 해당 없는 열은 비워 둠)
+ */
+class CsvSettlementWriter implements SettlementWriter {
+
+    private static final String HEADER =
+            "type,event_id,event_name,date,order_id,order_ticket_id,ticket_id,seat_info,sold_at,ticket_count,amount";
+
+    private final Writer writer;
+
+    CsvSettlementWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    @Override
+    public void writeLine(SettlementLineView line) throws IOException {
+        writer.write("LINE,");
+        writer.write(String.valueOf(line.getEventId()));
+        writer.write(',');
+        writeText(line.getEventName());
+        writer.write(',');
+        writer.write(line.getSoldAt().toLocalDate().toString());
+        writer.write(',');
+        writer.write(String.valueOf(line.getOrderId()));
+        writer.write(',');
+        writer.write(String.valueOf(line.getOrderTicketId()));
+        writer.write(',');
+        writer.write(String.valueOf(line.getTicketId()));
+        writer.write(',');
+        writeText(line.getSeatInfo());
+        writer.write(',');
+        writer.write(line.getSoldAt().toString());
+        writer.write(",1,");
+        writer.write(String.valueOf(line.getPurchasePrice()));
+        writer.write('\n');
+    }
+
+    @Override
+    public void writeDaily(DailySettlement daily) throws IOException {
+        writer.write("DAILY,");
+        writer.write(String.valueOf(daily.getEventId()));
+        writer.write(',');
+        writeText(daily.getEventName());
+        writer.write(',');
+        writer.write(daily.getDate().toString());
+        writer.write(",,,,,,");
+        writer.write(String.valueOf(daily.getTicketCount()));
+        writer.write(',');
+        writer.write(String.valueOf(daily.getAmount()));
+        writer.write('\n');
+    }
+
+    @Override
+    public void writeTotal(long ticketCount, long amount) throws IOException {
+        writer.write("TOTAL,,,,,,,,,");
+        writer.write(String.valueOf(ticketCount));
+        writer.write(',');
+        writer.write(String.valueOf(amount));
+        writer.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    // 쉼표 / 따옴표 / 줄바꿈이 있으면 따옴표로 감싸고 안쪽 따옴표는 두 번 씀
+    private void writeText(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
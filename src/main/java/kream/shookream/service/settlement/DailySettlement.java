@@ -0,0 +1,30 @@
+package kream.shookream.service.settlement;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 이벤트 / 판매일 단위 정산 합계 (스트리밍 중에 누적)
+ */
+@Getter
+public class DailySettlement {
+
+    private final Long eventId;
+    private final String eventName;
+    private final LocalDate date;
+
+    private long ticketCount;
+    private long amount;
+
+    public DailySettlement(Long eventId, String eventName, LocalDate date) {
+        this.eventId = eventId;
+        this.eventName = eventName;
+        this.date = date;
+    }
+
+    public void add(int purchasePrice) {
+        this.ticketCount++;
+        this.amount += purchasePrice;
+    }
+}
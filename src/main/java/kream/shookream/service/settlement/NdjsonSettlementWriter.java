@@ -0,0 +1,73 @@
+package kream.shookream.service.settlement;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kream.shookream.repository.dto.SettlementLineView;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * NDJSON 정산 파일 (한 줄에 JSON 객체 1개)
+ * 행마다 객체 / 문자열을 만들지 않고 JsonGenerator 로 응답 버퍼에 바로 기록
+ */
+class NdjsonSettlementWriter implements SettlementWriter {
+
+    private final JsonGenerator generator;
+
+    NdjsonSettlementWriter(Writer writer, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(writer);
+        // 최상위 값 사이 기본 구분자 (공백) 대신 행 끝마다 줄바꿈을 직접 씀
+        this.generator.setRootValueSeparator(null);
+    }
+
+    // NDJSON 은 헤더 없음
+    @Override
+    public void writeHeader() {
+    }
+
+    @Override
+    public void writeLine(SettlementLineView line) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "LINE");
+        generator.writeNumberField("eventId", line.getEventId());
+        generator.writeStringField("eventName", line.getEventName());
+        generator.writeStringField("date", line.getSoldAt().toLocalDate().toString());
+        generator.writeNumberField("orderId", line.getOrderId());
+        generator.writeNumberField("orderTicketId", line.getOrderTicketId());
+        generator.writeNumberField("ticketId", line.getTicketId());
+        generator.writeStringField("seatInfo", line.getSeatInfo());
+        generator.writeStringField("soldAt", line.getSoldAt().toString());
+        generator.writeNumberField("amount", line.getPurchasePrice());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void writeDaily(DailySettlement daily) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "DAILY");
+        generator.writeNumberField("eventId", daily.getEventId());
+        generator.writeStringField("eventName", daily.getEventName());
+        generator.writeStringField("date", daily.getDate().toString());
+        generator.writeNumberField("ticketCount", daily.getTicketCount());
+        generator.writeNumberField("amount", daily.getAmount());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void writeTotal(long ticketCount, long amount) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "TOTAL");
+        generator.writeNumberField("ticketCount", ticketCount);
+        generator.writeNumberField("amount", amount);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
@@ -0,0 +1,57 @@
+package kream.shookream.service.settlement;
+
+import kream.shookream.repository.dto.SettlementLineView;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * event_id 순으로 들어오는 정산 행을 그대로 기록하면서 이벤트 / 판매일 합계를 누적
+ * 이벤트가 바뀌면 직전 이벤트의 일별 합계를 기록하고 비움 -> 메모리에는 이벤트 1개의 일별 합계 (기간 일수 이하) 만 남음
+ */
+class SettlementAggregator {
+
+    private final SettlementWriter writer;
+    private final Map<LocalDate, DailySettlement> dailyByDate = new TreeMap<>();
+
+    private Long currentEventId;
+    private long lineCount;
+    private long totalAmount;
+
+    SettlementAggregator(SettlementWriter writer) {
+        this.writer = writer;
+    }
+
+    void accept(SettlementLineView line) throws IOException {
+        if (!line.getEventId().equals(currentEventId)) {
+            writeDailies();
+            currentEventId = line.getEventId();
+        }
+
+        writer.writeLine(line);
+
+        dailyByDate.computeIfAbsent(line.getSoldAt().toLocalDate(),
+                        date -> new DailySettlement(line.getEventId(), line.getEventName(), date))
+                .add(line.getPurchasePrice());
+        lineCount++;
+        totalAmount += line.getPurchasePrice();
+    }
+
+    void finish() throws IOException {
+        writeDailies();
+        writer.writeTotal(lineCount, totalAmount);
+    }
+
+    long getLineCount() {
+        return lineCount;
+    }
+
+    private void writeDailies() throws IOException {
+        for (DailySettlement daily : dailyByDate.values()) {
+            writer.writeDaily(daily);
+        }
+        dailyByDate.clear();
+    }
+}
@@ -0,0 +1,103 @@
+package kream.shookream.service.settlement;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import kream.shookream.repository.SettlementRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 판매자 정산 파일 스트리밍 (CSV / NDJSON)
+ * DB 행 -> 응답 버퍼로 바로 기록, 판매 내역을 모아 두지 않음 -> 행 수 (order_ticket 200만 건) 와 관계없이 힙 사용량 일정
+ * 일별 합계는 이벤트 순 스트림 위에서 바로 계산 (SettlementAggregator)
+ * 전송하는 동안 DB 커넥션을 계속 점유하므로 동시 다운로드 수를 제한 (settlement.max-concurrent-exports)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SettlementExportService {
+
+    private final SettlementRepository settlementRepository;
+    private final SettlementProperties settlementProperties;
+    private final ObjectMapper objectMapper;
+
+    private Semaphore exportPermits;
+
+    @PostConstruct
+    void init() {
+        this.exportPermits = new Semaphore(settlementProperties.getMaxConcurrentExports());
+    }
+
+    /**
+     * 다운로드 자리 확보 -> 가득 차면 대기하지 않고 RejectedExecutionException (503)
+     * 확보한 자리는 스트리밍이 끝나면 (성공 / 실패 / 연결 끊김 모두) releaseSlot() 으로 반환해야 함
+     */
+    public void acquireSlot() {
+        if (!exportPermits.tryAcquire()) {
+            throw new RejectedExecutionException("동시 정산 다운로드 수를 초과했습니다.");
+        }
+    }
+
+    public void releaseSlot() {
+        exportPermits.release();
+    }
+
+    /**
+     * 응답을 쓰기 시작한 뒤에는 상태 코드를 바꿀 수 없으므로 스트리밍 전에 먼저 검사
+     */
+    public void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("정산 시작일이 종료일보다 늦습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= settlementProperties.getMaxRangeDays()) {
+            throw new IllegalArgumentException("정산 기간은 최대 " + settlementProperties.getMaxRangeDays() + "일입니다.");
+        }
+    }
+
+    /**
+     * from ~ to (판매일 기준, 양 끝 포함) 판매자 정산 내역을 outputStream 에 기록
+     */
+    public void export(Long sellerId, LocalDate from, LocalDate to, SettlementFormat format, OutputStream outputStream) throws IOException {
+        validateRange(from, to);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
+                settlementProperties.getBufferSize());
+        SettlementWriter settlementWriter = format == SettlementFormat.CSV
+                ? new CsvSettlementWriter(writer)
+                : new NdjsonSettlementWriter(writer, objectMapper);
+        SettlementAggregator aggregator = new SettlementAggregator(settlementWriter);
+
+        long startedAt = System.currentTimeMillis();
+        settlementWriter.writeHeader();
+        try {
+            settlementRepository.streamBySeller(sellerId, from.atStartOfDay(), to.plusDays(1).atStartOfDay(), line -> {
+                try {
+                    aggregator.accept(line);
+                } catch (IOException e) {
+                    // 클라이언트가 연결을 끊음 -> 쿼리를 멈추고 빠져나감
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        aggregator.finish();
+        settlementWriter.flush();
+
+        log.info("정산 파일 전송 sellerId = {}, 기간 = {} ~ {}, 형식 = {}, 행 = {}, 소요 = {}ms",
+                sellerId, from, to, format, aggregator.getLineCount(), System.currentTimeMillis() - startedAt);
+    }
+}
@@ -0,0 +1,26 @@
+package kream.shookream.service.settlement;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SettlementFormat {
+    // 스프레드시트용, 첫 줄은 헤더
+    CSV("text/csv", "csv"),
+
+    // 한 줄에 JSON 1건 -> 정산 시스템이 줄 단위로 읽어 처리
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    public static SettlementFormat from(String value) {
+        for (SettlementFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 정산 파일 형식입니다. format = " + value);
+    }
+}
@@ -0,0 +1,20 @@
+package kream.shookream.service.settlement;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "settlement")
+public class SettlementProperties {
+
+    // 한 번에 내려받을 수 있는 정산 기간 (일별 집계는 이벤트 1개 분량만 메모리에 두므로 기간이 곧 메모리 상한)
+    private int maxRangeDays = 366;
+
+    // 응답 스트림 버퍼 크기 -> 가득 찰 때마다 클라이언트로 전송
+    private int bufferSize = 64 * 1024;
+
+    // 동시에 스트리밍할 수 있는 정산 다운로드 수 -> 다운로드마다 전송이 끝날 때까지 DB 커넥션 1개를 점유하므로 주문 경로의 커넥션을 남겨 둠
+    private int maxConcurrentExports = 4;
+}
@@ -0,0 +1,22 @@
+package kream.shookream.service.settlement;
+
+import kream.shookream.repository.dto.SettlementLineView;
+
+import java.io.IOException;
+
+/**
+ * 정산 행을 응답 스트림에 바로 기록 (형식별 구현)
+ * LINE : 판매된 주문 티켓 1건 / DAILY : 이벤트 + 판매일 합계 / TOTAL : 전체 합계
+ */
+interface SettlementWriter {
+
+    void writeHeader() throws IOException;
+
+    void writeLine(SettlementLineView line) throws IOException;
+
+    void writeDaily(DailySettlement daily) throws IOException;
+
+    void writeTotal(long ticketCount, long amount) throws IOException;
+
+    void flush() throws IOException;
+}
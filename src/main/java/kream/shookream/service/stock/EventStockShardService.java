@@ -0,0 +1,126 @@
+package kream.shookream.service.stock;
+
+import kream.shookream.domain.EventStock;
+import kream.shookream.domain.EventStockShard;
+import kream.shookream.domain.exception.SoldOutException;
+import kream.shookream.repository.EventStockRepository;
+import kream.shookream.repository.EventStockShardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 핫 이벤트 재고 샤딩
+ * 재고를 N개 행으로 나눠 구매자마다 임의의 샤드를 잠그도록 분산 -> 단일 행 경합 해소
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class EventStockShardService {
+
+    private final EventStockRepository eventStockRepository;
+    private final EventStockShardRepository eventStockShardRepository;
+
+    /**
+     * 오픈 전 판매자가 이벤트 재고 샤딩을 켬 -> 현재 재고를 샤드에 고르게 분배 (나머지는 앞 샤드부터 1개씩)
+     */
+    @Transactional
+    public EventStock enableSharding(Long eventId, int shardCount) {
+        EventStock eventStock = eventStockRepository.findWithPessimisticLockById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("이벤트 ID : " + eventId + " 를 찾을 수 없습니다."));
+
+        int stock = eventStock.getCurrentTicketStockCount();
+        eventStock.enableSharding(shardCount);
+
+        List<EventStockShard> shards = new ArrayList<>();
+        for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+            int shardStock = stock / shardCount + (shardNo < stock % shardCount ? 1 : 0);
+            shards.add(EventStockShard.builder()
+                    .event(eventStock.getEvent())
+                    .shardNo(shardNo)
+                    .stockCount(shardStock)
+                    .build());
+        }
+        eventStockShardRepository.saveAll(shards);
+
+        return eventStock;
+    }
+
+    /**
+     * 샤드 재고를 합쳐 재고 행으로 되돌림
+     */
+    @Transactional
+    public EventStock disableSharding(Long eventId) {
+        EventStock eventStock = eventStockRepository.findWithPessimisticLockById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("이벤트 ID : " + eventId + " 를 찾을 수 없습니다."));
+
+        int mergedStock = eventStockShardRepository.findAllWithLockByEventId(eventId).stream()
+                .mapToInt(EventStockShard::getStockCount)
+                .sum();
+
+        eventStock.disableSharding(mergedStock);
+        eventStockShardRepository.deleteAllByEventId(eventId);
+
+        return eventStock;
+    }
+
+    /**
+     * 이벤트별로 임의의 샤드에서 차감, 해당 샤드가 부족하면 다음 샤드들을 차례로 시도
+     * 수량 전체를 가진 샤드가 없으면 샤드를 모두 잠그고 앞 샤드부터 있는 만큼씩 나눠 차감 (합계가 부족할 때만 실패)
+     * 호출하는 쪽 트랜잭션에 참여 -> 하나라도 실패하면 전체 롤백
+     */
+    @Transactional
+    public void decrease(Map<Long, Integer> quantityByEventId, Map<Long, Integer> shardCountByEventId) {
+        quantityByEventId.forEach((eventId, quantity) -> {
+            int shardCount = shardCountByEventId.get(eventId);
+            int startShardNo = ThreadLocalRandom.current().nextInt(shardCount);
+
+            for (int i = 0; i < shardCount; i++) {
+                int shardNo = (startShardNo + i) % shardCount;
+                if (eventStockShardRepository.decreaseIfAvailable(eventId, shardNo, quantity) == 1) {
+                    return;
+                }
+            }
+
+            decreaseAcrossShards(eventId, quantity);
+        });
+    }
+
+    // 샤드 번호 순으로 잠금 -> 나눠 차감하는 구매자끼리 Deadlock 없음
+    private void decreaseAcrossShards(Long eventId, int quantity) {
+        List<EventStockShard> shards = eventStockShardRepository.findAllWithLockByEventId(eventId);
+        if (shards.stream().mapToInt(EventStockShard::getStockCount).sum() < quantity) {
+            throw new SoldOutException("표 재고가 부족합니다.");
+        }
+
+        int remaining = quantity;
+        for (EventStockShard shard : shards) {
+            int taken = Math.min(shard.getStockCount(), remaining);
+            if (taken == 0) {
+                continue;
+            }
+            eventStockShardRepository.decreaseIfAvailable(eventId, shard.getShardNo(), taken);
+            remaining -= taken;
+            if (remaining == 0) {
+                return;
+            }
+        }
+    }
+
+    @Transactional
+    public void increase(Map<Long, Integer> quantityByEventId, Map<Long, Integer> shardCountByEventId) {
+        quantityByEventId.forEach((eventId, quantity) -> {
+            int shardNo = ThreadLocalRandom.current().nextInt(shardCountByEventId.get(eventId));
+            eventStockShardRepository.increase(eventId, shardNo, quantity);
+        });
+    }
+
+    public int sumStock(Long eventId) {
+        return (int) eventStockShardRepository.sumStockCountByEventId(eventId);
+    }
+}
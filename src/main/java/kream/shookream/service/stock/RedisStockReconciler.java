@@ -0,0 +1,68 @@
+package kream.shookream.service.stock;
+
+import kream.shookream.repository.EventStockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+/**
+ * Redis 에 누적된 재고 차감량을 주기적으로 EventStock.currentTicketStockCount 에 반영 (write-behind)
+ * 차감량은 반영 중 해시로 옮겨 두고 DB 커밋 이후에만 지움 -> 커밋 전에 실패 / 종료되면 다음 주기 (재시작 후 포함) 에 그대로 다시 반영
+ * 커밋과 삭제 사이에 종료되면 같은 차감량이 한 번 더 반영될 수 있음 (유실 대신 중복을 택함, 로그로 확인)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisStockReconciler {
+
+    private final RedisStockReservation redisStockReservation;
+    private final EventStockRepository eventStockRepository;
+    private final StockProperties stockProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${stock.redis.reconcile-interval-ms:1000}")
+    public void reconcile() {
+        if (stockProperties.getMode() != StockMode.REDIS) {
+            return;
+        }
+        flush();
+    }
+
+    // 남아 있던 반영분을 처리했다면 그 사이 누적된 차감량도 이어서 반영
+    public void flush() {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            if (!flushOnce()) {
+                return;
+            }
+        }
+    }
+
+    private boolean flushOnce() {
+        Map<Long, Integer> deltas = redisStockReservation.claimPendingDeltas();
+        if (deltas.isEmpty()) {
+            return false;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    deltas.forEach((eventId, soldDelta) -> {
+                        if (soldDelta != 0) {
+                            eventStockRepository.applySoldDelta(eventId, soldDelta);
+                        }
+                    }));
+        } catch (RuntimeException e) {
+            // 반영 중 해시는 그대로 -> 다음 주기에 같은 차감량을 재시도
+            log.error("Redis 재고 DB 반영 실패 deltas = {}", deltas, e);
+            return false;
+        }
+
+        // 커밋이 끝난 뒤에만 삭제
+        redisStockReservation.completePendingDeltas();
+        log.debug("Redis 재고 DB 반영 deltas = {}", deltas);
+        return true;
+    }
+}
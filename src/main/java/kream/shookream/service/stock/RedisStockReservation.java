@@ -0,0 +1,216 @@
+package kream.shookream.service.stock;
+
+import kream.shookream.domain.EventStock;
+import kream.shookream.domain.exception.SoldOutException;
+import kream.shookream.repository.EventStockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Redis 카운터 기반 재고 선점
+ * - 주문에 포함된 모든 이벤트의 재고 + 좌석 점유를 Lua 스크립트 한 번으로 검사/차감 (all-or-nothing)
+ * - 차감량은 pending-delta 해시에 누적되고 RedisStockReconciler 가 DB 에 반영
+ *   반영 중인 차감량은 processing-delta 해시로 옮겨 두고 DB 커밋 이후에 삭제 -> 반영 도중 종료되어도 유실되지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisStockReservation {
+
+    private static final long RESERVED = 1L;
+    private static final long SOLD_OUT = 0L;
+    private static final long STOCK_NOT_LOADED = -1L;
+    private static final long SEAT_ALREADY_CLAIMED = -2L;
+
+    // KEYS : [재고 키 n개, 좌석 키 m개, pending-delta 해시]
+    // ARGV : [n, m, 수량 n개, 이벤트 ID n개]
+    private static final RedisScript<Long> RESERVE_SCRIPT = RedisScript.of("""
+            local n = tonumber(ARGV[1])
+            local m = tonumber(ARGV[2])
+            for i = 1, n do
+                local stock = redis.call('GET', KEYS[i])
+                if not stock then
+                    return -1
+                end
+                if tonumber(stock) < tonumber(ARGV[2 + i]) then
+                    return 0
+                end
+            end
+            for j = 1, m do
+                if redis.call('EXISTS', KEYS[n + j]) == 1 then
+                    return -2
+                end
+            end
+            for i = 1, n do
+                redis.call('DECRBY', KEYS[i], ARGV[2 + i])
+                redis.call('HINCRBY', KEYS[n + m + 1], ARGV[2 + n + i], ARGV[2 + i])
+            end
+            for j = 1, m do
+                redis.call('SET', KEYS[n + j], '1')
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            local n = tonumber(ARGV[1])
+            local m = tonumber(ARGV[2])
+            for i = 1, n do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('INCRBY', KEYS[i], ARGV[2 + i])
+                end
+                redis.call('HINCRBY', KEYS[n + m + 1], ARGV[2 + n + i], -tonumber(ARGV[2 + i]))
+            end
+            for j = 1, m do
+                redis.call('DEL', KEYS[n + j])
+            end
+            return 1
+            """, Long.class);
+
+    // 아직 DB 에 반영되지 않은 차감량 (누적 중 + 반영 중) 을 빼고 적재 -> 이미 적재된 키는 건드리지 않음
+    // KEYS : [재고 키, pending-delta 해시, processing-delta 해시]
+    private static final RedisScript<Long> LOAD_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            local pending = tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0')
+            local processing = tonumber(redis.call('HGET', KEYS[3], ARGV[2]) or '0')
+            redis.call('SET', KEYS[1], tonumber(ARGV[1]) - pending - processing)
+            return 1
+            """, Long.class);
+
+    // 이전 반영분이 남아 있으면 (커밋 전 실패 / 종료) 그것부터 다시 반환, 없으면 누적분을 반영 중 해시로 옮겨서 반환
+    // KEYS : [pending-delta 해시, processing-delta 해시]
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                return redis.call('HGETALL', KEYS[2])
+            end
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {}
+            end
+            redis.call('RENAME', KEYS[1], KEYS[2])
+            return redis.call('HGETALL', KEYS[2])
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final EventStockRepository eventStockRepository;
+    private final StockProperties stockProperties;
+
+    /**
+     * 이벤트별 수량만큼 재고를 차감하고 좌석을 점유
+     * 하나라도 부족하거나 이미 점유된 좌석이 있으면 아무것도 차감하지 않음
+     */
+    public void reserve(SortedMap<Long, Integer> quantityByEventId, List<Long> ticketIds) {
+        Long result = execute(RESERVE_SCRIPT, quantityByEventId, ticketIds);
+
+        if (result == STOCK_NOT_LOADED) {
+            quantityByEventId.keySet().forEach(this::loadStock);
+            result = execute(RESERVE_SCRIPT, quantityByEventId, ticketIds);
+        }
+
+        if (result == SOLD_OUT) {
+            throw new SoldOutException("표 재고가 부족합니다.");
+        }
+        if (result == SEAT_ALREADY_CLAIMED) {
+            throw new SoldOutException("이미 매진된 표입니다.");
+        }
+        if (result != RESERVED) {
+            throw new IllegalStateException("Redis 재고 선점에 실패하였습니다. 결과 코드 : " + result);
+        }
+    }
+
+    /**
+     * 주문 취소 또는 트랜잭션 롤백 시 선점한 재고와 좌석을 되돌림
+     */
+    public void release(SortedMap<Long, Integer> quantityByEventId, List<Long> ticketIds) {
+        execute(RELEASE_SCRIPT, quantityByEventId, ticketIds);
+    }
+
+    /**
+     * DB 에 반영할 이벤트별 차감량 (processing-delta 해시)
+     * 이전에 가져간 뒤 completePendingDeltas() 를 호출하지 못한 차감량이 있으면 새 누적분 대신 그것을 다시 반환
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Long, Integer> claimPendingDeltas() {
+        List<String> flat = redisTemplate.execute(CLAIM_SCRIPT, List.of(pendingDeltaKey(), processingDeltaKey()));
+
+        Map<Long, Integer> deltas = new HashMap<>();
+        if (flat == null) {
+            return deltas;
+        }
+        for (int i = 0; i + 1 < flat.size(); i += 2) {
+            deltas.put(Long.valueOf(flat.get(i)), Integer.valueOf(flat.get(i + 1)));
+        }
+        return deltas;
+    }
+
+    /**
+     * claimPendingDeltas() 로 가져간 차감량의 DB 커밋이 끝난 뒤에만 호출
+     */
+    public void completePendingDeltas() {
+        redisTemplate.delete(processingDeltaKey());
+    }
+
+    /**
+     * Redis 에 적재된 잔여 재고 (아직 적재 전이면 null)
+     */
+    public Integer currentStock(Long eventId) {
+        String stock = redisTemplate.opsForValue().get(stockKey(eventId));
+        return stock == null ? null : Integer.valueOf(stock);
+    }
+
+    private void loadStock(Long eventId) {
+        EventStock stock = eventStockRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("이벤트 ID : " + eventId + " 를 찾을 수 없습니다."));
+
+        Long loaded = redisTemplate.execute(LOAD_SCRIPT,
+                List.of(stockKey(eventId), pendingDeltaKey(), processingDeltaKey()),
+                stock.getCurrentTicketStockCount().toString(), eventId.toString());
+
+        if (loaded != null && loaded == 1L) {
+            log.info("Redis 재고 적재 eventId = {}, dbStock = {}", eventId, stock.getCurrentTicketStockCount());
+        }
+    }
+
+    private Long execute(RedisScript<Long> script, SortedMap<Long, Integer> quantityByEventId, List<Long> ticketIds) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+
+        args.add(String.valueOf(quantityByEventId.size()));
+        args.add(String.valueOf(ticketIds.size()));
+
+        quantityByEventId.keySet().forEach(eventId -> keys.add(stockKey(eventId)));
+        ticketIds.forEach(ticketId -> keys.add(ticketKey(ticketId)));
+        keys.add(pendingDeltaKey());
+
+        quantityByEventId.values().forEach(quantity -> args.add(quantity.toString()));
+        quantityByEventId.keySet().forEach(eventId -> args.add(eventId.toString()));
+
+        return redisTemplate.execute(script, keys, args.toArray());
+    }
+
+    private String stockKey(Long eventId) {
+        return stockProperties.getRedis().getKeyPrefix() + ":event:" + eventId + ":remain";
+    }
+
+    private String ticketKey(Long ticketId) {
+        return stockProperties.getRedis().getKeyPrefix() + ":ticket:" + ticketId + ":claimed";
+    }
+
+    private String pendingDeltaKey() {
+        return stockProperties.getRedis().getKeyPrefix() + ":pending-delta";
+    }
+
+    private String processingDeltaKey() {
+        return stockProperties.getRedis().getKeyPrefix() + ":processing-delta";
+    }
+}
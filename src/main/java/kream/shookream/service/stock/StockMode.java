@@ -0,0 +1,17 @@
+package kream.shookream.service.stock;
+
+public enum StockMode {
+    // Event 행에 락을 걸고 엔티티 재고를 직접 차감 (기존 방식)
+    DATABASE,
+
+    // Redis 카운터를 Lua 스크립트로 원자 차감 + DB 에는 write-behind 반영
+    REDIS,
+
+    // 락 조회 없이 좌석 CAS (AVAILABLE -> SOLDOUT) 후 "재고 >= 수량" 조건부 UPDATE 한 문장으로 차감
+    CONDITIONAL_UPDATE,
+
+    // 이벤트 행은 건드리지 않고 좌석 상태를 CAS 로 선점 -> 재고는 AVAILABLE 좌석 수로 계산
+    // event_stock.current_ticket_stock_count 는 갱신하지 않으므로 (의도된 차이) 남은 재고를 읽는 곳은 모두 좌석 수를 세야 함
+    // 다른 모드로 되돌릴 때는 재고 컬럼을 AVAILABLE 좌석 수로 먼저 맞춰야 함
+    SEAT_CLAIM
+}
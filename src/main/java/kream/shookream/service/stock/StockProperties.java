@@ -0,0 +1,50 @@
+package kream.shookream.service.stock;
+
+import kream.shookream.service.stock.lock.StockLockType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "stock")
+public class StockProperties {
+
+    // 재고 차감 방식 (기본값: DB 락)
+    private StockMode mode = StockMode.DATABASE;
+
+    private final Redis redis = new Redis();
+
+    private final Lock lock = new Lock();
+
+    @Getter
+    @Setter
+    public static class Redis {
+        private String keyPrefix = "stock";
+
+        // write-behind 반영 주기
+        private long reconcileIntervalMs = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Lock {
+        // DATABASE 모드에서 사용할 기본 락 전략
+        private StockLockType defaultType = StockLockType.PESSIMISTIC;
+
+        // 이벤트별 락 전략 (경합 양상이 다른 이벤트만 지정)
+        private Map<Long, StockLockType> events = new HashMap<>();
+
+        private int optimisticMaxAttempts = 5;
+        private long optimisticBaseBackoffMs = 10;
+        private long optimisticMaxBackoffMs = 200;
+
+        private int namedLockTimeoutSeconds = 3;
+
+        // 네임드 락 커넥션 전용 풀 크기 (주문 트랜잭션용 풀과 별도) = 네임드 락을 쓰는 주문의 최대 동시 처리 수
+        private int namedLockPoolSize = 8;
+    }
+}
@@ -0,0 +1,127 @@
+package kream.shookream.service.stock.lock;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import kream.shookream.domain.EventStock;
+import kream.shookream.repository.EventStockRepository;
+import kream.shookream.service.stock.StockProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * MySQL 네임드 락 (GET_LOCK / RELEASE_LOCK)
+ * 락은 주문 트랜잭션과 다른 커넥션에서 잡아야 커밋 이후까지 유지됨 -> 요청당 커넥션 2개 사용
+ *
+ * 락 커넥션은 주문 트랜잭션용 풀 (Hikari 32) 이 아닌 전용 소형 풀 (stock.lock.named-lock-pool-size) 에서 가져옴
+ * -> 락을 쥔 요청들이 주문 커넥션까지 모두 차지해 서로를 기다리는 풀 고갈이 생기지 않고, 네임드 락 동시 주문 수는 이 풀 크기로 제한
+ * 풀은 NAMED 전략을 처음 쓸 때 만들고, Spring 빈으로 등록하지 않음 (DataSource 빈이 늘면 기본 DataSource 자동 설정이 꺼짐)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NamedStockLockStrategy implements StockLockStrategy {
+
+    private static final String LOCK_NAME_PREFIX = "event-stock-";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final EventStockRepository eventStockRepository;
+    private final StockProperties stockProperties;
+
+    private volatile HikariDataSource lockDataSource;
+
+    @Override
+    public StockLockType getType() {
+        return StockLockType.NAMED;
+    }
+
+    @Override
+    public <T> T executeAround(List<Long> sortedEventIds, Supplier<T> transactionalWork) {
+        try (Connection connection = lockDataSource().getConnection()) {
+            List<String> acquiredLockNames = new ArrayList<>();
+            try {
+                for (Long eventId : sortedEventIds) {
+                    String lockName = LOCK_NAME_PREFIX + eventId;
+                    getLock(connection, lockName);
+                    acquiredLockNames.add(lockName);
+                }
+                return transactionalWork.get();
+            } finally {
+                for (int i = acquiredLockNames.size() - 1; i >= 0; i--) {
+                    releaseLock(connection, acquiredLockNames.get(i));
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("네임드 락 처리 중 오류가 발생하였습니다.", e);
+        }
+    }
+
+    // 네임드 락이 이벤트 단위 직렬화를 보장하므로 일반 조회로 충분
+    @Override
+    public EventStock loadForUpdate(Long eventId) {
+        return eventStockRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("이벤트 ID : " + eventId + " 를 찾을 수 없습니다."));
+    }
+
+    @PreDestroy
+    void close() {
+        if (lockDataSource != null) {
+            lockDataSource.close();
+        }
+    }
+
+    // 락 커넥션 전용 풀, 가득 차면 락 대기 시간만큼 기다린 뒤 실패
+    DataSource lockDataSource() {
+        HikariDataSource dataSource = lockDataSource;
+        if (dataSource != null) {
+            return dataSource;
+        }
+
+        synchronized (this) {
+            if (lockDataSource == null) {
+                StockProperties.Lock lock = stockProperties.getLock();
+                HikariDataSource created = dataSourceProperties.initializeDataSourceBuilder()
+                        .type(HikariDataSource.class)
+                        .build();
+                created.setPoolName("named-lock");
+                created.setMaximumPoolSize(lock.getNamedLockPoolSize());
+                created.setMinimumIdle(0);
+                created.setConnectionTimeout(TimeUnit.SECONDS.toMillis(lock.getNamedLockTimeoutSeconds()));
+                lockDataSource = created;
+                log.info("네임드 락 커넥션 풀 생성 maximumPoolSize = {}", lock.getNamedLockPoolSize());
+            }
+            return lockDataSource;
+        }
+    }
+
+    private void getLock(Connection connection, String lockName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            statement.setString(1, lockName);
+            statement.setInt(2, stockProperties.getLock().getNamedLockTimeoutSeconds());
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next() || resultSet.getInt(1) != 1) {
+                    throw new IllegalStateException("네임드 락 획득에 실패하였습니다. lockName : " + lockName);
+                }
+            }
+        }
+    }
+
+    private void releaseLock(Connection connection, String lockName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, lockName);
+            statement.executeQuery().close();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package kream.shookream.service.stock.lock;
+
+import kream.shookream.domain.EventStock;
+import kream.shookream.repository.EventStockRepository;
+import kream.shookream.service.stock.StockProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락 -> 버전 충돌 시 트랜잭션 전체를 다시 실행
+ * 재시도 간격은 지수 백오프 + full jitter 로 충돌한 요청끼리 다시 몰리지 않도록 분산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OptimisticStockLockStrategy implements StockLockStrategy {
+
+    private final EventStockRepository eventStockRepository;
+    private final StockProperties stockProperties;
+
+    @Override
+    public StockLockType getType() {
+        return StockLockType.OPTIMISTIC;
+    }
+
+    @Override
+    public <T> T executeAround(List<Long> sortedEventIds, Supplier<T> transactionalWork) {
+        int maxAttempts = stockProperties.getLock().getOptimisticMaxAttempts();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionalWork.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw new IllegalStateException("재고 변경 충돌이 계속되어 주문에 실패하였습니다. eventIds : " + sortedEventIds, e);
+                }
+                log.debug("낙관적 락 충돌 재시도 attempt = {}, eventIds = {}", attempt, sortedEventIds);
+                backoff(attempt);
+            }
+        }
+    }
+
+    @Override
+    public EventStock loadForUpdate(Long eventId) {
+        return eventStockRepository.findWithOptimisticLockById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("이벤트 ID : " + eventId + " 를 찾을 수 없습니다."));
+    }
+
+    private void backoff(int attempt) {
+        StockProperties.Lock lock = stockProperties.getLock();
+        long ceiling = Math.min(lock.getOptimisticMaxBackoffMs(), lock.getOptimisticBaseBackoffMs() << (attempt - 1));
+
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재고 락 재시도 대기 중 인터럽트 발생", e);
+        }
+    }
+}
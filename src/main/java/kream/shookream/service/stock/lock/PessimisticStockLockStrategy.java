@@ -0,0 +1,24 @@
+package kream.shookream.service.stock.lock;
+
+import kream.shookream.domain.EventStock;
+import kream.shookream.repository.EventStockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PessimisticStockLockStrategy implements StockLockStrategy {
+
+    private final EventStockRepository eventStockRepository;
+
+    @Override
+    public StockLockType getType() {
+        return StockLockType.PESSIMISTIC;
+    }
+
+    @Override
+    public EventStock loadForUpdate(Long eventId) {
+        return eventStockRepository.findWithPessimisticLockById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("이벤트 ID : " + eventId + " 를 찾을 수 없습니다."));
+    }
+}
@@ -0,0 +1,22 @@
+package kream.shookream.service.stock.lock;
+
+import kream.shookream.domain.EventStock;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 이벤트 재고 락 전략
+ * - executeAround : 트랜잭션 바깥에서 주문 트랜잭션 전체를 감쌈 (재시도, 네임드 락 획득/해제)
+ * - loadForUpdate : 트랜잭션 안에서 재고를 수정할 EventStock 을 조회
+ */
+public interface StockLockStrategy {
+
+    StockLockType getType();
+
+    default <T> T executeAround(List<Long> sortedEventIds, Supplier<T> transactionalWork) {
+        return transactionalWork.get();
+    }
+
+    EventStock loadForUpdate(Long eventId);
+}
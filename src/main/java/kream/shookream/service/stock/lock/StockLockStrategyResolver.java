@@ -0,0 +1,66 @@
+package kream.shookream.service.stock.lock;
+
+import kream.shookream.service.stock.StockProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트별 락 전략 선택 (stock.lock.events.{eventId} -> 없으면 stock.lock.default-type)
+ */
+@Component
+public class StockLockStrategyResolver {
+
+    private final Map<StockLockType, StockLockStrategy> strategies;
+    private final StockProperties stockProperties;
+
+    public StockLockStrategyResolver(List<StockLockStrategy> strategies, StockProperties stockProperties) {
+        this.strategies = strategies.stream()
+                .collect(Collectors.toMap(
+                        StockLockStrategy::getType,
+                        Function.identity(),
+                        (first, second) -> first,
+                        () -> new EnumMap<>(StockLockType.class)));
+        this.stockProperties = stockProperties;
+    }
+
+    public StockLockStrategy resolve(Long eventId) {
+        StockLockType type = resolveType(eventId);
+        StockLockStrategy strategy = strategies.get(type);
+        if (strategy == null) {
+            throw new IllegalStateException("등록되지 않은 재고 락 전략입니다. type : " + type);
+        }
+        return strategy;
+    }
+
+    public StockLockType resolveType(Long eventId) {
+        StockProperties.Lock lock = stockProperties.getLock();
+        return lock.getEvents().getOrDefault(eventId, lock.getDefaultType());
+    }
+
+    /**
+     * 주문에 포함된 이벤트들의 전략을 모아 트랜잭션 바깥 처리를 합성
+     * EnumMap 순서상 NAMED 가 가장 바깥 -> 네임드 락을 잡은 상태에서 낙관적 락 재시도가 일어남
+     */
+    public <T> T executeAround(List<Long> sortedEventIds, Supplier<T> transactionalWork) {
+        Map<StockLockType, List<Long>> eventIdsByType = sortedEventIds.stream()
+                .collect(Collectors.groupingBy(
+                        this::resolveType,
+                        () -> new EnumMap<>(StockLockType.class),
+                        Collectors.toList()));
+
+        Supplier<T> chain = transactionalWork;
+        for (Map.Entry<StockLockType, List<Long>> entry : eventIdsByType.entrySet()) {
+            StockLockStrategy strategy = strategies.get(entry.getKey());
+            List<Long> eventIds = entry.getValue();
+            Supplier<T> inner = chain;
+            chain = () -> strategy.executeAround(eventIds, inner);
+        }
+        return chain.get();
+    }
+}
@@ -0,0 +1,12 @@
+package kream.shookream.service.stock.lock;
+
+public enum StockLockType {
+    // SELECT ... FOR UPDATE
+    PESSIMISTIC,
+
+    // @Version 충돌 시 지터를 준 제한 재시도
+    OPTIMISTIC,
+
+    // MySQL GET_LOCK (전용 소형 풀의 별도 커넥션에서 획득)
+    NAMED
+}
@@ -0,0 +1,74 @@
+package kream.shookream.service.stock.stream;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 이 노드에서 커밋된 재고 변경 (eventId) 을 Redis pub/sub 으로 다른 노드에 알림
+ * 구독자는 아무 노드에나 붙어 있으므로, 다른 노드에서 팔린 재고도 이 노드의 채널로 전송되어야 함
+ *
+ * 메시지 : "{노드 ID}|{eventId},{eventId},..." (브로드캐스터 주기마다 1건) -> 자기 노드가 보낸 메시지는 무시
+ * pub/sub 은 전달을 보장하지 않음 -> 놓친 변경은 브로드캐스터의 주기적 재조회 (stock-stream.resync-interval-ms) 가 메움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockChangeRelay implements MessageListener {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final StockChangeTracker stockChangeTracker;
+    private final StockStreamProperties stockStreamProperties;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @PostConstruct
+    void start() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(stockStreamProperties.getRelayTopic()));
+    }
+
+    public void publish(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+
+        String message = nodeId + "|" + eventIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        try {
+            redisTemplate.convertAndSend(stockStreamProperties.getRelayTopic(), message);
+        } catch (RuntimeException e) {
+            log.warn("재고 변경 전파 실패 eventIds = {}, message = {}", eventIds, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+
+        try {
+            Arrays.stream(body.substring(separator + 1).split(","))
+                    .map(Long::valueOf)
+                    .forEach(stockChangeTracker::changed);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 재고 변경 메시지 message = {}", body);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package kream.shookream.service.stock.stream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 재고가 바뀐 이벤트 ID 를 커밋 이후에만 기록 (롤백된 변경은 전송되지 않음)
+ * 같은 주기 안의 변경은 이벤트당 1건으로 합쳐짐 -> 브로드캐스터가 주기마다 꺼내서 재고를 1번만 조회
+ * 이 노드에서 커밋된 변경은 따로 모아 두었다가 브로드캐스터가 다른 노드로 전파 (StockChangeRelay)
+ */
+@Component
+public class StockChangeTracker {
+
+    // eventId -> 이번 주기에서 처음 바뀐 시각 (nanoTime, 전송 지연 측정용)
+    private final Map<Long, Long> changedAtByEventId = new ConcurrentHashMap<>();
+
+    // 이 노드에서 커밋되어 다른 노드에 아직 알리지 않은 eventId
+    private final Set<Long> committedEventIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 재고 변경을 커밋 이후 기록 (트랜잭션 밖이면 바로 기록)
+     */
+    public void afterCommit(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> changedEventIds = List.copyOf(eventIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    changedEventIds.forEach(StockChangeTracker.this::committed);
+                }
+            });
+            return;
+        }
+        changedEventIds.forEach(this::committed);
+    }
+
+    /**
+     * 이 노드의 채널에만 변경 기록 (다른 노드에서 전파된 변경, 첫 구독 등)
+     */
+    public void changed(Long eventId) {
+        changedAtByEventId.putIfAbsent(eventId, System.nanoTime());
+    }
+
+    private void committed(Long eventId) {
+        changed(eventId);
+        committedEventIds.add(eventId);
+    }
+
+    // 다른 노드에 알릴 변경을 꺼내고 비움
+    Set<Long> drainCommitted() {
+        Set<Long> drained = new HashSet<>();
+        for (Long eventId : committedEventIds) {
+            if (committedEventIds.remove(eventId)) {
+                drained.add(eventId);
+            }
+        }
+        return drained;
+    }
+
+    // 지금까지 모인 변경을 꺼내고 비움 (꺼내는 도중 들어온 변경은 다음 주기로 넘어감)
+    Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Long eventId : changedAtByEventId.keySet()) {
+            Long changedAt = changedAtByEventId.remove(eventId);
+            if (changedAt != null) {
+                drained.put(eventId, changedAt);
+            }
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,23 @@
+package kream.shookream.service.stock.stream;
+
+import lombok.Getter;
+
+/**
+ * SSE 로 내보내는 남은 재고 1건 (JSON 은 프레임당 1번만 만들어 모든 구독자에게 그대로 전송)
+ * sequence : 이벤트별 증가 번호 (SSE id), publishedAt : 전송 시각 (epoch ms, 클라이언트 측 지연 측정용)
+ */
+@Getter
+public class StockFrame {
+
+    private final Long eventId;
+    private final int remainingStock;
+    private final long sequence;
+    private final long publishedAt;
+
+    public StockFrame(Long eventId, int remainingStock, long sequence, long publishedAt) {
+        this.eventId = eventId;
+        this.remainingStock = remainingStock;
+        this.sequence = sequence;
+        this.publishedAt = publishedAt;
+    }
+}
@@ -0,0 +1,240 @@
+package kream.shookream.service.stock.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import kream.shookream.global.executor.BoundedExecutorFactory;
+import kream.shookream.service.facade.StockManagerFacade;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 이벤트별 남은 재고 SSE 브로드캐스터
+ * 1. 커밋된 재고 변경은 StockChangeTracker 에 이벤트당 1건으로 모임 (다른 노드의 변경은 StockChangeRelay 로 전달받음)
+ * 2. 주기 (stock-stream.coalesce-interval-ms) 마다 구독자가 있는 이벤트만 재고를 1번 조회 -> 값이 바뀌었을 때만 프레임 1개 생성
+ *    전파를 놓친 변경은 재조회 주기 (stock-stream.resync-interval-ms) 마다 구독 중인 이벤트를 1번씩 다시 조회해 맞춤
+ * 3. 프레임 JSON 은 1번만 만들어 이벤트 채널의 모든 구독자에게 전송 (구독자별 DB 조회 / 직렬화 없음)
+ *
+ * 채널 전송은 이름 붙은 고정 크기 풀 (executors.pools.stock-stream) 에서 이벤트별로 한 번에 하나만 실행
+ * -> 전송이 밀리면 중간 프레임은 건너뛰고 최신 프레임만 보냄 (구독자마다 순서 보장)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockStreamBroadcaster {
+
+    private final StockChangeTracker stockChangeTracker;
+    private final StockChangeRelay stockChangeRelay;
+    private final StockManagerFacade stockManagerFacade;
+    private final StockStreamProperties stockStreamProperties;
+    private final BoundedExecutorFactory boundedExecutorFactory;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, Channel> channelByEventId = new ConcurrentHashMap<>();
+
+    private ExecutorService fanOutExecutor;
+    private Counter frameCounter;
+    private Counter sendFailedCounter;
+    private Timer broadcastLatency;
+
+    // 스케줄러 스레드에서만 갱신
+    private long lastResyncAt;
+
+    @PostConstruct
+    void start() {
+        fanOutExecutor = boundedExecutorFactory.create("stock-stream");
+        lastResyncAt = System.nanoTime();
+
+        frameCounter = meterRegistry.counter("stock.stream.frames");
+        sendFailedCounter = meterRegistry.counter("stock.stream.send.failed");
+        broadcastLatency = Timer.builder("stock.stream.broadcast.latency")
+                .description("재고 변경 커밋부터 채널의 모든 구독자에게 전송을 마칠 때까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("stock.stream.subscribers", this, StockStreamBroadcaster::subscriberCount)
+                .description("남은 재고 스트림 구독자 수")
+                .register(meterRegistry);
+        Gauge.builder("stock.stream.channels", channelByEventId, Map::size)
+                .description("구독자가 있는 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구독 시작 -> 채널에 마지막 프레임이 있으면 바로 전송, 처음 열린 채널이면 다음 주기에 재고를 조회해 전송
+     * 이벤트당 구독자 상한을 넘으면 RejectedExecutionException
+     */
+    public SseEmitter subscribe(Long eventId) {
+        SseEmitter emitter = new SseEmitter(stockStreamProperties.getEmitterTimeoutMs());
+        register(eventId, emitter);
+        return emitter;
+    }
+
+    void register(Long eventId, SseEmitter emitter) {
+        Channel channel = channelByEventId.compute(eventId, (id, current) -> {
+            Channel target = current != null ? current : new Channel();
+            if (target.subscribers.size() >= stockStreamProperties.getMaxSubscribersPerEvent()) {
+                throw new RejectedExecutionException("재고 스트림 구독자가 가득 찼습니다. eventId = " + eventId);
+            }
+            target.subscribers.add(emitter);
+            return target;
+        });
+
+        emitter.onCompletion(() -> unregister(eventId, emitter));
+        emitter.onTimeout(() -> unregister(eventId, emitter));
+        emitter.onError(e -> unregister(eventId, emitter));
+
+        Frame lastFrame = channel.lastFrame;
+        if (lastFrame == null) {
+            stockChangeTracker.changed(eventId);
+            return;
+        }
+        send(eventId, emitter, lastFrame);
+    }
+
+    @Scheduled(fixedDelayString = "${stock-stream.coalesce-interval-ms:200}")
+    public void flush() {
+        // 이 노드에서 커밋된 변경은 주기마다 1번에 모아 다른 노드로 전파
+        stockChangeRelay.publish(stockChangeTracker.drainCommitted());
+        resyncIfDue();
+
+        stockChangeTracker.drain().forEach((eventId, changedAt) -> {
+            // 구독자가 없는 이벤트는 재고를 조회하지 않음
+            Channel channel = channelByEventId.get(eventId);
+            if (channel == null) {
+                return;
+            }
+
+            int remainingStock;
+            try {
+                remainingStock = stockManagerFacade.getRemainingStock(eventId);
+            } catch (RuntimeException e) {
+                log.warn("재고 스트림 재고 조회 실패 eventId = {}, message = {}", eventId, e.getMessage());
+                return;
+            }
+
+            // 주기 안에서 판매 + 취소로 값이 그대로면 보내지 않음
+            Frame lastFrame = channel.lastFrame;
+            if (lastFrame != null && lastFrame.remainingStock == remainingStock) {
+                return;
+            }
+
+            publish(eventId, channel, new Frame(remainingStock, toSse(eventId, remainingStock, ++channel.sequence), changedAt));
+        });
+    }
+
+    private void resyncIfDue() {
+        long now = System.nanoTime();
+        if (now - lastResyncAt < TimeUnit.MILLISECONDS.toNanos(stockStreamProperties.getResyncIntervalMs())) {
+            return;
+        }
+        lastResyncAt = now;
+        channelByEventId.keySet().forEach(stockChangeTracker::changed);
+    }
+
+    public int subscriberCount() {
+        return channelByEventId.values().stream()
+                .mapToInt(channel -> channel.subscribers.size())
+                .sum();
+    }
+
+    int subscriberCount(Long eventId) {
+        Channel channel = channelByEventId.get(eventId);
+        return channel == null ? 0 : channel.subscribers.size();
+    }
+
+    // 채널 전송이 이미 돌고 있으면 최신 프레임만 바꿔 두고 그 전송 루프가 이어서 보냄
+    private void publish(Long eventId, Channel channel, Frame frame) {
+        channel.lastFrame = frame;
+        channel.pending.set(true);
+        if (channel.sending.compareAndSet(false, true)) {
+            fanOutExecutor.execute(() -> fanOut(eventId, channel));
+        }
+    }
+
+    private void fanOut(Long eventId, Channel channel) {
+        do {
+            try {
+                while (channel.pending.getAndSet(false)) {
+                    Frame frame = channel.lastFrame;
+                    channel.subscribers.forEach(emitter -> send(eventId, emitter, frame));
+
+                    frameCounter.increment();
+                    broadcastLatency.record(System.nanoTime() - frame.changedAt, TimeUnit.NANOSECONDS);
+                }
+            } finally {
+                channel.sending.set(false);
+            }
+            // 루프를 빠져나온 직후 들어온 프레임은 여기서 이어서 처리
+        } while (channel.pending.get() && channel.sending.compareAndSet(false, true));
+    }
+
+    // 끊긴 구독자는 채널에서 제거 (컨테이너가 onError / onCompletion 으로도 알려줌)
+    private void send(Long eventId, SseEmitter emitter, Frame frame) {
+        try {
+            emitter.send(frame.sse);
+        } catch (Exception e) {
+            sendFailedCounter.increment();
+            unregister(eventId, emitter);
+        }
+    }
+
+    private void unregister(Long eventId, SseEmitter emitter) {
+        channelByEventId.computeIfPresent(eventId, (id, channel) -> {
+            channel.subscribers.remove(emitter);
+            return channel.subscribers.isEmpty() ? null : channel;
+        });
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> toSse(Long eventId, int remainingStock, long sequence) {
+        StockFrame stockFrame = new StockFrame(eventId, remainingStock, sequence, System.currentTimeMillis());
+        try {
+            return SseEmitter.event()
+                    .name("stock")
+                    .id(String.valueOf(sequence))
+                    .data(objectMapper.writeValueAsString(stockFrame), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("재고 스트림 프레임을 만들 수 없습니다. eventId = " + eventId, e);
+        }
+    }
+
+    private static final class Channel {
+        private final Set<SseEmitter> subscribers = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean pending = new AtomicBoolean();
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        // 스케줄러 스레드에서만 증가
+        private long sequence;
+        private volatile Frame lastFrame;
+    }
+
+    private static final class Frame {
+        private final int remainingStock;
+        private final Set<ResponseBodyEmitter.DataWithMediaType> sse;
+        private final long changedAt;
+
+        private Frame(int remainingStock, Set<ResponseBodyEmitter.DataWithMediaType> sse, long changedAt) {
+            this.remainingStock = remainingStock;
+            this.sse = sse;
+            this.changedAt = changedAt;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package kream.shookream.service.stock.stream;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "stock-stream")
+public class StockStreamProperties {
+
+    // 이 주기 동안 모인 재고 변경은 이벤트별로 합쳐 프레임 1개만 전송
+    private long coalesceIntervalMs = 200;
+
+    // SSE 연결 유지 시간 -> 지나면 클라이언트가 재연결 (EventSource 기본 동작)
+    private long emitterTimeoutMs = 30 * 60 * 1000;
+
+    // 이 노드에서 커밋된 재고 변경을 다른 노드에 알리는 Redis pub/sub 채널
+    private String relayTopic = "stock-stream:changed";
+
+    // 전파를 놓쳐도 이 주기마다 구독자가 있는 이벤트의 재고를 이벤트당 1번 다시 조회
+    private long resyncIntervalMs = 5000;
+
+    // 이벤트당 구독자 상한 (구독자별 메모리 상한), 넘으면 503
+    private int maxSubscribersPerEvent = 10000;
+}
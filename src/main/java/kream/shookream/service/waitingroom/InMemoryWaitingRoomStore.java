@@ -0,0 +1,136 @@
+package kream.shookream.service.waitingroom;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 단일 인스턴스용 메모리 대기열
+ * 입장 순번과 지금까지 꺼낸 인원 수의 차이가 곧 순위 -> O(1) 조회
+ */
+@Component
+@ConditionalOnProperty(prefix = "waiting-room", name = "store", havingValue = "MEMORY")
+public class InMemoryWaitingRoomStore implements WaitingRoomStore {
+
+    private final Map<Long, EventQueue> queueByEventId = new ConcurrentHashMap<>();
+    private final Map<String, Long> admissionExpiresAtByToken = new ConcurrentHashMap<>();
+
+    private TokenBucket admissionBucket;
+
+    @Override
+    public long enter(Long eventId, String token) {
+        return queueByEventId.computeIfAbsent(eventId, id -> new EventQueue()).enter(token);
+    }
+
+    @Override
+    public Optional<Long> position(Long eventId, String token) {
+        EventQueue queue = queueByEventId.get(eventId);
+        return queue == null ? Optional.empty() : queue.position(token);
+    }
+
+    @Override
+    public long size(Long eventId) {
+        EventQueue queue = queueByEventId.get(eventId);
+        return queue == null ? 0 : queue.size();
+    }
+
+    @Override
+    public List<String> pollFirst(Long eventId, int count) {
+        EventQueue queue = queueByEventId.get(eventId);
+        return queue == null ? List.of() : queue.pollFirst(count);
+    }
+
+    @Override
+    public synchronized int acquireAdmissionPermits(int requested, double ratePerSecond, int capacity) {
+        if (admissionBucket == null) {
+            admissionBucket = new TokenBucket(capacity, ratePerSecond, System.nanoTime());
+        }
+        return admissionBucket.take(requested, System.nanoTime());
+    }
+
+    @Override
+    public Set<Long> activeEventIds() {
+        return queueByEventId.entrySet().stream()
+                .filter(entry -> entry.getValue().size() > 0)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void admit(String token, Duration ttl) {
+        admissionExpiresAtByToken.put(token, System.currentTimeMillis() + ttl.toMillis());
+    }
+
+    @Override
+    public boolean isAdmitted(String token) {
+        Long expiresAt = admissionExpiresAtByToken.get(token);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    @Override
+    public boolean consumeAdmission(String token) {
+        Long expiresAt = admissionExpiresAtByToken.remove(token);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    // 사용하지 않고 만료된 입장 토큰 정리
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpiredAdmissions() {
+        long now = System.currentTimeMillis();
+        admissionExpiresAtByToken.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    private static final class EventQueue {
+        private final Queue<String> queue = new ConcurrentLinkedQueue<>();
+        private final Map<String, Long> sequenceByToken = new ConcurrentHashMap<>();
+        private final AtomicLong nextSequence = new AtomicLong();
+        private final AtomicLong polledCount = new AtomicLong();
+
+        long enter(String token) {
+            // 순번 발급과 큐 추가를 같은 순서로 맞추기 위해 큐 단위로 직렬화 (메모리 연산만 수행)
+            synchronized (this) {
+                Long existing = sequenceByToken.get(token);
+                if (existing != null) {
+                    return existing - polledCount.get();
+                }
+
+                long sequence = nextSequence.getAndIncrement();
+                sequenceByToken.put(token, sequence);
+                queue.add(token);
+                return sequence - polledCount.get();
+            }
+        }
+
+        Optional<Long> position(String token) {
+            Long sequence = sequenceByToken.get(token);
+            return sequence == null ? Optional.empty() : Optional.of(sequence - polledCount.get());
+        }
+
+        long size() {
+            return nextSequence.get() - polledCount.get();
+        }
+
+        List<String> pollFirst(int count) {
+            List<String> polled = new ArrayList<>(count);
+            String token;
+            while (polled.size() < count && (token = queue.poll()) != null) {
+                sequenceByToken.remove(token);
+                polledCount.incrementAndGet();
+                polled.add(token);
+            }
+            return polled;
+        }
+    }
+}
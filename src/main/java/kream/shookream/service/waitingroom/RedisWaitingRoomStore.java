@@ -0,0 +1,140 @@
+package kream.shookream.service.waitingroom;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Redis sorted set 대기열
+ * score = 이벤트별 입장 순번 (INCR) -> 순위 조회는 ZRANK O(log n), 입장 처리는 ZPOPMIN
+ * 입장 허용량 토큰 버킷도 Redis 에 하나만 둠 (Redis 서버 시각 기준) -> 인스턴스 수와 관계없이 전체 입장 속도 유지
+ */
+@Component
+@ConditionalOnProperty(prefix = "waiting-room", name = "store", havingValue = "REDIS", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisWaitingRoomStore implements WaitingRoomStore {
+
+    // KEYS : [대기열 zset, 활성 이벤트 set]
+    // ARGV : [꺼낼 수, 이벤트 ID]
+    // 꺼낸 뒤 대기열이 비었을 때만 활성 이벤트에서 제외 -> 꺼내는 사이에 들어온 입장이 활성 목록에서 빠지지 않음
+    private static final RedisScript<List> POLL_SCRIPT = RedisScript.of("""
+            local popped = redis.call('ZPOPMIN', KEYS[1], ARGV[1])
+            if redis.call('ZCARD', KEYS[1]) == 0 then
+                redis.call('SREM', KEYS[2], ARGV[2])
+            end
+            local tokens = {}
+            for i = 1, #popped, 2 do
+                tokens[#tokens + 1] = popped[i]
+            end
+            return tokens
+            """, List.class);
+
+    // KEYS : [토큰 버킷 hash]
+    // ARGV : [꺼낼 수, 초당 충전량, 버킷 크기]
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local rate = tonumber(ARGV[2])
+            local capacity = tonumber(ARGV[3])
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'updated')
+            local tokens = tonumber(state[1]) or capacity
+            local updated = tonumber(state[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - updated) / 1000000 * rate)
+            local taken = math.min(tonumber(ARGV[1]), math.floor(tokens))
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens - taken), 'updated', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], 60000)
+            return taken
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final WaitingRoomProperties waitingRoomProperties;
+
+    @Override
+    public long enter(Long eventId, String token) {
+        Long sequence = redisTemplate.opsForValue().increment(sequenceKey(eventId));
+        redisTemplate.opsForZSet().addIfAbsent(queueKey(eventId), token, sequence);
+        redisTemplate.opsForSet().add(eventsKey(), eventId.toString());
+
+        return position(eventId, token).orElse(0L);
+    }
+
+    @Override
+    public Optional<Long> position(Long eventId, String token) {
+        return Optional.ofNullable(redisTemplate.opsForZSet().rank(queueKey(eventId), token));
+    }
+
+    @Override
+    public long size(Long eventId) {
+        Long size = redisTemplate.opsForZSet().zCard(queueKey(eventId));
+        return size == null ? 0 : size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> pollFirst(Long eventId, int count) {
+        List<String> polled = redisTemplate.execute(POLL_SCRIPT, List.of(queueKey(eventId), eventsKey()),
+                String.valueOf(count), eventId.toString());
+        return polled == null ? List.of() : polled;
+    }
+
+    @Override
+    public int acquireAdmissionPermits(int requested, double ratePerSecond, int capacity) {
+        Long taken = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(admissionBucketKey()),
+                String.valueOf(requested), String.valueOf(ratePerSecond), String.valueOf(capacity));
+        return taken == null ? 0 : taken.intValue();
+    }
+
+    @Override
+    public Set<Long> activeEventIds() {
+        Set<String> members = redisTemplate.opsForSet().members(eventsKey());
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void admit(String token, Duration ttl) {
+        redisTemplate.opsForValue().set(admittedKey(token), "1", ttl);
+    }
+
+    @Override
+    public boolean isAdmitted(String token) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(admittedKey(token)));
+    }
+
+    @Override
+    public boolean consumeAdmission(String token) {
+        return redisTemplate.opsForValue().getAndDelete(admittedKey(token)) != null;
+    }
+
+    private String queueKey(Long eventId) {
+        return waitingRoomProperties.getKeyPrefix() + ":queue:" + eventId;
+    }
+
+    private String sequenceKey(Long eventId) {
+        return waitingRoomProperties.getKeyPrefix() + ":seq:" + eventId;
+    }
+
+    private String eventsKey() {
+        return waitingRoomProperties.getKeyPrefix() + ":events";
+    }
+
+    private String admissionBucketKey() {
+        return waitingRoomProperties.getKeyPrefix() + ":admission-bucket";
+    }
+
+    private String admittedKey(String token) {
+        return waitingRoomProperties.getKeyPrefix() + ":admitted:" + token;
+    }
+}
@@ -0,0 +1,37 @@
+package kream.shookream.service.waitingroom;
+
+/**
+ * 입장 허용량 토큰 버킷
+ * 초당 refillPerSecond 만큼 채워지고 capacity 까지만 쌓임 -> 오래 비어 있던 뒤에도 한 번에 capacity 이상 입장시키지 않음
+ * 동기화 없음 -> 호출하는 쪽 (InMemoryWaitingRoomStore) 에서 직렬화
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerSecond;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double capacity, double refillPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    // 최대 requested 개까지 꺼내고 실제로 꺼낸 수 반환
+    public int take(int requested, long nowNanos) {
+        refill(nowNanos);
+
+        int taken = (int) Math.min(requested, Math.floor(tokens));
+        tokens -= taken;
+        return taken;
+    }
+
+    private void refill(long nowNanos) {
+        double elapsedSeconds = (nowNanos - lastRefillNanos) / 1_000_000_000.0;
+        tokens = Math.min(capacity, tokens + elapsedSeconds * refillPerSecond);
+        lastRefillNanos = nowNanos;
+    }
+}
@@ -0,0 +1,69 @@
+package kream.shookream.service.waitingroom;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 입장 허용 스케줄러
+ * 토큰 버킷으로 주문 파이프라인이 감당할 수 있는 속도 (waiting-room.admit-rate-per-second) 만큼만 대기열에서 꺼내 입장시킴
+ * 버킷은 저장소에 하나만 있음 (REDIS : 모든 인스턴스가 공유) -> 스케줄러가 인스턴스마다 돌아도 전체 입장 속도는 그대로
+ * 대기 중인 이벤트가 여럿이면 허용량을 고르게 나눔
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "waiting-room", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class WaitingRoomAdmitter {
+
+    private final WaitingRoomStore waitingRoomStore;
+    private final WaitingRoomProperties waitingRoomProperties;
+
+    @Scheduled(fixedDelayString = "${waiting-room.tick-ms:100}")
+    public void admit() {
+        Map<Long, Long> waitingByEventId = new LinkedHashMap<>();
+        for (Long eventId : waitingRoomStore.activeEventIds()) {
+            long waiting = waitingRoomStore.size(eventId);
+            if (waiting > 0) {
+                waitingByEventId.put(eventId, waiting);
+            }
+        }
+        if (waitingByEventId.isEmpty()) {
+            return;
+        }
+
+        // 대기 인원만큼만 꺼냄 -> 남은 허용량은 버킷에 남아 다음 tick 으로
+        long totalWaiting = waitingByEventId.values().stream().mapToLong(Long::longValue).sum();
+        int permits = waitingRoomStore.acquireAdmissionPermits((int) Math.min(totalWaiting, waitingRoomProperties.getBurst()),
+                waitingRoomProperties.getAdmitRatePerSecond(), waitingRoomProperties.getBurst());
+        if (permits == 0) {
+            return;
+        }
+
+        Duration ttl = Duration.ofSeconds(waitingRoomProperties.getAdmissionTtlSeconds());
+        // 대기 인원이 적은 이벤트부터 -> 다 쓰지 못한 몫이 뒤 (대기 인원이 많은) 이벤트로 넘어감
+        List<Long> eventIds = new ArrayList<>(waitingByEventId.keySet());
+        eventIds.sort(Comparator.comparing(waitingByEventId::get));
+
+        for (int i = 0; i < eventIds.size() && permits > 0; i++) {
+            Long eventId = eventIds.get(i);
+            // 남은 허용량을 남은 이벤트 수로 나눔
+            int share = (int) Math.ceil((double) permits / (eventIds.size() - i));
+            int requested = (int) Math.min(share, waitingByEventId.get(eventId));
+
+            List<String> admitted = waitingRoomStore.pollFirst(eventId, requested);
+            admitted.forEach(token -> waitingRoomStore.admit(token, ttl));
+            permits -= admitted.size();
+            log.debug("대기열 입장 eventId = {}, admitted = {}", eventId, admitted.size());
+        }
+    }
+}
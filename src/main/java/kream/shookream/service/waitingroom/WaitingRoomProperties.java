@@ -0,0 +1,30 @@
+package kream.shookream.service.waitingroom;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "waiting-room")
+public class WaitingRoomProperties {
+
+    // true 면 입장 토큰이 있는 요청만 주문 생성 가능
+    private boolean enabled = false;
+
+    private WaitingRoomStoreType store = WaitingRoomStoreType.REDIS;
+
+    private String keyPrefix = "waiting-room";
+
+    // 초당 입장 허용 수 (주문 파이프라인이 감당할 수 있는 처리량에 맞춤)
+    private double admitRatePerSecond = 200;
+
+    // 한 번에 입장시킬 수 있는 최대 수 (토큰 버킷 크기)
+    private int burst = 50;
+
+    // 입장 허용 후 주문을 호출할 수 있는 시간
+    private long admissionTtlSeconds = 120;
+
+    // 입장 처리 주기
+    private long tickMs = 100;
+}
@@ -0,0 +1,46 @@
+package kream.shookream.service.waitingroom;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * 가상 대기실
+ * 오픈 직후 몰린 요청을 이벤트별 대기열에 세우고, WaitingRoomAdmitter 가 허용 속도만큼 입장시킴
+ * 입장 토큰이 있는 요청만 주문 생성 API 를 호출할 수 있음 (WaitingRoomInterceptor)
+ * 토큰은 대기열에 들어온 이벤트 / 회원에 묶임 (WaitingRoomToken) -> 다른 회원 / 이벤트 주문에는 쓸 수 없음
+ */
+@Service
+@RequiredArgsConstructor
+public class WaitingRoomService {
+
+    private final WaitingRoomStore waitingRoomStore;
+    private final WaitingRoomProperties waitingRoomProperties;
+
+    public WaitingRoomStatus enter(Long eventId, Long memberId) {
+        String token = WaitingRoomToken.issue(eventId, memberId).getValue();
+        long position = waitingRoomStore.enter(eventId, token);
+
+        return new WaitingRoomStatus(token, eventId, position, false, eta(position));
+    }
+
+    /**
+     * 순위 조회 (Redis : ZRANK O(log n)) + 입장 여부 확인
+     */
+    public Optional<WaitingRoomStatus> status(Long eventId, String token) {
+        Optional<Long> position = waitingRoomStore.position(eventId, token);
+        if (position.isPresent()) {
+            return Optional.of(new WaitingRoomStatus(token, eventId, position.get(), false, eta(position.get())));
+        }
+
+        if (waitingRoomStore.isAdmitted(token)) {
+            return Optional.of(new WaitingRoomStatus(token, eventId, null, true, 0));
+        }
+        return Optional.empty();
+    }
+
+    private long eta(long position) {
+        return (long) Math.ceil(position / waitingRoomProperties.getAdmitRatePerSecond());
+    }
+}
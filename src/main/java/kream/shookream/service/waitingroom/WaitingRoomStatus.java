@@ -0,0 +1,25 @@
+package kream.shookream.service.waitingroom;
+
+import lombok.Getter;
+
+/**
+ * 대기열 진행 상태
+ * position 은 앞에 있는 인원 수 (입장했으면 null), etaSeconds 는 입장 허용 속도로 계산한 예상 대기 시간
+ */
+@Getter
+public class WaitingRoomStatus {
+
+    private final String token;
+    private final Long eventId;
+    private final Long position;
+    private final boolean admitted;
+    private final long etaSeconds;
+
+    public WaitingRoomStatus(String token, Long eventId, Long position, boolean admitted, long etaSeconds) {
+        this.token = token;
+        this.eventId = eventId;
+        this.position = position;
+        this.admitted = admitted;
+        this.etaSeconds = etaSeconds;
+    }
+}
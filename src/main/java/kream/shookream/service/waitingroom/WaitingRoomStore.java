@@ -0,0 +1,37 @@
+package kream.shookream.service.waitingroom;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 이벤트별 대기열 + 입장 허용 토큰 저장소 -> waiting-room.store 로 구현체 선택
+ */
+public interface WaitingRoomStore {
+
+    // 대기열 맨 뒤에 추가하고 앞에 있는 인원 수 (0부터) 반환
+    long enter(Long eventId, String token);
+
+    // 앞에 있는 인원 수, 대기열에 없으면 (입장했거나 모르는 토큰) empty
+    Optional<Long> position(Long eventId, String token);
+
+    long size(Long eventId);
+
+    // 앞에서부터 count 명을 꺼냄 (대기열이 비면 활성 이벤트에서 제외)
+    List<String> pollFirst(Long eventId, int count);
+
+    // 입장 허용량 토큰 버킷에서 최대 requested 개를 꺼내고 실제로 꺼낸 수 반환
+    // 버킷은 저장소 범위에서 하나 -> 입장 스케줄러가 여러 인스턴스에서 돌아도 전체 입장 속도는 ratePerSecond
+    int acquireAdmissionPermits(int requested, double ratePerSecond, int capacity);
+
+    // 대기 인원이 있는 이벤트
+    Set<Long> activeEventIds();
+
+    void admit(String token, Duration ttl);
+
+    boolean isAdmitted(String token);
+
+    // 입장 토큰 1회 사용 -> 같은 토큰으로 다시 들어올 수 없음
+    boolean consumeAdmission(String token);
+}
@@ -0,0 +1,9 @@
+package kream.shookream.service.waitingroom;
+
+public enum WaitingRoomStoreType {
+    // Redis sorted set (여러 인스턴스가 같은 대기열 공유)
+    REDIS,
+
+    // 단일 인스턴스용 메모리 대기열
+    MEMORY
+}
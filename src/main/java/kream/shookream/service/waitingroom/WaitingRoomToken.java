@@ -0,0 +1,50 @@
+package kream.shookream.service.waitingroom;
+
+import lombok.Getter;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 대기열 토큰 = {eventId}.{memberId}.{무작위 UUID}
+ * 입장 허용은 토큰 문자열 전체를 키로 저장하므로 앞부분을 바꾸면 입장 기록이 없는 토큰이 됨
+ * -> 주문 요청의 회원 / 이벤트가 토큰에 적힌 값과 같은지만 확인하면 다른 회원 / 이벤트 주문에 쓸 수 없음
+ */
+@Getter
+public class WaitingRoomToken {
+
+    private final Long eventId;
+    private final Long memberId;
+    private final String value;
+
+    private WaitingRoomToken(Long eventId, Long memberId, String value) {
+        this.eventId = eventId;
+        this.memberId = memberId;
+        this.value = value;
+    }
+
+    public static WaitingRoomToken issue(Long eventId, Long memberId) {
+        return new WaitingRoomToken(eventId, memberId, eventId + "." + memberId + "." + UUID.randomUUID());
+    }
+
+    // 형식이 맞지 않으면 empty
+    public static Optional<WaitingRoomToken> parse(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+
+        String[] parts = value.split("\\.", 3);
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new WaitingRoomToken(Long.valueOf(parts[0]), Long.valueOf(parts[1]), value));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public boolean isIssuedFor(Long eventId, Long memberId) {
+        return this.eventId.equals(eventId) && this.memberId.equals(memberId);
+    }
+}
@@ -59,16 +59,14 @@ VALUES ('테스트 주경기장', 60000, '02-1234-5678'); -- ID 1번 Venue 생
 -- ###########################################################
 
 -- 3-1. [EVENTS] 10만 건의 이벤트 생성 (Seller, Venue FK 참조)
-INSERT INTO events (venue_id, seller_id, event_name, event_type, start_time, end_time, max_ticket_count, current_ticket_stock_count)
+INSERT INTO events (venue_id, seller_id, event_name, event_type, start_time, end_time)
 SELECT
     1, -- venue_id 1번 고정
     (ABS(CAST(RAND() * 100 AS SIGNED)) + 1), -- 랜덤 seller ID (1-100)
     CONCAT('Event Title ', t1.i + t2.i * 10 + t3.i * 100 + t4.i * 1000 + t5.i * 10000),
     CASE WHEN RAND() < 0.5 THEN 'CONCERT' ELSE 'OTHER' END,
     DATE_ADD(DATE_SUB(NOW(), INTERVAL 1 YEAR), INTERVAL FLOOR(RAND() * 31536000) SECOND) AS start_time,
-    DATE_ADD(DATE_SUB(NOW(), INTERVAL 1 YEAR), INTERVAL FLOOR(RAND() * 31536000) SECOND) AS end_time,
-    FLOOR(100 + (RAND() * 1000)),
-    FLOOR(100 + (RAND() * 1000))
+    DATE_ADD(DATE_SUB(NOW(), INTERVAL 1 YEAR), INTERVAL FLOOR(RAND() * 31536000) SECOND) AS end_time
 FROM
     helper_numbers AS t1
         CROSS JOIN helper_numbers AS t2
@@ -77,6 +75,11 @@ FROM
         CROSS JOIN helper_numbers AS t5
     LIMIT 100000; -- 10만 건 삽입
 
+-- 3-1-1. [EVENT_STOCK] 이벤트별 재고 행 (이벤트와 1:1, 총 재고 = 잔여 재고로 시작)
+INSERT INTO event_stock (event_id, max_ticket_count, current_ticket_stock_count, version, stock_shard_count)
+SELECT stock.event_id, stock.ticket_count, stock.ticket_count, 0, 0
+FROM (SELECT event_id, FLOOR(100 + (RAND() * 1000)) AS ticket_count FROM events) AS stock;
+
 -- 3-2. [ORDERS] 100만 건의 주문 생성 (Member FK 참조)
 INSERT INTO orders (member_id, ordered_at, total_order_amount, status)
 SELECT
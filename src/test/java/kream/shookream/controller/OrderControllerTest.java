@@ -0,0 +1,76 @@
+package kream.shookream.controller;
+
+import kream.shookream.service.idempotency.IdempotentOrderService;
+import kream.shookream.service.order.OrderEngine;
+import kream.shookream.service.order.submission.OrderSubmission;
+import kream.shookream.service.order.submission.OrderSubmissionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("비동기 주문 접수 API 테스트")
+class OrderControllerTest {
+
+    private static final String REQUEST_BODY = """
+            {"memberId": 1, "ticketIds": [10, 11]}
+            """;
+
+    private OrderSubmissionService orderSubmissionService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        orderSubmissionService = mock(OrderSubmissionService.class);
+        OrderController controller = new OrderController(mock(OrderEngine.class), orderSubmissionService,
+                mock(IdempotentOrderService.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    @DisplayName("접수되면 202 와 접수 토큰 (Location) 을 바로 반환해야 한다")
+    void should_return_202_with_token() throws Exception {
+        // given
+        OrderSubmission submission = new OrderSubmission("token-1", 1L, LocalDateTime.now());
+        when(orderSubmissionService.submit(1L, List.of(10L, 11L))).thenReturn(submission);
+
+        // when & then
+        mockMvc.perform(post("/api/orders/submissions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(REQUEST_BODY))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/api/orders/token-1"))
+                .andExpect(jsonPath("$.token").value("token-1"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("처리 대기열이 가득 차면 503 과 Retry-After 를 반환해야 한다")
+    void should_return_503_when_queue_full() throws Exception {
+        // given
+        when(orderSubmissionService.submit(1L, List.of(10L, 11L))).thenThrow(new RejectedExecutionException());
+
+        // when & then
+        mockMvc.perform(post("/api/orders/submissions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(REQUEST_BODY))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(content().string(""));
+    }
+}
@@ -8,7 +8,9 @@ import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -20,6 +22,8 @@ public class OrderDomainTest {
     private Venue testVenue;
     private Seller testSeller;
     private Event testEvent;
+    private EventStock testStock;
+    private Map<Long, EventStock> lockedStockByEventId;
     private Ticket availableTicket;
 
     @BeforeEach
@@ -51,9 +55,17 @@ public class OrderDomainTest {
                 .eventName("테스트 공연")
                 .eventType(EventType.CONCERT)
                 .eventTime(new EventTime(LocalDateTime.now(), LocalDateTime.now().plusHours(2)))
+                .build();
+
+        testStock = EventStock.builder()
+                .event(testEvent)
                 .maxTicketCount(1) // ⭐️ 핵심: 재고를 1개로 설정
                 .build();
 
+        // 서비스에서는 락을 걸고 불러온 재고 행 (영속화 전이라 ID 는 null)
+        lockedStockByEventId = new HashMap<>();
+        lockedStockByEventId.put(testEvent.getId(), testStock);
+
         // 3. Ticket 객체 생성 (Event와 연결)
         availableTicket = Ticket.builder()
                 .event(testEvent)
@@ -75,7 +87,7 @@ public class OrderDomainTest {
         List<Ticket> ticketsToPurchase = Collections.singletonList(availableTicket);
 
         // when: 주문 생성 (createOrder 팩토리 메서드 호출)
-        Order order = Order.createOrder(testMember, ticketsToPurchase);
+        Order order = Order.createOrder(testMember, ticketsToPurchase, lockedStockByEventId);
 
         // then:
         // 1. Order 객체 상태 검증
@@ -86,8 +98,8 @@ public class OrderDomainTest {
         // 2. Ticket 객체 상태 검증 (SOLDOUT으로 변경되었는지)
         assertThat(availableTicket.getStatus()).isEqualTo(TicketStatus.SOLDOUT);
 
-        // 3. Event 객체 재고 검증 (1 -> 0으로 감소했는지)
-        assertThat(testEvent.getCurrentTicketStockCount()).isEqualTo(0);
+        // 3. 재고 검증 (1 -> 0으로 감소했는지)
+        assertThat(testStock.getCurrentTicketStockCount()).isEqualTo(0);
 
         // 4. 양방향 매핑 검증 (OrderTicket -> Order)
         OrderTicket createdOrderTicket = order.getOrderTickets().get(0);
@@ -102,7 +114,7 @@ public class OrderDomainTest {
         List<Ticket> ticketsToPurchase = Collections.singletonList(availableTicket);
 
         // when & then: 주문 생성 시 IllegalStateException 발생 예상
-        assertThatThrownBy(() -> Order.createOrder(testMember, ticketsToPurchase))
+        assertThatThrownBy(() -> Order.createOrder(testMember, ticketsToPurchase, lockedStockByEventId))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("이미 매진된 표입니다.");
     }
@@ -115,10 +127,10 @@ public class OrderDomainTest {
     @DisplayName("주문 취소 시_주문상태 CANCELED, 티켓상태 AVAILABLE, 재고 1로 복구")
     void cancelOrderSuccessTest() {
         // given: 성공적으로 생성된 주문 (재고 0, 티켓 SOLDOUT 상태)
-        Order order = Order.createOrder(testMember, Collections.singletonList(availableTicket));
+        Order order = Order.createOrder(testMember, Collections.singletonList(availableTicket), lockedStockByEventId);
 
         // when: 주문 취소
-        order.cancel();
+        order.cancel(lockedStockByEventId);
 
         // then:
         // 1. Order 객체 상태 검증
@@ -127,19 +139,19 @@ public class OrderDomainTest {
         // 2. Ticket 객체 상태 검증 (AVAILABLE로 복구되었는지)
         assertThat(availableTicket.getStatus()).isEqualTo(TicketStatus.AVAILABLE);
 
-        // 3. Event 객체 재고 검증 (0 -> 1로 복구되었는지)
-        assertThat(testEvent.getCurrentTicketStockCount()).isEqualTo(1);
+        // 3. 재고 검증 (0 -> 1로 복구되었는지)
+        assertThat(testStock.getCurrentTicketStockCount()).isEqualTo(1);
     }
 
     @Test
     @DisplayName("이미 CANCELED 주문을 다시 취소 시도 시_예외 발생")
     void cancelOrderFailure_AlreadyCancelled() {
         // given: 주문 생성 후 바로 취소하여 CANCELED 상태로 만듦
-        Order order = Order.createOrder(testMember, Collections.singletonList(availableTicket));
-        order.cancel();
+        Order order = Order.createOrder(testMember, Collections.singletonList(availableTicket), lockedStockByEventId);
+        order.cancel(lockedStockByEventId);
 
         // when & then: 다시 취소 시도 시 IllegalStateException 발생 예상
-        assertThatThrownBy(order::cancel)
+        assertThatThrownBy(() -> order.cancel(lockedStockByEventId))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("현재 주문은 취소할 수 없습니다.");
     }
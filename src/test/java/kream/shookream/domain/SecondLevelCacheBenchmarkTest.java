@@ -0,0 +1,101 @@
+package kream.shookream.domain;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import kream.shookream.config.IntegrationTest;
+import kream.shookream.repository.EventRepository;
+import kream.shookream.repository.SellerRepository;
+import kream.shookream.repository.VenueRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+@Slf4j
+@DisplayName("2차 캐시 적용 전후 쿼리 수 벤치마크")
+class SecondLevelCacheBenchmarkTest {
+
+    private static final int REQUEST_COUNT = 100;
+
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private EntityManager entityManager;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private VenueRepository venueRepository;
+    @Autowired private SellerRepository sellerRepository;
+
+    private final List<Long> eventIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Venue venue = venueRepository.save(Venue.builder().venueName("캐시 공연장").build());
+        Seller seller = sellerRepository.save(Seller.builder().sellerName("캐시 판매자").build());
+
+        for (int i = 0; i < 10; i++) {
+            eventIds.add(eventRepository.save(Event.builder()
+                    .venue(venue)
+                    .seller(seller)
+                    .eventName("캐시 이벤트 " + i)
+                    .build()).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("요청마다 이벤트의 공연장 / 판매자를 지연 로딩해도 2차 캐시 적재 후에는 쿼리가 나가지 않아야 한다")
+    void should_serve_venue_and_seller_from_second_level_cache() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // before : 매 요청 전에 2차 캐시를 비워 캐시가 없는 상태를 재현
+        statistics.clear();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            entityManagerFactory.getCache().evictAll();
+            traverse(eventIds.get(i % eventIds.size()));
+        }
+        long loadsWithoutCache = venueAndSellerLoadCount(statistics);
+        long queriesWithoutCache = statistics.getPrepareStatementCount();
+
+        // after : 첫 요청에서 적재된 공연장 / 판매자를 이후 요청들이 재사용
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            traverse(eventIds.get(i % eventIds.size()));
+        }
+        long loadsWithCache = venueAndSellerLoadCount(statistics);
+        long queriesWithCache = statistics.getPrepareStatementCount();
+        long cacheHits = statistics.getSecondLevelCacheHitCount();
+
+        // 쿼리 수는 백그라운드 스케줄러(outbox / 알림) 쿼리도 포함되므로 로그로만 비교
+        log.info("요청 {}건 쿼리 수 : 캐시 없음 = {}, 캐시 적용 = {} / 공연장+판매자 DB 적재 : {} -> {} (2차 캐시 적중 = {})",
+                REQUEST_COUNT, queriesWithoutCache, queriesWithCache, loadsWithoutCache, loadsWithCache, cacheHits);
+
+        // 요청당 공연장 1 + 판매자 1 적재 -> 처음 한 번씩만 적재
+        assertThat(loadsWithoutCache).isEqualTo(REQUEST_COUNT * 2L);
+        assertThat(loadsWithCache).isEqualTo(2L);
+        assertThat(cacheHits).isGreaterThanOrEqualTo((REQUEST_COUNT - 1) * 2L);
+        assertThat(queriesWithCache).isLessThan(queriesWithoutCache);
+    }
+
+    private long venueAndSellerLoadCount(Statistics statistics) {
+        return statistics.getEntityStatistics(Venue.class.getName()).getLoadCount()
+                + statistics.getEntityStatistics(Seller.class.getName()).getLoadCount();
+    }
+
+    // 요청 1건 = 트랜잭션 1개 (영속성 컨텍스트가 요청마다 새로 만들어짐)
+    private void traverse(Long eventId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Event event = entityManager.find(Event.class, eventId);
+            event.getVenue().getVenueName();
+            event.getSeller().getSellerName();
+        });
+    }
+}
@@ -0,0 +1,130 @@
+package kream.shookream.external;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kream.shookream.external.dto.ExternalEventResponse;
+import kream.shookream.external.dto.ExternalParticipantRequest;
+import kream.shookream.global.executor.BoundedExecutorFactory;
+import kream.shookream.global.executor.ExecutorProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("티켓 링크 참가 등록 micro-batching 테스트")
+class BatchingExternalEventClientTest {
+
+    private static final long CALL_LATENCY_MS = 50;
+    private static final int REQUEST_COUNT = 1000;
+
+    private BoundedExecutorFactory executorFactory;
+    private BatchingExternalEventClient client;
+
+    @AfterEach
+    void tearDown() {
+        client.stop();
+        executorFactory.shutdown();
+    }
+
+    @Test
+    @DisplayName("모아서 일괄 호출하면 외부 왕복 횟수가 요청 수보다 한 자릿수 이상 줄고, 응답은 각 호출자에게 돌아가야 한다")
+    void should_cut_round_trips_and_demultiplex_responses() {
+        // given : 호출당 고정 50ms 지연 -> 건별 순차 호출이면 1000건에 50초
+        FixedLatencyExternalEventApi externalEventApi = new FixedLatencyExternalEventApi(false);
+        client = createClient(externalEventApi);
+
+        // when
+        long start = System.currentTimeMillis();
+        List<CompletableFuture<ExternalEventResponse>> futures = new ArrayList<>();
+        for (long memberId = 1; memberId <= REQUEST_COUNT; memberId++) {
+            futures.add(client.registerParticipant("outbox-" + memberId, List.of(1L), memberId, List.of("오픈 이벤트")));
+        }
+        List<ExternalEventResponse> responses = futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+        long elapsed = System.currentTimeMillis() - start;
+
+        // then
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            assertThat(responses.get(i).getExternalId()).isEqualTo(String.valueOf(i + 1));
+        }
+        assertThat(externalEventApi.callCount.get()).isLessThanOrEqualTo(REQUEST_COUNT / 10);
+        assertThat(elapsed).isLessThan(REQUEST_COUNT * CALL_LATENCY_MS / 10);
+
+        System.out.println("요청 수 = " + REQUEST_COUNT + ", 외부 호출 수 = " + externalEventApi.callCount.get() + ", 소요 시간 = " + elapsed + "ms");
+    }
+
+    @Test
+    @DisplayName("일괄 호출이 실패하면 같은 배치의 모든 호출자가 실패를 받아야 한다")
+    void should_fail_every_caller_of_failed_batch() {
+        // given
+        client = createClient(new FixedLatencyExternalEventApi(true));
+
+        // when
+        CompletableFuture<ExternalEventResponse> first = client.registerParticipant("outbox-1", List.of(1L), 1L, List.of("오픈 이벤트"));
+        CompletableFuture<ExternalEventResponse> second = client.registerParticipant("outbox-2", List.of(1L), 2L, List.of("오픈 이벤트"));
+
+        // then
+        assertThatThrownBy(first::join).hasRootCauseMessage("티켓 링크 장애");
+        assertThatThrownBy(second::join).hasRootCauseMessage("티켓 링크 장애");
+    }
+
+    private BatchingExternalEventClient createClient(ExternalEventApi externalEventApi) {
+        ExternalBatchProperties batchProperties = new ExternalBatchProperties();
+        batchProperties.setWindowMs(10);
+        batchProperties.setMaxBatchSize(100);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        executorFactory = new BoundedExecutorFactory(new ExecutorProperties(), meterRegistry);
+
+        ExternalCallGuard externalCallGuard = new ExternalCallGuard(CircuitBreakerRegistry.ofDefaults(),
+                BulkheadRegistry.ofDefaults(), TimeLimiterRegistry.ofDefaults(), meterRegistry, executorFactory);
+        externalCallGuard.start();
+
+        BatchingExternalEventClient batchingClient = new BatchingExternalEventClient(
+                externalEventApi, batchProperties, executorFactory, externalCallGuard);
+        batchingClient.start();
+        return batchingClient;
+    }
+
+    // 호출당 고정 지연이 있는 외부 API, 응답의 externalId 로 회원 ID 를 돌려줌
+    static class FixedLatencyExternalEventApi extends ExternalEventApi {
+        private final boolean failing;
+        private final AtomicInteger callCount = new AtomicInteger();
+
+        FixedLatencyExternalEventApi(boolean failing) {
+            this.failing = failing;
+        }
+
+        @Override
+        public List<ExternalEventResponse> registerParticipants(List<ExternalParticipantRequest> requests) {
+            callCount.incrementAndGet();
+            try {
+                Thread.sleep(CALL_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            if (failing) {
+                throw new IllegalStateException("티켓 링크 장애");
+            }
+
+            return requests.stream()
+                    .map(request -> ExternalEventResponse.builder()
+                            .success(true)
+                            .externalId(String.valueOf(request.getMemberId()))
+                            .build())
+                    .collect(Collectors.toList());
+        }
+    }
+}
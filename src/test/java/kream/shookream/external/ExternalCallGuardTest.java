@@ -0,0 +1,257 @@
+package kream.shookream.external;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kream.shookream.external.dto.ExternalEventResponse;
+import kream.shookream.external.dto.ExternalParticipantRequest;
+import kream.shookream.global.executor.BoundedExecutorFactory;
+import kream.shookream.global.executor.ExecutorProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("외부 API 장애 주입 테스트 (데드라인 / 벌크헤드 / 서킷 브레이커)")
+class ExternalCallGuardTest {
+
+    private static final List<ExternalParticipantRequest> REQUESTS =
+            List.of(new ExternalParticipantRequest(List.of(1L), 1L, List.of("오픈 이벤트"), "outbox-1"));
+
+    private FaultInjectingExternalEventApi externalEventApi;
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedExecutorFactory executorFactory;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private BulkheadRegistry bulkheadRegistry;
+    private ExternalCallGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        externalEventApi = new FaultInjectingExternalEventApi();
+        meterRegistry = new SimpleMeterRegistry();
+        executorFactory = new BoundedExecutorFactory(new ExecutorProperties(), meterRegistry);
+
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(10)
+                .minimumNumberOfCalls(5)
+                .failureRateThreshold(50)
+                .slowCallDurationThreshold(Duration.ofMillis(100))
+                .slowCallRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofSeconds(30))
+                .build());
+        bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(4)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        TimeLimiterRegistry timeLimiterRegistry = TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+                .timeoutDuration(Duration.ofMillis(200))
+                .build());
+
+        guard = new ExternalCallGuard(circuitBreakerRegistry, bulkheadRegistry, timeLimiterRegistry, meterRegistry, executorFactory);
+        guard.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorFactory.shutdown();
+    }
+
+    @Test
+    @DisplayName("상위 API 가 느려지면 데드라인에서 끊고, 서킷이 열린 뒤에는 호출하지 않고 즉시 거절해야 한다")
+    void should_time_out_and_then_fail_fast_when_upstream_slows_down() {
+        // given : 상위 API 응답 1초 (데드라인 200ms)
+        externalEventApi.latencyMs = 1000;
+
+        // when : 최소 호출 수만큼 타임아웃
+        for (int i = 0; i < 5; i++) {
+            long start = System.currentTimeMillis();
+            assertThatThrownBy(() -> register())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("응답 시간 초과");
+            assertThat(System.currentTimeMillis() - start).isLessThan(1000);
+        }
+        int callsBeforeOpen = externalEventApi.callCount.get();
+
+        // then : 서킷이 열려 상위 API 를 호출하지 않고 바로 거절
+        assertThat(circuitBreakerRegistry.circuitBreaker(ExternalCallGuard.TICKET_LINK).getState())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+
+        long start = System.currentTimeMillis();
+        assertThatThrownBy(() -> register()).isInstanceOf(CallNotPermittedException.class);
+        assertThat(System.currentTimeMillis() - start).isLessThan(50);
+        assertThat(externalEventApi.callCount.get()).isEqualTo(callsBeforeOpen);
+
+        assertThat(meterRegistry.find("external.call").tag("outcome", "timeout").timer().count()).isEqualTo(5);
+        assertThat(meterRegistry.find("external.call").tag("outcome", "rejected").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("장애(예외)가 이어지면 서킷이 열려야 한다")
+    void should_open_circuit_on_errors() {
+        // given
+        externalEventApi.failing = true;
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> register()).hasMessage("티켓 링크 장애");
+        }
+
+        // then
+        assertThat(circuitBreakerRegistry.circuitBreaker(ExternalCallGuard.TICKET_LINK).getState())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> register()).isInstanceOf(CallNotPermittedException.class);
+    }
+
+    @Test
+    @DisplayName("동시 호출이 벌크헤드 한도를 넘으면 대기 없이 거절하고, 상위 API 동시 호출 수는 한도를 넘지 않아야 한다")
+    void should_shed_load_over_bulkhead_limit() throws InterruptedException {
+        // given : 응답 150ms (데드라인 이내), 동시 20건
+        externalEventApi.latencyMs = 150;
+        int callerCount = 20;
+        ExecutorService callers = Executors.newFixedThreadPool(callerCount);
+        CountDownLatch ready = new CountDownLatch(callerCount);
+        CountDownLatch go = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(callerCount);
+        AtomicInteger shed = new AtomicInteger();
+        AtomicInteger succeeded = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < callerCount; i++) {
+            callers.execute(() -> {
+                ready.countDown();
+                try {
+                    go.await();
+                    register();
+                    succeeded.incrementAndGet();
+                } catch (RuntimeException e) {
+                    if (ExternalCallGuard.isShed(e)) {
+                        shed.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        go.countDown();
+        done.await(5, TimeUnit.SECONDS);
+        callers.shutdown();
+
+        // then
+        assertThat(externalEventApi.maxConcurrency.get()).isLessThanOrEqualTo(4);
+        assertThat(shed.get()).isGreaterThan(0);
+        assertThat(succeeded.get() + shed.get()).isEqualTo(callerCount);
+    }
+
+    @Test
+    @DisplayName("데드라인이 지나면 실행 중인 상위 호출을 인터럽트해야 한다")
+    void should_interrupt_running_call_on_timeout() throws InterruptedException {
+        // given
+        externalEventApi.latencyMs = 1000;
+
+        // when
+        assertThatThrownBy(() -> register()).hasMessageContaining("응답 시간 초과");
+
+        // then
+        Thread.sleep(100);
+        assertThat(externalEventApi.interruptedCount.get()).isEqualTo(1);
+        assertThat(externalEventApi.inFlight.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("인터럽트에 반응하지 않는 호출은 실제로 끝날 때까지 벌크헤드 permit 을 잡고 있어야 한다")
+    void should_hold_bulkhead_permit_until_call_finishes() throws InterruptedException {
+        // given : 데드라인 200ms, 인터럽트를 무시하고 500ms 동안 응답하지 않음
+        externalEventApi.latencyMs = 500;
+        externalEventApi.ignoringInterrupt = true;
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(ExternalCallGuard.TICKET_LINK);
+
+        // when
+        assertThatThrownBy(() -> register()).hasMessageContaining("응답 시간 초과");
+
+        // then : 호출한 쪽은 돌아왔지만 상위 호출이 남아 있으므로 permit 도 남아 있음
+        assertThat(externalEventApi.inFlight.get()).isEqualTo(1);
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(3);
+
+        Thread.sleep(500);
+        assertThat(externalEventApi.inFlight.get()).isZero();
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(4);
+    }
+
+    private List<ExternalEventResponse> register() {
+        return guard.call(ExternalCallGuard.TICKET_LINK, () -> externalEventApi.registerParticipants(REQUESTS));
+    }
+
+    // 지연 / 장애를 주입할 수 있는 외부 API
+    static class FaultInjectingExternalEventApi extends ExternalEventApi {
+        private volatile long latencyMs;
+        private volatile boolean failing;
+        private volatile boolean ignoringInterrupt;
+        private final AtomicInteger interruptedCount = new AtomicInteger();
+        private final AtomicInteger callCount = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxConcurrency = new AtomicInteger();
+
+        @Override
+        public List<ExternalEventResponse> registerParticipants(List<ExternalParticipantRequest> requests) {
+            callCount.incrementAndGet();
+            maxConcurrency.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                sleep();
+            } catch (InterruptedException e) {
+                interruptedCount.incrementAndGet();
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+
+            if (failing) {
+                throw new IllegalStateException("티켓 링크 장애");
+            }
+
+            List<ExternalEventResponse> responses = new ArrayList<>();
+            requests.forEach(request -> responses.add(ExternalEventResponse.builder().success(true).build()));
+            return responses;
+        }
+
+        // ignoringInterrupt : 인터럽트가 와도 응답 시간을 다 채움 (블로킹 I/O 처럼 인터럽트에 반응하지 않는 호출)
+        private void sleep() throws InterruptedException {
+            long deadline = System.currentTimeMillis() + latencyMs;
+            while (true) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return;
+                }
+                try {
+                    Thread.sleep(remaining);
+                } catch (InterruptedException e) {
+                    if (!ignoringInterrupt) {
+                        throw e;
+                    }
+                }
+            }
+        }
+    }
+}
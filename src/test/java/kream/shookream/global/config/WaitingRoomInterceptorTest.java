@@ -0,0 +1,193 @@
+package kream.shookream.global.config;
+
+import kream.shookream.controller.OrderController;
+import kream.shookream.controller.dto.OrderRequest;
+import kream.shookream.repository.TicketRepository;
+import kream.shookream.service.idempotency.IdempotentOrderService;
+import kream.shookream.service.waitingroom.WaitingRoomProperties;
+import kream.shookream.service.waitingroom.WaitingRoomStore;
+import kream.shookream.service.waitingroom.WaitingRoomToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("대기열 토큰 검사 테스트")
+class WaitingRoomInterceptorTest {
+
+    private static final Long EVENT_ID = 1L;
+    private static final Long MEMBER_ID = 10L;
+    private static final List<Long> TICKET_IDS = List.of(100L, 101L);
+
+    private final MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+
+    private WaitingRoomStore waitingRoomStore;
+    private TicketRepository ticketRepository;
+    private IdempotentOrderService idempotentOrderService;
+    private WaitingRoomInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        waitingRoomStore = mock(WaitingRoomStore.class);
+        ticketRepository = mock(TicketRepository.class);
+        idempotentOrderService = mock(IdempotentOrderService.class);
+        interceptor = new WaitingRoomInterceptor(waitingRoomStore, new WaitingRoomProperties(), ticketRepository, idempotentOrderService);
+
+        when(ticketRepository.findDistinctEventIdsByIdIn(TICKET_IDS)).thenReturn(List.of(EVENT_ID));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(servletRequest));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("토큰의 이벤트 / 회원이 주문 요청과 같으면 토큰을 소모하고 통과해야 한다")
+    void should_consume_matching_token() {
+        // given
+        String token = WaitingRoomToken.issue(EVENT_ID, MEMBER_ID).getValue();
+        when(waitingRoomStore.consumeAdmission(token)).thenReturn(true);
+        OrderRequest request = orderRequest(MEMBER_ID);
+
+        // when
+        Object result = interceptor.afterBodyRead(request, inputMessage(token), null, OrderRequest.class, null);
+
+        // then
+        assertThat(result).isSameAs(request);
+        verify(waitingRoomStore).consumeAdmission(token);
+    }
+
+    @Test
+    @DisplayName("다른 회원의 토큰이면 소모하지 않고 403 으로 거부해야 한다")
+    void should_reject_token_of_other_member() {
+        // given
+        String token = WaitingRoomToken.issue(EVENT_ID, 99L).getValue();
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.afterBodyRead(orderRequest(MEMBER_ID), inputMessage(token), null, OrderRequest.class, null))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN));
+        verify(waitingRoomStore, never()).consumeAdmission(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 이벤트의 토큰이면 소모하지 않고 403 으로 거부해야 한다")
+    void should_reject_token_of_other_event() {
+        // given
+        String token = WaitingRoomToken.issue(2L, MEMBER_ID).getValue();
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.afterBodyRead(orderRequest(MEMBER_ID), inputMessage(token), null, OrderRequest.class, null))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN));
+        verify(waitingRoomStore, never()).consumeAdmission(anyString());
+    }
+
+    @Test
+    @DisplayName("토큰이 없거나 입장 허용되지 않은 토큰이면 429 로 거부해야 한다")
+    void should_reject_missing_or_not_admitted_token() {
+        // given
+        String token = WaitingRoomToken.issue(EVENT_ID, MEMBER_ID).getValue();
+        when(waitingRoomStore.consumeAdmission(token)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.afterBodyRead(orderRequest(MEMBER_ID), inputMessage(null), null, OrderRequest.class, null))
+                .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+        assertThatThrownBy(() -> interceptor.afterBodyRead(orderRequest(MEMBER_ID), inputMessage(token), null, OrderRequest.class, null))
+                .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+    }
+
+    @Test
+    @DisplayName("토큰을 소모한 주문이 실패로 끝나면 입장 허용을 되돌리고, 성공하면 되돌리지 않아야 한다")
+    void should_restore_admission_only_when_order_fails() throws Exception {
+        // given
+        String token = WaitingRoomToken.issue(EVENT_ID, MEMBER_ID).getValue();
+        when(waitingRoomStore.consumeAdmission(token)).thenReturn(true);
+        interceptor.afterBodyRead(orderRequest(MEMBER_ID), inputMessage(token), null, OrderRequest.class, null);
+
+        MockHttpServletResponse success = new MockHttpServletResponse();
+        success.setStatus(201);
+        MockHttpServletResponse failure = new MockHttpServletResponse();
+        failure.setStatus(500);
+
+        // when
+        interceptor.afterCompletion(servletRequest, success, null, null);
+        interceptor.afterCompletion(servletRequest, failure, null, null);
+
+        // then : 실패한 응답에서 한 번만 되돌림
+        verify(waitingRoomStore, times(1)).admit(eq(token), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("이미 완료된 Idempotency-Key 의 재시도는 토큰 없이 통과해 저장된 결과를 받아야 한다")
+    void completed_idempotent_retry_should_pass_without_token() throws Exception {
+        // given
+        when(idempotentOrderService.hasCompletedResult("key-1")).thenReturn(true);
+        MockHttpInputMessage message = (MockHttpInputMessage) inputMessage(null);
+        message.getHeaders().set("Idempotency-Key", "key-1");
+        MethodParameter createOrderBody = new MethodParameter(
+                OrderController.class.getMethod("createOrder", String.class, OrderRequest.class), 1);
+        OrderRequest request = orderRequest(MEMBER_ID);
+
+        // when
+        Object result = interceptor.afterBodyRead(request, message, createOrderBody, OrderRequest.class, null);
+
+        // then
+        assertThat(result).isSameAs(request);
+        verify(waitingRoomStore, never()).consumeAdmission(anyString());
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key 를 받지 않는 비동기 접수는 완료된 키가 있어도 토큰이 필요해야 한다")
+    void submission_should_require_token_even_with_completed_key() throws Exception {
+        // given
+        when(idempotentOrderService.hasCompletedResult("key-1")).thenReturn(true);
+        MockHttpInputMessage message = (MockHttpInputMessage) inputMessage(null);
+        message.getHeaders().set("Idempotency-Key", "key-1");
+        MethodParameter submitOrderBody = new MethodParameter(
+                OrderController.class.getMethod("submitOrder", OrderRequest.class), 0);
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.afterBodyRead(orderRequest(MEMBER_ID), message, submitOrderBody, OrderRequest.class, null))
+                .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+    }
+
+    private OrderRequest orderRequest(Long memberId) {
+        OrderRequest request = new OrderRequest();
+        request.setMemberId(memberId);
+        request.setTicketIds(TICKET_IDS);
+        return request;
+    }
+
+    private HttpInputMessage inputMessage(String token) {
+        MockHttpInputMessage message = new MockHttpInputMessage(new byte[0]);
+        if (token != null) {
+            message.getHeaders().set(WaitingRoomInterceptor.TOKEN_HEADER, token);
+        }
+        return message;
+    }
+}
@@ -7,6 +7,7 @@ import kream.shookream.domain.TicketStatus;
 import kream.shookream.external.ExternalEventApi;
 import kream.shookream.external.KakaoTalkMessageApi;
 import kream.shookream.external.dto.ExternalEventResponse;
+import kream.shookream.external.dto.ExternalParticipantRequest;
 import kream.shookream.external.event.EventJoinCompletedEvent;
 import kream.shookream.repository.MemberRepository;
 import kream.shookream.repository.TicketRepository;
@@ -102,6 +103,13 @@ class AsyncEventTest {
                     return ExternalEventResponse.builder().success(true).build();
                 }
 
+                @Override
+                public List<ExternalEventResponse> registerParticipants(List<ExternalParticipantRequest> requests) {
+                    return requests.stream()
+                            .map(request -> ExternalEventResponse.builder().success(true).build())
+                            .collect(Collectors.toList());
+                }
+
                 @Override
                 public ExternalEventResponse getParticipantInfo(Long eventId, Long memberId) {
                     return ExternalEventResponse.builder().success(true).build();
@@ -5,7 +5,9 @@ import kream.shookream.domain.*;
 import kream.shookream.external.ExternalEventApi;
 import kream.shookream.external.KakaoTalkMessageApi;
 import kream.shookream.external.dto.ExternalEventResponse;
+import kream.shookream.external.dto.ExternalParticipantRequest;
 import kream.shookream.repository.EventRepository;
+import kream.shookream.repository.EventStockRepository;
 import kream.shookream.repository.MemberRepository;
 import kream.shookream.repository.OrderRepository;
 import kream.shookream.repository.TicketRepository;
@@ -42,6 +44,7 @@ class OrderCompletionTest {
     @Autowired private MemberRepository memberRepository;
     @Autowired private TicketRepository ticketRepository;
     @Autowired private EventRepository eventRepository;
+    @Autowired private EventStockRepository eventStockRepository;
 
     // 외부 연동 및 알림 서비스는 Mock 처리
     @MockBean private ExternalEventApi externalEventApi;
@@ -56,9 +59,9 @@ class OrderCompletionTest {
         // 0. 테스트용 Event 객체를 먼저 생성하고 저장합니다.
         Event testEvent = Event.builder()
                 .eventName("알림톡 테스트 이벤트")
-                .maxTicketCount(500)
                 .build();
         eventRepository.save(testEvent);
+        eventStockRepository.save(EventStock.builder().event(testEvent).maxTicketCount(500).build());
 
         // 1. 테스트 멤버 저장
         testMember = Member.builder().phoneNumber("010-1234-5678").build();
@@ -97,6 +100,9 @@ class OrderCompletionTest {
         // 외부 API는 성공하도록 설정 (외부 서비스 참여는 성공해야 주문이 유지됨)
         given(externalEventApi.registerParticipant(any(), any(), any()))
                 .willReturn(ExternalEventResponse.builder().success(true).build());
+        // outbox 디스패처는 일괄 등록 API 로 호출
+        given(externalEventApi.registerParticipants(any()))
+                .willAnswer(invocation -> successResponses(invocation.getArgument(0)));
 
         // when
         Order resultOrder = orderService.createOrder(testMember.getId(), initialTicketIds);
@@ -131,6 +137,9 @@ class OrderCompletionTest {
         // 외부 API는 성공하도록 설정
         given(externalEventApi.registerParticipant(any(), any(), any()))
                 .willReturn(ExternalEventResponse.builder().success(true).build());
+        // outbox 디스패처는 일괄 등록 API 로 호출
+        given(externalEventApi.registerParticipants(any()))
+                .willAnswer(invocation -> successResponses(invocation.getArgument(0)));
 
         // when
         Order resultOrder = orderService.createOrder(testMember.getId(), initialTicketIds);
@@ -151,4 +160,10 @@ class OrderCompletionTest {
 
         log.info("테스트 2 완료: 주문 ID {}가 성공적으로 저장되고 카카오톡이 발송되었습니다.", resultOrder.getId());
     }
-}
\ No newline at end of file
+
+    private static List<ExternalEventResponse> successResponses(List<ExternalParticipantRequest> requests) {
+        return requests.stream()
+                .map(request -> ExternalEventResponse.builder().success(true).build())
+                .collect(Collectors.toList());
+    }
+}
@@ -26,6 +26,7 @@ class OrderServiceTest {
     private OrderService orderService;
 
     @Autowired private EventRepository eventRepository;
+    @Autowired private EventStockRepository eventStockRepository;
     @Autowired private MemberRepository memberRepository;
     @Autowired private TicketRepository ticketRepository;
     @Autowired private VenueRepository venueRepository;
@@ -68,8 +69,8 @@ class OrderServiceTest {
         Event event = eventRepository.save(Event.builder()
                 .venue(venue).seller(seller).eventName("공연")
                 .eventType(EventType.CONCERT).eventTime(new EventTime(LocalDateTime.now(), LocalDateTime.now().plusHours(1)))
-                .maxTicketCount(1) // 재고 1
                 .build());
+        eventStockRepository.save(EventStock.builder().event(event).maxTicketCount(1).build()); // 재고 1
         this.eventId = event.getId();
 
         // 4. Ticket (Event와 연결)
@@ -100,8 +101,8 @@ class OrderServiceTest {
         assertThat(soldTicket.getStatus()).isEqualTo(TicketStatus.SOLDOUT);
 
         // 2. Event 재고 검증 (1 -> 0)
-        Event eventAfterOrder = eventRepository.findById(eventId).get();
-        assertThat(eventAfterOrder.getCurrentTicketStockCount()).isEqualTo(0);
+        EventStock stockAfterOrder = eventStockRepository.findById(eventId).get();
+        assertThat(stockAfterOrder.getCurrentTicketStockCount()).isEqualTo(0);
 
         // 3. OrderTicket 검증 (주문 상세가 생성되었는지)
         assertThat(verifiedOrder.getOrderTickets()).hasSize(1);
@@ -119,8 +120,8 @@ class OrderServiceTest {
                 .hasMessageContaining("이미 매진된 표입니다.");
 
         // DB 상태 확인 (롤백 또는 이전 상태 유지 확인)
-        Event eventAfterFailure = eventRepository.findById(eventId).get();
-        assertThat(eventAfterFailure.getCurrentTicketStockCount()).isEqualTo(0); // 0으로 유지
+        EventStock stockAfterFailure = eventStockRepository.findById(eventId).get();
+        assertThat(stockAfterFailure.getCurrentTicketStockCount()).isEqualTo(0); // 0으로 유지
         assertThat(orderRepository.count()).isEqualTo(1); // 첫 주문만 성공하고, 두 번째 주문은 실패했으므로 Order는 1개여야 함
     }
 
@@ -146,7 +147,7 @@ class OrderServiceTest {
         assertThat(availableTicketAfterCancel.getStatus()).isEqualTo(TicketStatus.AVAILABLE);
 
         // 3. Event 재고 검증 (0 -> 1로 복구)
-        Event eventAfterCancel = eventRepository.findById(eventId).get();
-        assertThat(eventAfterCancel.getCurrentTicketStockCount()).isEqualTo(1);
+        EventStock stockAfterCancel = eventStockRepository.findById(eventId).get();
+        assertThat(stockAfterCancel.getCurrentTicketStockCount()).isEqualTo(1);
     }
 }
\ No newline at end of file
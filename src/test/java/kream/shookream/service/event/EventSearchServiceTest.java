@@ -0,0 +1,136 @@
+package kream.shookream.service.event;
+
+import kream.shookream.config.IntegrationTest;
+import kream.shookream.domain.Event;
+import kream.shookream.domain.EventStock;
+import kream.shookream.domain.EventType;
+import kream.shookream.domain.Seller;
+import kream.shookream.domain.Ticket;
+import kream.shookream.domain.TicketStatus;
+import kream.shookream.domain.Venue;
+import kream.shookream.domain.embedded.EventTime;
+import kream.shookream.repository.EventRepository;
+import kream.shookream.repository.EventSearchRepository;
+import kream.shookream.repository.EventStockRepository;
+import kream.shookream.repository.SellerRepository;
+import kream.shookream.repository.TicketRepository;
+import kream.shookream.repository.VenueRepository;
+import kream.shookream.repository.dto.EventSearchCondition;
+import kream.shookream.repository.dto.EventSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+@DisplayName("이벤트 목록 keyset 페이지네이션 테스트")
+class EventSearchServiceTest {
+
+    @Autowired private EventSearchService eventSearchService;
+    @Autowired private EventSearchRepository eventSearchRepository;
+    @Autowired private TicketRepository ticketRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private EventStockRepository eventStockRepository;
+    @Autowired private SellerRepository sellerRepository;
+    @Autowired private VenueRepository venueRepository;
+
+    private Seller seller;
+    private Event firstEvent;
+
+    @BeforeEach
+    void setUp() {
+        seller = sellerRepository.save(Seller.builder().sellerName("페이지 테스트 판매자").build());
+        Venue venue = venueRepository.save(Venue.builder().venueName("올림픽홀").build());
+
+        // 같은 시작일시가 섞여 있어도 페이지 경계에서 누락 / 중복이 없어야 함
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 19, 0);
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            LocalDateTime startTime = base.plusDays(i / 3);
+            events.add(Event.builder()
+                    .venue(venue)
+                    .seller(seller)
+                    .eventName("공연 " + i)
+                    .eventType(i % 2 == 0 ? EventType.CONCERT : EventType.MUSICAL)
+                    .eventTime(new EventTime(startTime, startTime.plusHours(2)))
+                    .build());
+        }
+        eventRepository.saveAll(events);
+        firstEvent = events.get(0);
+        events.forEach(event -> eventStockRepository.save(EventStock.builder().event(event).maxTicketCount(100).build()));
+    }
+
+    @Test
+    @DisplayName("커서를 따라가면 모든 이벤트를 시작일시 최신순으로 한 번씩만 조회해야 한다")
+    void should_visit_every_event_once_in_order() {
+        // when
+        List<EventSummary> visited = new ArrayList<>();
+        String cursor = null;
+        do {
+            EventPage page = eventSearchService.search(null, seller.getId(), null, null, cursor, 7);
+            visited.addAll(page.getEvents());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // then
+        assertThat(visited).hasSize(25);
+        assertThat(visited).extracting(EventSummary::getEventId).doesNotHaveDuplicates();
+        assertThat(visited).extracting(EventSummary::getVenueName).containsOnly("올림픽홀");
+        for (int i = 1; i < visited.size(); i++) {
+            assertThat(visited.get(i).getStartTime()).isBeforeOrEqualTo(visited.get(i - 1).getStartTime());
+        }
+    }
+
+    @Test
+    @DisplayName("분류와 시작일시 범위 조건을 함께 적용해야 한다")
+    void should_apply_type_and_time_range() {
+        // when
+        EventPage page = eventSearchService.search(EventType.CONCERT, seller.getId(),
+                LocalDateTime.of(2026, 1, 2, 0, 0), LocalDateTime.of(2026, 1, 4, 0, 0), null, 100);
+
+        // then : 1/2, 1/3 에 시작하는 공연 3~8 중 짝수 번호
+        assertThat(page.getEvents()).extracting(EventSummary::getEventName)
+                .containsExactlyInAnyOrder("공연 4", "공연 6", "공연 8");
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("SEAT_CLAIM 모드 조회는 갱신되지 않는 재고 컬럼 대신 AVAILABLE 좌석 수를 남은 재고로 보여줘야 한다")
+    void should_count_available_seats_when_stock_column_is_not_maintained() {
+        // given : 재고 컬럼은 100 그대로, 실제 좌석은 2석 판매 가능 + 1석 매진
+        ticketRepository.saveAll(List.of(
+                ticket(TicketStatus.AVAILABLE, "A1"),
+                ticket(TicketStatus.AVAILABLE, "A2"),
+                ticket(TicketStatus.SOLDOUT, "A3")));
+
+        // when
+        List<EventSummary> rows = eventSearchRepository.search(EventSearchCondition.builder()
+                .sellerId(seller.getId())
+                .limit(100)
+                .countAvailableSeats(true)
+                .build());
+
+        // then
+        EventSummary first = rows.stream()
+                .filter(row -> row.getEventId().equals(firstEvent.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(first.getRemainingStock()).isEqualTo(2);
+    }
+
+    private Ticket ticket(TicketStatus status, String seatInfo) {
+        return Ticket.builder()
+                .event(firstEvent)
+                .seller(seller)
+                .seatInfo(seatInfo)
+                .ticketPrice(10000)
+                .status(status)
+                .build();
+    }
+}
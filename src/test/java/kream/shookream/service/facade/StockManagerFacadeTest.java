@@ -0,0 +1,210 @@
+package kream.shookream.service.facade;
+
+import jakarta.persistence.EntityManager;
+import kream.shookream.domain.Event;
+import kream.shookream.domain.Ticket;
+import kream.shookream.domain.TicketStatus;
+import kream.shookream.repository.EventStockJdbcRepository;
+import kream.shookream.repository.EventStockRepository;
+import kream.shookream.repository.TicketRepository;
+import kream.shookream.service.seat.SeatAvailabilityIndex;
+import kream.shookream.service.stock.EventStockShardService;
+import kream.shookream.service.stock.RedisStockReservation;
+import kream.shookream.service.stock.StockMode;
+import kream.shookream.service.stock.StockProperties;
+import kream.shookream.service.stock.lock.StockLockStrategyResolver;
+import kream.shookream.service.stock.stream.StockChangeTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("재고 모드별 StockManagerFacade 테스트")
+class StockManagerFacadeTest {
+
+    private final StockProperties stockProperties = new StockProperties();
+
+    private EventStockRepository eventStockRepository;
+    private EventStockJdbcRepository eventStockJdbcRepository;
+    private TicketRepository ticketRepository;
+    private EntityManager entityManager;
+    private StockLockStrategyResolver stockLockStrategyResolver;
+    private StockManagerFacade stockManagerFacade;
+
+    @BeforeEach
+    void setUp() {
+        eventStockRepository = mock(EventStockRepository.class);
+        eventStockJdbcRepository = mock(EventStockJdbcRepository.class);
+        ticketRepository = mock(TicketRepository.class);
+        entityManager = mock(EntityManager.class);
+        stockLockStrategyResolver = mock(StockLockStrategyResolver.class);
+
+        stockManagerFacade = new StockManagerFacade(
+                eventStockRepository,
+                eventStockJdbcRepository,
+                ticketRepository,
+                entityManager,
+                mock(RedisStockReservation.class),
+                stockLockStrategyResolver,
+                mock(EventStockShardService.class),
+                stockProperties,
+                mock(SeatAvailabilityIndex.class),
+                mock(StockChangeTracker.class));
+    }
+
+    @Test
+    @DisplayName("CONDITIONAL_UPDATE : 좌석을 CAS 로 선점한 뒤 이벤트별 수량을 한 번에 조건부 차감하고 재고 행 락은 잡지 않아야 한다")
+    void should_decrease_with_single_conditional_update() {
+        // given
+        stockProperties.setMode(StockMode.CONDITIONAL_UPDATE);
+        List<Ticket> tickets = List.of(ticket(1L, 10L), ticket(2L, 10L), ticket(3L, 20L));
+        when(ticketRepository.updateStatusIfCurrent(List.of(1L, 2L, 3L), TicketStatus.AVAILABLE, TicketStatus.SOLDOUT)).thenReturn(3);
+        when(entityManager.unwrap(Session.class)).thenReturn(mock(Session.class));
+        when(eventStockJdbcRepository.decreaseIfAvailable(any())).thenReturn(2);
+
+        // when
+        StockReservation reservation = stockManagerFacade.prepareLockAndStockForOrder(tickets);
+
+        // then
+        verify(eventStockJdbcRepository).decreaseIfAvailable(new TreeMap<>(Map.of(10L, 2, 20L, 1)));
+        verify(stockLockStrategyResolver, never()).resolve(anyLong());
+        assertThat(reservation.getLockedStockByEventId()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("CONDITIONAL_UPDATE : 같은 좌석을 동시에 주문하면 좌석 CAS 로 한 명만 통과하고 재고도 한 번만 차감해야 한다")
+    void should_sell_same_seat_once_under_concurrency() throws InterruptedException {
+        // given : 좌석 상태를 DB 처럼 CAS 로만 바꾸는 가짜 저장소
+        stockProperties.setMode(StockMode.CONDITIONAL_UPDATE);
+        Map<Long, TicketStatus> seatStatus = new ConcurrentHashMap<>(Map.of(1L, TicketStatus.AVAILABLE));
+        when(ticketRepository.updateStatusIfCurrent(any(), eq(TicketStatus.AVAILABLE), eq(TicketStatus.SOLDOUT)))
+                .thenAnswer(invocation -> (int) invocation.<List<Long>>getArgument(0).stream()
+                        .filter(id -> seatStatus.replace(id, TicketStatus.AVAILABLE, TicketStatus.SOLDOUT))
+                        .count());
+        when(entityManager.unwrap(Session.class)).thenReturn(mock(Session.class));
+        when(eventStockJdbcRepository.decreaseIfAvailable(any())).thenReturn(1);
+
+        int buyerCount = 8;
+        List<Ticket> tickets = List.of(ticket(1L, 10L));
+        ExecutorService executor = Executors.newFixedThreadPool(buyerCount);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger soldOutCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < buyerCount; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    stockManagerFacade.prepareLockAndStockForOrder(tickets);
+                    successCount.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    soldOutCount.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(soldOutCount.get()).isEqualTo(buyerCount - 1);
+        verify(eventStockJdbcRepository, times(1)).decreaseIfAvailable(any());
+    }
+
+    @Test
+    @DisplayName("CONDITIONAL_UPDATE : 한 이벤트라도 재고가 부족해 갱신 행 수가 모자라면 주문 전체가 실패해야 한다")
+    void should_fail_when_any_event_lacks_stock() {
+        // given
+        stockProperties.setMode(StockMode.CONDITIONAL_UPDATE);
+        List<Ticket> tickets = List.of(ticket(1L, 10L), ticket(2L, 20L));
+        when(ticketRepository.updateStatusIfCurrent(List.of(1L, 2L), TicketStatus.AVAILABLE, TicketStatus.SOLDOUT)).thenReturn(2);
+        when(entityManager.unwrap(Session.class)).thenReturn(mock(Session.class));
+        when(eventStockJdbcRepository.decreaseIfAvailable(any())).thenReturn(1);
+
+        // when & then
+        assertThatThrownBy(() -> stockManagerFacade.prepareLockAndStockForOrder(tickets))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("표 재고가 부족합니다.");
+    }
+
+    @Test
+    @DisplayName("SEAT_CLAIM : 좌석만 CAS 로 선점하고 재고 컬럼은 건드리지 않아야 한다")
+    void should_claim_seats_without_touching_stock_column() {
+        // given
+        stockProperties.setMode(StockMode.SEAT_CLAIM);
+        List<Ticket> tickets = List.of(ticket(1L, 10L), ticket(2L, 10L));
+        when(ticketRepository.updateStatusIfCurrent(List.of(1L, 2L), TicketStatus.AVAILABLE, TicketStatus.SOLDOUT)).thenReturn(2);
+        when(entityManager.unwrap(Session.class)).thenReturn(mock(Session.class));
+
+        // when
+        stockManagerFacade.prepareLockAndStockForOrder(tickets);
+
+        // then
+        verify(eventStockJdbcRepository, never()).decreaseIfAvailable(any());
+        verify(stockLockStrategyResolver, never()).resolve(anyLong());
+    }
+
+    @Test
+    @DisplayName("SEAT_CLAIM : 이미 팔린 좌석이 섞여 CAS 건수가 모자라면 주문 전체가 실패해야 한다")
+    void should_fail_when_seat_already_claimed() {
+        // given
+        stockProperties.setMode(StockMode.SEAT_CLAIM);
+        List<Ticket> tickets = List.of(ticket(1L, 10L), ticket(2L, 10L));
+        when(ticketRepository.updateStatusIfCurrent(List.of(1L, 2L), TicketStatus.AVAILABLE, TicketStatus.SOLDOUT)).thenReturn(1);
+
+        // when & then
+        assertThatThrownBy(() -> stockManagerFacade.prepareLockAndStockForOrder(tickets))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 매진된 표입니다.");
+    }
+
+    @Test
+    @DisplayName("SEAT_CLAIM : 남은 재고는 갱신되지 않는 재고 컬럼이 아니라 AVAILABLE 좌석 수여야 한다")
+    void should_count_available_seats_as_remaining_stock() {
+        // given
+        stockProperties.setMode(StockMode.SEAT_CLAIM);
+        when(ticketRepository.countByEventIdAndStatus(10L, TicketStatus.AVAILABLE)).thenReturn(7L);
+
+        // when
+        int remaining = stockManagerFacade.getRemainingStock(10L);
+
+        // then
+        assertThat(remaining).isEqualTo(7);
+        verify(eventStockRepository, never()).findById(eq(10L));
+    }
+
+    private Ticket ticket(Long ticketId, Long eventId) {
+        Event event = mock(Event.class);
+        when(event.getId()).thenReturn(eventId);
+
+        Ticket ticket = mock(Ticket.class);
+        when(ticket.getId()).thenReturn(ticketId);
+        when(ticket.getEvent()).thenReturn(event);
+        return ticket;
+    }
+}
@@ -0,0 +1,73 @@
+package kream.shookream.service.hold;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("해시 타이밍 휠 만료 테스트")
+class HashedTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("만료 시각 이전에는 반환하지 않고, 만료 시각이 속한 tick 에서 반환해야 한다")
+    void should_expire_at_deadline_tick() {
+        // given
+        HashedTimingWheel<Long> wheel = new HashedTimingWheel<>(100, 8, START);
+        wheel.schedule(1L, START + 250);
+
+        // when & then
+        assertThat(wheel.advanceTo(START + 200)).isEmpty();
+        assertThat(wheel.advanceTo(START + 300)).containsExactly(1L);
+        assertThat(wheel.advanceTo(START + 10_000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 먼 만료도 남은 바퀴 수만큼 기다린 뒤 반환해야 한다")
+    void should_wait_remaining_rounds() {
+        // given : 한 바퀴 = 10ms * 8칸 = 80ms
+        HashedTimingWheel<Long> wheel = new HashedTimingWheel<>(10, 8, START);
+        wheel.schedule(1L, START + 1_000);
+
+        // when & then
+        assertThat(wheel.advanceTo(START + 990)).isEmpty();
+        assertThat(wheel.advanceTo(START + 1_000)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("이미 지난 만료 시각으로 등록하면 다음 진행에서 바로 반환해야 한다")
+    void past_deadline_should_expire_immediately() {
+        // given
+        HashedTimingWheel<Long> wheel = new HashedTimingWheel<>(100, 8, START);
+        wheel.advanceTo(START + 5_000);
+
+        // when
+        wheel.schedule(1L, START);
+
+        // then
+        assertThat(wheel.advanceTo(START + 5_000)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("대량으로 등록해도 만료 시각까지 진행하면 모두 한 번씩만 반환해야 한다")
+    void should_expire_all_entries_once() {
+        // given
+        int count = 1_000_000;
+        HashedTimingWheel<Long> wheel = new HashedTimingWheel<>(100, 4096, START);
+        for (long i = 0; i < count; i++) {
+            wheel.schedule(i, START + (i % 600_000)); // 최대 10분
+        }
+
+        // when
+        List<Long> firstHalf = wheel.advanceTo(START + 299_999);
+        List<Long> secondHalf = wheel.advanceTo(START + 600_000);
+
+        // then
+        assertThat(firstHalf.size() + secondHalf.size()).isEqualTo(count);
+        assertThat(firstHalf).allMatch(i -> i % 600_000 < 300_000);
+        assertThat(wheel.advanceTo(START + 1_200_000)).isEmpty();
+    }
+}
@@ -0,0 +1,155 @@
+package kream.shookream.service.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kream.shookream.service.order.OrderEngine;
+import kream.shookream.service.order.OrderResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Idempotency-Key 주문 생성 테스트")
+class IdempotentOrderServiceTest {
+
+    private static final List<Long> TICKET_IDS = List.of(1L, 2L);
+
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private OrderEngine orderEngine;
+    private IdempotentOrderService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // Redis 는 SET NX / GET / SET / DEL 만 쓰므로 맵으로 흉내냄
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(invocation -> redis.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        when(valueOperations.get(anyString()))
+                .thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.delete(anyString()))
+                .thenAnswer(invocation -> redis.remove(invocation.<String>getArgument(0)) != null);
+
+        orderEngine = mock(OrderEngine.class);
+
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setWaitTimeoutMs(200);
+        properties.setPollIntervalMs(10);
+
+        service = new IdempotentOrderService(orderEngine, redisTemplate, new ObjectMapper(), properties);
+        service.start();
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 요청은 한 번만 실행되고 모두 같은 결과를 받아야 한다")
+    void should_execute_once_for_concurrent_duplicates() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderEngine.createOrder(1L, TICKET_IDS)).thenAnswer(invocation -> {
+            executions.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return new OrderResult(100L, "COMPLETE", 20000);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<OrderResult>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> service.createOrder("key-1", 1L, TICKET_IDS)));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<OrderResult> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS).getOrderId()).isEqualTo(100L);
+        }
+        assertThat(executions.get()).isEqualTo(1);
+
+        // 완료 이후 재시도도 다시 실행하지 않음
+        assertThat(service.createOrder("key-1", 1L, TICKET_IDS).getOrderId()).isEqualTo(100L);
+        assertThat(executions.get()).isEqualTo(1);
+
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 저장하지 않고, 같은 키로 재시도하면 다시 실행해야 한다")
+    void should_retry_after_failure() {
+        // given
+        when(orderEngine.createOrder(1L, TICKET_IDS))
+                .thenThrow(new IllegalStateException("표 재고가 부족합니다."))
+                .thenReturn(new OrderResult(101L, "COMPLETE", 20000));
+
+        // when & then
+        assertThatThrownBy(() -> service.createOrder("key-2", 1L, TICKET_IDS))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(service.createOrder("key-2", 1L, TICKET_IDS).getOrderId()).isEqualTo(101L);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 주문을 요청하면 거부해야 한다")
+    void should_reject_key_reuse_with_different_request() {
+        // given
+        when(orderEngine.createOrder(1L, TICKET_IDS)).thenReturn(new OrderResult(102L, "COMPLETE", 20000));
+        service.createOrder("key-3", 1L, TICKET_IDS);
+
+        // when & then
+        assertThatThrownBy(() -> service.createOrder("key-3", 1L, List.of(3L)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("같은 키로 처리 중인 요청과 다른 주문이 동시에 들어오면 결과를 공유하지 않고 거부해야 한다")
+    void should_reject_concurrent_key_reuse_with_different_request() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderEngine.createOrder(1L, TICKET_IDS)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new OrderResult(103L, "COMPLETE", 20000);
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<OrderResult> first = executor.submit(() -> service.createOrder("key-4", 1L, TICKET_IDS));
+        started.await(5, TimeUnit.SECONDS);
+
+        // when & then : 처리 중인 요청은 그대로 진행
+        assertThatThrownBy(() -> service.createOrder("key-4", 2L, TICKET_IDS))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getOrderId()).isEqualTo(103L);
+
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,177 @@
+package kream.shookream.service.notification;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kream.shookream.domain.NotificationMessage;
+import kream.shookream.domain.NotificationStatus;
+import kream.shookream.external.ExternalCallGuard;
+import kream.shookream.external.KakaoTalkMessageApi;
+import kream.shookream.global.executor.BoundedExecutorFactory;
+import kream.shookream.global.executor.ExecutorProperties;
+import kream.shookream.repository.NotificationMessageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+@DisplayName("카카오톡 알림 큐 발송 워커 테스트")
+class NotificationWorkerTest {
+
+    private final NotificationProperties properties = new NotificationProperties();
+    private final List<NotificationMessage> queue = new ArrayList<>();
+
+    private NotificationMessageRepository notificationMessageRepository;
+    private KakaoTalkMessageApi kakaoTalkMessageApi;
+    private BoundedExecutorFactory executorFactory;
+    private NotificationWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        properties.setBaseBackoffMs(1000);
+        properties.setMaxAttempts(2);
+
+        notificationMessageRepository = mock(NotificationMessageRepository.class);
+        kakaoTalkMessageApi = mock(KakaoTalkMessageApi.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        executorFactory = new BoundedExecutorFactory(new ExecutorProperties(), meterRegistry);
+
+        // 발송 시각이 도래한 PENDING 메시지만 가져감
+        when(notificationMessageRepository.findSendableForUpdate(any(), anyInt())).thenAnswer(invocation -> {
+            LocalDateTime now = invocation.getArgument(0);
+            return queue.stream()
+                    .filter(message -> message.getStatus() == NotificationStatus.PENDING)
+                    .filter(message -> !message.getLease().getNextAttemptAt().isAfter(now))
+                    .toList();
+        });
+        when(notificationMessageRepository.findAllById(anyList())).thenAnswer(invocation -> queue.stream()
+                .filter(message -> invocation.<List<Long>>getArgument(0).contains(message.getId()))
+                .toList());
+
+        // payload 에는 이벤트 이름 하나만 넣음
+        NotificationQueueService notificationQueueService = mock(NotificationQueueService.class);
+        when(notificationQueueService.readEventNames(any()))
+                .thenAnswer(invocation -> List.of(invocation.<NotificationMessage>getArgument(0).getEventNames()));
+
+        // 보호 장치 없이 바로 호출
+        ExternalCallGuard externalCallGuard = mock(ExternalCallGuard.class);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(externalCallGuard).run(eq(ExternalCallGuard.KAKAO), any());
+
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        worker = new NotificationWorker(notificationMessageRepository, notificationQueueService, kakaoTalkMessageApi,
+                transactionTemplate, properties, meterRegistry, executorFactory, externalCallGuard);
+        worker.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorFactory.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 전화번호로 쌓인 알림은 이벤트 이름을 합쳐 한 번만 발송해야 한다")
+    void should_coalesce_by_phone_number() {
+        // given
+        NotificationMessage first = enqueue(1L, "010-1111-1111", "오픈 이벤트");
+        NotificationMessage second = enqueue(2L, "010-1111-1111", "앵콜 이벤트");
+        NotificationMessage other = enqueue(3L, "010-2222-2222", "오픈 이벤트");
+
+        // when
+        worker.drain();
+
+        // then
+        verify(kakaoTalkMessageApi).sendEventJoinMessage("010-1111-1111", List.of("오픈 이벤트", "앵콜 이벤트"));
+        verify(kakaoTalkMessageApi).sendEventJoinMessage("010-2222-2222", List.of("오픈 이벤트"));
+        assertThat(List.of(first, second, other)).extracting(NotificationMessage::getStatus)
+                .containsOnly(NotificationStatus.SENT);
+    }
+
+    @Test
+    @DisplayName("발송에 실패하면 시도 횟수를 유지한 채 백오프 뒤로 재시도를 예약하고, 재시도를 소진하면 FAILED 여야 한다")
+    void should_back_off_and_then_fail() {
+        // given
+        NotificationMessage message = enqueue(1L, "010-1111-1111", "오픈 이벤트");
+        doThrow(new IllegalStateException("카카오 장애")).when(kakaoTalkMessageApi).sendEventJoinMessage(any(), anyList());
+
+        // when : 1회차 실패
+        LocalDateTime beforeFirst = LocalDateTime.now();
+        worker.drain();
+
+        // then : 다음 시도는 base backoff (1초) 뒤, 백오프 전에는 다시 가져가지 않음
+        assertThat(message.getStatus()).isEqualTo(NotificationStatus.PENDING);
+        assertThat(message.getLease().getAttemptCount()).isEqualTo(1);
+        assertThat(message.getLease().getLastError()).isEqualTo("카카오 장애");
+        assertThat(message.getLease().getNextAttemptAt()).isAfterOrEqualTo(beforeFirst.plusSeconds(1));
+
+        worker.drain();
+        verify(kakaoTalkMessageApi, times(1)).sendEventJoinMessage(any(), anyList());
+
+        // when : 재시도 시각 도래 후 2회차 실패 (max-attempts = 2)
+        ReflectionTestUtils.setField(message.getLease(), "nextAttemptAt", LocalDateTime.now());
+        worker.drain();
+
+        // then
+        assertThat(message.getStatus()).isEqualTo(NotificationStatus.FAILED);
+        assertThat(message.getLease().getAttemptCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("임대 시간보다 오래 걸린 발송도 실제 결과로 기록하고 시도 횟수를 되돌리지 않아야 한다")
+    void should_record_real_outcome_of_slow_send() {
+        // given : 임대 1초, 발송 1.5초
+        properties.setLeaseSeconds(1);
+        NotificationMessage message = enqueue(1L, "010-1111-1111", "오픈 이벤트");
+        doAnswer(invocation -> {
+            Thread.sleep(1500);
+            return null;
+        }).when(kakaoTalkMessageApi).sendEventJoinMessage(any(), anyList());
+
+        // when
+        worker.drain();
+
+        // then
+        assertThat(message.getStatus()).isEqualTo(NotificationStatus.SENT);
+        assertThat(message.getLease().getAttemptCount()).isEqualTo(1);
+        verify(kakaoTalkMessageApi, times(1)).sendEventJoinMessage(any(), anyList());
+    }
+
+    private NotificationMessage enqueue(Long id, String phoneNumber, String eventName) {
+        NotificationMessage message = NotificationMessage.builder()
+                .phoneNumber(phoneNumber)
+                .eventNames(eventName)
+                .createdAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+        ReflectionTestUtils.setField(message, "id", id);
+        queue.add(message);
+        return message;
+    }
+}
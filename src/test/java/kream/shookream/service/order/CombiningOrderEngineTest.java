@@ -0,0 +1,118 @@
+package kream.shookream.service.order;
+
+import kream.shookream.config.IntegrationTest;
+import kream.shookream.domain.*;
+import kream.shookream.external.ExternalEventApi;
+import kream.shookream.external.dto.ExternalEventResponse;
+import kream.shookream.repository.EventRepository;
+import kream.shookream.repository.EventStockRepository;
+import kream.shookream.repository.MemberRepository;
+import kream.shookream.repository.OrderRepository;
+import kream.shookream.repository.TicketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+@TestPropertySource(properties = "order.engine.type=COMBINING")
+@Slf4j
+@DisplayName("Flat-combining 주문 엔진 테스트")
+class CombiningOrderEngineTest {
+
+    @Autowired private OrderEngine orderEngine;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private EventStockRepository eventStockRepository;
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private TicketRepository ticketRepository;
+    @Autowired private OrderRepository orderRepository;
+
+    private static final int STOCK = 10;
+    private static final int BUYER_COUNT = 100;
+
+    private Long memberId;
+    private Long eventId;
+    private List<Long> ticketIds;
+
+    @TestConfiguration
+    static class TestApiConfig {
+        @Primary
+        @Bean
+        public ExternalEventApi externalEventApi() {
+            return new ExternalEventApi() {
+                @Override
+                public ExternalEventResponse registerParticipant(List<Long> eventIds, Long memberId, List<String> eventNameList) {
+                    return ExternalEventResponse.builder().success(true).build();
+                }
+            };
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        memberId = memberRepository.save(Member.builder().phoneNumber("010-0000-0000").build()).getId();
+
+        Event event = eventRepository.save(Event.builder()
+                .eventName("배치 주문 테스트 이벤트")
+                .build());
+        eventStockRepository.save(EventStock.builder().event(event).maxTicketCount(STOCK).build());
+        eventId = event.getId();
+
+        ticketIds = new ArrayList<>();
+        for (int i = 0; i < BUYER_COUNT; i++) {
+            Ticket ticket = ticketRepository.save(Ticket.builder()
+                    .event(event)
+                    .seatInfo("C" + i)
+                    .ticketPrice(10000)
+                    .status(TicketStatus.AVAILABLE)
+                    .build());
+            ticketIds.add(ticket.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 100건을 배치로 처리해도 재고 10개만 판매되고 각 호출자는 자신의 결과를 받아야 한다")
+    void batched_orders_should_not_oversell() {
+        // when
+        List<CompletableFuture<OrderResult>> futures = ticketIds.stream()
+                .map(ticketId -> CompletableFuture.supplyAsync(() -> Collections.singletonList(ticketId))
+                        .thenCompose(ids -> orderEngine.submit(memberId, ids)))
+                .toList();
+
+        List<OrderResult> results = new ArrayList<>();
+        int failureCount = 0;
+        for (CompletableFuture<OrderResult> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                failureCount++;
+            }
+        }
+
+        // then
+        EventStock stockAfterSale = eventStockRepository.findById(eventId).get();
+        long soldTicketCount = ticketRepository.findAllById(ticketIds).stream()
+                .filter(ticket -> ticket.getStatus() == TicketStatus.SOLDOUT)
+                .count();
+
+        assertThat(results).hasSize(STOCK);
+        assertThat(failureCount).isEqualTo(BUYER_COUNT - STOCK);
+        assertThat(results).extracting(OrderResult::getOrderId).doesNotHaveDuplicates();
+        assertThat(orderRepository.findAllById(results.stream().map(OrderResult::getOrderId).toList())).hasSize(STOCK);
+        assertThat(soldTicketCount).isEqualTo(STOCK);
+        assertThat(stockAfterSale.getCurrentTicketStockCount()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,195 @@
+package kream.shookream.service.order;
+
+import kream.shookream.domain.Event;
+import kream.shookream.domain.EventStock;
+import kream.shookream.domain.Member;
+import kream.shookream.domain.TicketStatus;
+import kream.shookream.repository.EventRepository;
+import kream.shookream.repository.EventStockRepository;
+import kream.shookream.repository.MemberRepository;
+import kream.shookream.repository.OrderBulkRepository;
+import kream.shookream.repository.OrderRepository;
+import kream.shookream.repository.TicketRepository;
+import kream.shookream.service.facade.OrderFacade;
+import kream.shookream.service.stock.StockProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("파티션 주문 엔진 상태 재적재 / 대기열 제한 테스트")
+class PartitionedOrderEngineStaleStateTest {
+
+    private static final Long EVENT_ID = 1L;
+    private static final Long MEMBER_ID = 7L;
+
+    private final OrderEngineProperties orderEngineProperties = new OrderEngineProperties();
+
+    // DB 에 있는 1번 좌석의 상태 (나머지 좌석은 AVAILABLE)
+    private final AtomicReference<TicketStatus> firstSeatStatus = new AtomicReference<>(TicketStatus.AVAILABLE);
+
+    private OrderPartitionWriter orderPartitionWriter;
+    private EventRepository eventRepository;
+    private TicketRepository ticketRepository;
+    private PartitionedOrderEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        orderEngineProperties.getPartitioned().setPartitionCount(1);
+
+        orderPartitionWriter = mock(OrderPartitionWriter.class);
+        eventRepository = mock(EventRepository.class);
+        ticketRepository = mock(TicketRepository.class);
+        EventStockRepository eventStockRepository = mock(EventStockRepository.class);
+        MemberRepository memberRepository = mock(MemberRepository.class);
+
+        Event event = mock(Event.class);
+        when(event.getEventName()).thenReturn("파티션 이벤트");
+        when(eventRepository.findById(EVENT_ID)).thenReturn(Optional.of(event));
+
+        EventStock stock = mock(EventStock.class);
+        when(stock.getCurrentTicketStockCount()).thenReturn(10);
+        when(eventStockRepository.findById(EVENT_ID)).thenReturn(Optional.of(stock));
+
+        Member member = Member.builder().phoneNumber("010-0000-0000").build();
+        ReflectionTestUtils.setField(member, "id", MEMBER_ID);
+        when(memberRepository.findAllById(anyCollection())).thenReturn(List.of(member));
+
+        when(ticketRepository.findDistinctEventIdsByIdIn(anyList())).thenReturn(List.of(EVENT_ID));
+        when(ticketRepository.findSeatsByEventId(EVENT_ID)).thenAnswer(invocation -> seats(firstSeatStatus.get()));
+
+        engine = new PartitionedOrderEngine(orderPartitionWriter, mock(OrderFacade.class), mock(DirectOrderExecutor.class),
+                eventRepository, eventStockRepository, memberRepository, ticketRepository, mock(OrderRepository.class),
+                new StockProperties(), orderEngineProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.stop();
+    }
+
+    @Test
+    @DisplayName("다른 경로로 선점된 좌석 때문에 반영이 실패하면 상태를 다시 적재해, 그 좌석의 주문만 실패하고 나머지는 성공해야 한다")
+    void stale_seat_should_fail_only_its_own_order() {
+        // given : 파티션이 적재한 뒤 1번 좌석이 선점(HELD)됨 -> 첫 반영은 어긋남으로 롤백
+        engine.start();
+        AtomicInteger persistCalls = new AtomicInteger();
+        when(orderPartitionWriter.persist(anyList(), anyMap(), anyList())).thenAnswer(invocation -> {
+            if (persistCalls.incrementAndGet() == 1) {
+                firstSeatStatus.set(TicketStatus.HELD);
+                throw new OrderPartitionWriter.StaleStateException("파티션 좌석 상태가 DB 와 일치하지 않습니다. eventId = " + EVENT_ID);
+            }
+            return orderIds(invocation.<List<OrderBulkRepository.OrderRow>>getArgument(0).size());
+        });
+
+        // when
+        CompletableFuture<OrderResult> staleSeatOrder = engine.submit(MEMBER_ID, List.of(1L));
+        CompletableFuture<OrderResult> otherSeatOrder = engine.submit(MEMBER_ID, List.of(2L));
+
+        // then
+        assertThatThrownBy(staleSeatOrder::join)
+                .isInstanceOf(CompletionException.class)
+                .hasRootCauseMessage("이미 매진된 표입니다.");
+        assertThat(otherSeatOrder.join().getStatus()).isEqualTo("SUCCESS");
+        verify(ticketRepository, times(2)).findSeatsByEventId(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("파티션 대기열이 가득 차면 주문을 RejectedExecutionException 으로 거절해야 한다")
+    void should_reject_when_partition_queue_full() throws InterruptedException {
+        // given : 파티션 스레드가 첫 주문의 DB 반영에서 멈춤, 대기열 크기 1
+        orderEngineProperties.getPartitioned().setQueueCapacity(1);
+        engine.start();
+
+        CountDownLatch persisting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderPartitionWriter.persist(anyList(), anyMap(), anyList())).thenAnswer(invocation -> {
+            persisting.countDown();
+            release.await();
+            return orderIds(invocation.<List<OrderBulkRepository.OrderRow>>getArgument(0).size());
+        });
+
+        CompletableFuture<OrderResult> first = engine.submit(MEMBER_ID, List.of(1L));
+        assertThat(persisting.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<OrderResult> queued = engine.submit(MEMBER_ID, List.of(2L));
+
+        // when
+        CompletableFuture<OrderResult> rejected = engine.submit(MEMBER_ID, List.of(3L));
+
+        // then
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(RejectedExecutionException.class);
+        release.countDown();
+        assertThat(first.join().getStatus()).isEqualTo("SUCCESS");
+        assertThat(queued.join().getStatus()).isEqualTo("SUCCESS");
+    }
+
+    @Test
+    @DisplayName("주문이 끊긴 이벤트의 메모리 상태는 유휴 시간이 지나면 버리고 다음 주문 때 다시 적재해야 한다")
+    void idle_state_should_be_evicted() throws InterruptedException {
+        // given
+        orderEngineProperties.getPartitioned().setStateIdleSeconds(0);
+        engine.start();
+        when(orderPartitionWriter.persist(anyList(), anyMap(), anyList()))
+                .thenAnswer(invocation -> orderIds(invocation.<List<OrderBulkRepository.OrderRow>>getArgument(0).size()));
+        engine.submit(MEMBER_ID, List.of(1L)).join();
+
+        // when : 유휴 정리는 1초에 한 번
+        Thread.sleep(1500);
+        engine.submit(MEMBER_ID, List.of(2L)).join();
+
+        // then
+        verify(eventRepository, times(2)).findById(EVENT_ID);
+    }
+
+    // 1번 좌석만 상태를 지정, 나머지는 AVAILABLE
+    private List<TicketRepository.SeatView> seats(TicketStatus firstSeatStatus) {
+        return LongStream.rangeClosed(1, 3)
+                .mapToObj(id -> seat(id, id == 1 ? firstSeatStatus : TicketStatus.AVAILABLE))
+                .toList();
+    }
+
+    private TicketRepository.SeatView seat(Long id, TicketStatus status) {
+        return new TicketRepository.SeatView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Integer getTicketPrice() {
+                return 10000;
+            }
+
+            @Override
+            public TicketStatus getStatus() {
+                return status;
+            }
+        };
+    }
+
+    private List<Long> orderIds(int count) {
+        return LongStream.rangeClosed(1, count).boxed().toList();
+    }
+}
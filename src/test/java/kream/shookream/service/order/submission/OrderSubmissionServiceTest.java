@@ -0,0 +1,167 @@
+package kream.shookream.service.order.submission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kream.shookream.global.executor.BoundedExecutorFactory;
+import kream.shookream.global.executor.ExecutorProperties;
+import kream.shookream.global.executor.RejectionPolicy;
+import kream.shookream.service.order.OrderEngine;
+import kream.shookream.service.order.OrderResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("비동기 주문 접수 테스트")
+class OrderSubmissionServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final OrderResult RESULT = new OrderResult(100L, "CONFIRMED", 10000);
+
+    // 엔진 호출마다 새 future -> 테스트가 직접 완료
+    private final List<CompletableFuture<OrderResult>> engineFutures = new CopyOnWriteArrayList<>();
+    private final List<OrderSubmissionStatus> sentStatuses = new CopyOnWriteArrayList<>();
+
+    private BoundedExecutorFactory executorFactory;
+    private OrderSubmissionService service;
+
+    // SSE 로 보낸 상태를 기록, 첫 전송 직후 실행할 동작을 끼워 넣을 수 있음
+    private Runnable afterFirstSend = () -> {
+    };
+
+    @BeforeEach
+    void setUp() {
+        // 처리 스레드 1개 + 대기열 1개, 가득 차면 거절
+        ExecutorProperties.Pool pool = new ExecutorProperties.Pool();
+        pool.setCoreSize(1);
+        pool.setMaxSize(1);
+        pool.setQueueCapacity(1);
+        pool.setRejection(RejectionPolicy.SPILL);
+        ExecutorProperties executorProperties = new ExecutorProperties();
+        executorProperties.getPools().put("order-submit", pool);
+        executorFactory = new BoundedExecutorFactory(executorProperties, new SimpleMeterRegistry());
+
+        OrderEngine orderEngine = mock(OrderEngine.class);
+        when(orderEngine.submit(any(), anyList())).thenAnswer(invocation -> {
+            CompletableFuture<OrderResult> future = new CompletableFuture<>();
+            engineFutures.add(future);
+            return future;
+        });
+
+        service = new OrderSubmissionService(orderEngine, executorFactory, new OrderSubmissionProperties()) {
+            @Override
+            SseEmitter newEmitter() {
+                return new SseEmitter() {
+                    @Override
+                    public void send(SseEventBuilder builder) throws IOException {
+                        OrderSubmissionView view = builder.build().stream()
+                                .map(DataWithMediaType::getData)
+                                .filter(OrderSubmissionView.class::isInstance)
+                                .map(OrderSubmissionView.class::cast)
+                                .findFirst()
+                                .orElseThrow();
+                        sentStatuses.add(view.getStatus());
+                        if (sentStatuses.size() == 1) {
+                            afterFirstSend.run();
+                        }
+                    }
+                };
+            }
+        };
+        service.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        engineFutures.forEach(future -> future.complete(RESULT));
+        executorFactory.shutdown();
+    }
+
+    @Test
+    @DisplayName("엔진이 바로 반환해도 처리 스레드가 결과를 기다려, 풀과 대기열이 차면 접수를 거절해야 한다")
+    void pool_should_cap_in_flight_orders() {
+        // given : 첫 주문은 처리 스레드에서 엔진 결과 대기, 두 번째 주문은 대기열
+        OrderSubmission first = service.submit(MEMBER_ID, List.of(1L));
+        await().until(() -> engineFutures.size() == 1);
+        service.submit(MEMBER_ID, List.of(2L));
+
+        // when & then
+        assertThatThrownBy(() -> service.submit(MEMBER_ID, List.of(3L)))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(engineFutures).hasSize(1);
+        assertThat(first.getStatus()).isEqualTo(OrderSubmissionStatus.PENDING);
+
+        // 첫 주문이 끝나야 다음 주문이 엔진에 들어감
+        engineFutures.get(0).complete(RESULT);
+        await().until(() -> engineFutures.size() == 2);
+        assertThat(first.getStatus()).isEqualTo(OrderSubmissionStatus.CONFIRMED);
+        assertThat(first.getResult().getOrderId()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("이미 완료된 접수를 구독하면 최종 상태를 한 번만 보내야 한다")
+    void should_send_final_status_once_when_already_completed() {
+        // given
+        OrderSubmission submission = service.submit(MEMBER_ID, List.of(1L));
+        await().until(() -> engineFutures.size() == 1);
+        engineFutures.get(0).complete(RESULT);
+        await().until(() -> submission.getStatus().isTerminal());
+
+        // when
+        service.subscribe(submission.getToken());
+
+        // then
+        assertThat(sentStatuses).containsExactly(OrderSubmissionStatus.CONFIRMED);
+        assertThat(submission.getEmitters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("현재 상태를 보낸 뒤 구독자로 등록되기 전에 완료돼도 최종 상태를 정확히 한 번 보내야 한다")
+    void should_send_final_status_once_when_completed_during_subscribe() {
+        // given : PENDING 을 보낸 직후 (등록 전) 주문 완료
+        OrderSubmission submission = service.submit(MEMBER_ID, List.of(1L));
+        await().until(() -> engineFutures.size() == 1);
+        afterFirstSend = () -> {
+            engineFutures.get(0).complete(RESULT);
+            await().until(() -> submission.getStatus().isTerminal());
+        };
+
+        // when
+        service.subscribe(submission.getToken());
+
+        // then
+        assertThat(sentStatuses).containsExactly(OrderSubmissionStatus.PENDING, OrderSubmissionStatus.CONFIRMED);
+        assertThat(submission.getEmitters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("처리 중에 구독하면 PENDING 을 보내고, 완료될 때 최종 상태를 한 번 보내야 한다")
+    void should_send_pending_then_final_status() {
+        // given
+        OrderSubmission submission = service.submit(MEMBER_ID, List.of(1L));
+        await().until(() -> engineFutures.size() == 1);
+        service.subscribe(submission.getToken());
+
+        // when
+        engineFutures.get(0).completeExceptionally(new IllegalStateException("표 재고가 부족합니다."));
+
+        // then
+        await().until(() -> sentStatuses.size() == 2);
+        assertThat(sentStatuses).containsExactly(OrderSubmissionStatus.PENDING, OrderSubmissionStatus.FAILED);
+        assertThat(submission.getFailureReason()).isEqualTo("표 재고가 부족합니다.");
+    }
+}
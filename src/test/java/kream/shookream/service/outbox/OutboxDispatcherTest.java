@@ -0,0 +1,166 @@
+package kream.shookream.service.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kream.shookream.domain.OutboxMessage;
+import kream.shookream.domain.OutboxMessageType;
+import kream.shookream.domain.OutboxStatus;
+import kream.shookream.external.BatchingExternalEventClient;
+import kream.shookream.external.dto.ExternalEventResponse;
+import kream.shookream.repository.OrderRepository;
+import kream.shookream.repository.OutboxMessageRepository;
+import kream.shookream.service.order.OrderEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+@DisplayName("outbox 디스패처 보상 처리 테스트")
+class OutboxDispatcherTest {
+
+    private static final Long ORDER_ID = 10L;
+
+    private OutboxMessageRepository outboxMessageRepository;
+    private BatchingExternalEventClient batchingExternalEventClient;
+    private OrderEngine orderEngine;
+    private OutboxDispatcher outboxDispatcher;
+
+    private final OutboxProperties outboxProperties = new OutboxProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxMessage message;
+
+    @BeforeEach
+    void setUp() {
+        outboxMessageRepository = mock(OutboxMessageRepository.class);
+        batchingExternalEventClient = mock(BatchingExternalEventClient.class);
+        orderEngine = mock(OrderEngine.class);
+        OutboxService outboxService = mock(OutboxService.class);
+        OrderRepository orderRepository = mock(OrderRepository.class);
+
+        // 트랜잭션 없이 콜백만 실행
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        message = OutboxMessage.builder()
+                .messageType(OutboxMessageType.PARTICIPANT_REGISTRATION)
+                .aggregateId(ORDER_ID)
+                .payload("{}")
+                .createdAt(LocalDateTime.now())
+                .build();
+        ReflectionTestUtils.setField(message, "id", 1L);
+
+        when(outboxMessageRepository.findDispatchableForUpdate(any(), anyInt())).thenReturn(List.of(message), List.of());
+        when(outboxMessageRepository.findCompensatableForUpdate(any(), anyInt())).thenReturn(List.of());
+        when(outboxMessageRepository.findAllById(anyList())).thenReturn(List.of(message));
+        when(outboxMessageRepository.findById(1L)).thenReturn(Optional.of(message));
+        when(outboxService.readParticipantRegistration(message)).thenReturn(ParticipantRegistration.builder()
+                .orderId(ORDER_ID)
+                .memberId(1L)
+                .eventIds(List.of(1L))
+                .eventNames(List.of("오픈 이벤트"))
+                .build());
+        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.empty());
+
+        // 티켓 링크가 명시적으로 거절
+        when(batchingExternalEventClient.registerParticipant(anyString(), anyList(), any(), anyList()))
+                .thenReturn(CompletableFuture.completedFuture(ExternalEventResponse.builder()
+                        .success(false)
+                        .errorMessage("정원 초과")
+                        .build()));
+
+        outboxDispatcher = new OutboxDispatcher(outboxMessageRepository, orderRepository, outboxService,
+                batchingExternalEventClient, orderEngine, mock(ApplicationEventPublisher.class), transactionTemplate,
+                outboxProperties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("등록이 거절되면 outbox ID 를 멱등 키로 보내고, 취소는 보상 대기로 기록된 뒤 다시 가져와 수행해야 한다")
+    void should_cancel_after_recording_compensation() {
+        // given : 첫 조회에서는 보상 대기 메시지가 없고, 결과 반영 이후에 가져감
+        when(outboxMessageRepository.findCompensatableForUpdate(any(), anyInt())).thenReturn(List.of(), List.of(message), List.of());
+
+        // when : 발행 -> COMPENSATING 기록
+        outboxDispatcher.dispatch();
+
+        // then
+        verify(batchingExternalEventClient).registerParticipant(eq("outbox-1"), anyList(), any(), anyList());
+        assertThat(message.getStatus()).isEqualTo(OutboxStatus.COMPENSATING);
+        verify(orderEngine, never()).cancelOrder(any());
+
+        // when : 다음 주기에 보상 대기 메시지를 가져가 취소
+        outboxDispatcher.dispatch();
+
+        // then
+        verify(orderEngine).cancelOrder(ORDER_ID);
+        assertThat(message.getStatus()).isEqualTo(OutboxStatus.COMPENSATED);
+    }
+
+    @Test
+    @DisplayName("주문 취소가 실패하면 COMPENSATING 으로 남아 백오프 후 다시 취소해야 한다")
+    void should_keep_compensating_when_cancel_fails() {
+        // given
+        when(outboxMessageRepository.findCompensatableForUpdate(any(), anyInt())).thenReturn(List.of(message), List.of());
+        doThrow(new IllegalStateException("재고 락 대기 시간 초과")).when(orderEngine).cancelOrder(ORDER_ID);
+
+        // when
+        outboxDispatcher.dispatch();
+
+        // then
+        assertThat(message.getStatus()).isEqualTo(OutboxStatus.COMPENSATING);
+        assertThat(message.getLease().getLastError()).isEqualTo("재고 락 대기 시간 초과");
+        assertThat(message.getLease().getNextAttemptAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("주문 취소가 보상 재시도 횟수만큼 실패하면 FAILED 로 멈추고 메트릭으로 알려야 한다")
+    void should_stop_compensating_after_max_attempts() {
+        // given : 보상 재시도 2회, 매번 취소 실패
+        outboxProperties.setMaxCompensationAttempts(2);
+        message.startCompensation(LocalDateTime.now(), "정원 초과");
+        when(outboxMessageRepository.findCompensatableForUpdate(any(), anyInt())).thenReturn(List.of(message), List.of());
+        doThrow(new IllegalArgumentException("주문을 찾을 수 없습니다.")).when(orderEngine).cancelOrder(ORDER_ID);
+
+        // when : 첫 시도 -> 재시도 예약
+        outboxDispatcher.dispatch();
+
+        // then
+        assertThat(message.getStatus()).isEqualTo(OutboxStatus.COMPENSATING);
+
+        // when : 두 번째 시도 -> 소진
+        when(outboxMessageRepository.findCompensatableForUpdate(any(), anyInt())).thenReturn(List.of(message), List.of());
+        outboxDispatcher.dispatch();
+
+        // then
+        assertThat(message.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(message.getLease().getLastError()).isEqualTo("주문을 찾을 수 없습니다.");
+        assertThat(meterRegistry.counter("outbox.compensation.failed").count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,37 @@
+package kream.shookream.service.seat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("좌석 비트맵 테스트")
+class EventSeatBitmapTest {
+
+    @Test
+    @DisplayName("연속되지 않은 티켓 ID 도 위치 비트로 판매 가능 여부를 관리해야 한다")
+    void should_track_sparse_ticket_ids() {
+        // given : 워드 경계(64)를 넘는 좌석 수
+        long[] ticketIds = new long[100];
+        boolean[] available = new boolean[100];
+        for (int i = 0; i < 100; i++) {
+            ticketIds[i] = 1_000L + i * 7L;
+            available[i] = i % 2 == 0;
+        }
+        EventSeatBitmap bitmap = new EventSeatBitmap(ticketIds, available, System.currentTimeMillis());
+
+        // when
+        bitmap.update(1_000L, false);          // 판매
+        bitmap.update(1_000L + 7L * 65, true); // 취소 (두 번째 워드)
+        bitmap.update(999L, true);             // 다른 이벤트 좌석 -> 무시
+
+        // then
+        assertThat(bitmap.totalCount()).isEqualTo(100);
+        assertThat(bitmap.availableCount()).isEqualTo(50);
+        assertThat(bitmap.availableTicketIds())
+                .doesNotContain(1_000L, 999L)
+                .contains(1_000L + 7L * 65, 1_000L + 7L * 2)
+                .isSorted();
+        assertThat(bitmap.memoryBytes()).isEqualTo(100 * 8L + 2 * 8L);
+    }
+}
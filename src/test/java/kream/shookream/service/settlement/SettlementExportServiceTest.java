@@ -0,0 +1,183 @@
+package kream.shookream.service.settlement;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kream.shookream.config.IntegrationTest;
+import kream.shookream.domain.Event;
+import kream.shookream.domain.EventType;
+import kream.shookream.domain.Seller;
+import kream.shookream.domain.Venue;
+import kream.shookream.domain.embedded.EventTime;
+import kream.shookream.repository.EventRepository;
+import kream.shookream.repository.SellerRepository;
+import kream.shookream.repository.VenueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@IntegrationTest
+@DisplayName("판매자 정산 파일 스트리밍 테스트")
+class SettlementExportServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 3, 2);
+
+    @Autowired private SettlementExportService settlementExportService;
+    @Autowired private SettlementProperties settlementProperties;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private SellerRepository sellerRepository;
+    @Autowired private VenueRepository venueRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private ObjectMapper objectMapper;
+
+    private Seller seller;
+    private Event firstEvent;
+    private Event secondEvent;
+
+    @BeforeEach
+    void setUp() {
+        seller = sellerRepository.save(Seller.builder().sellerName("정산 테스트 판매자").build());
+        Seller otherSeller = sellerRepository.save(Seller.builder().sellerName("다른 판매자").build());
+        Venue venue = venueRepository.save(Venue.builder().venueName("정산홀").build());
+
+        firstEvent = eventRepository.save(event(venue, "정산 공연, 1회차"));
+        secondEvent = eventRepository.save(event(venue, "정산 공연 2회차"));
+
+        LocalDateTime day1 = FROM.atTime(20, 0);
+        LocalDateTime day2 = TO.atTime(9, 30);
+
+        // 집계 대상 : 첫 공연 1일차 2건 + 2일차 1건, 두 번째 공연 1일차 1건
+        insertSale(firstEvent, seller, day1, 10000, "SUCCESS");
+        insertSale(firstEvent, seller, day1.plusMinutes(5), 20000, "SUCCESS");
+        insertSale(firstEvent, seller, day2, 30000, "SUCCESS");
+        insertSale(secondEvent, seller, day1, 40000, "SUCCESS");
+
+        // 제외 대상 : 취소 주문 / 기간 밖 / 다른 판매자
+        insertSale(firstEvent, seller, day2, 50000, "CANCELED");
+        insertSale(firstEvent, seller, TO.plusDays(1).atStartOfDay(), 60000, "SUCCESS");
+        insertSale(firstEvent, otherSeller, day1, 70000, "SUCCESS");
+    }
+
+    @Test
+    @DisplayName("CSV 는 판매 건을 이벤트 순으로 내보내고, 이벤트가 바뀔 때 일별 합계와 마지막에 전체 합계를 붙여야 한다")
+    void should_stream_csv_with_daily_and_total() throws Exception {
+        // when
+        List<String> rows = export(SettlementFormat.CSV);
+
+        // then
+        assertThat(rows.get(0)).startsWith("type,event_id,event_name,date");
+        assertThat(rows).hasSize(1 + 4 + 3 + 1);
+
+        // 첫 공연의 판매 3건 -> 일별 합계 2건 -> 두 번째 공연 판매 1건 -> 일별 합계 1건 -> 전체 합계
+        assertThat(rows.subList(1, 4)).allMatch(row -> row.startsWith("LINE," + firstEvent.getId() + ",\"정산 공연, 1회차\","));
+        assertThat(rows.get(4)).isEqualTo("DAILY," + firstEvent.getId() + ",\"정산 공연, 1회차\",2026-03-01,,,,,,2,30000");
+        assertThat(rows.get(5)).isEqualTo("DAILY," + firstEvent.getId() + ",\"정산 공연, 1회차\",2026-03-02,,,,,,1,30000");
+        assertThat(rows.get(6)).startsWith("LINE," + secondEvent.getId() + ",");
+        assertThat(rows.get(7)).isEqualTo("DAILY," + secondEvent.getId() + ",정산 공연 2회차,2026-03-01,,,,,,1,40000");
+        assertThat(rows.get(8)).isEqualTo("TOTAL,,,,,,,,,4,100000");
+    }
+
+    @Test
+    @DisplayName("NDJSON 은 한 줄에 JSON 1건씩 같은 내용을 내보내야 한다")
+    void should_stream_ndjson() throws Exception {
+        // when
+        List<JsonNode> rows = new ArrayList<>();
+        for (String row : export(SettlementFormat.NDJSON)) {
+            rows.add(objectMapper.readTree(row));
+        }
+
+        // then
+        assertThat(rows).extracting(row -> row.get("type").asText())
+                .containsExactly("LINE", "LINE", "LINE", "DAILY", "DAILY", "LINE", "DAILY", "TOTAL");
+        JsonNode total = rows.get(rows.size() - 1);
+        assertThat(total.get("ticketCount").asLong()).isEqualTo(4);
+        assertThat(total.get("amount").asLong()).isEqualTo(100000);
+    }
+
+    @Test
+    @DisplayName("최대 기간을 넘거나 시작일이 종료일보다 늦으면 스트리밍 전에 거절해야 한다")
+    void should_reject_invalid_range() {
+        assertThatThrownBy(() -> settlementExportService.validateRange(TO, FROM))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> settlementExportService.validateRange(FROM, FROM.plusYears(2)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("동시 다운로드 수를 넘으면 커넥션을 잡기 전에 거절하고, 반환된 자리는 다시 쓸 수 있어야 한다")
+    void should_reject_exports_over_concurrency_limit() {
+        int maxConcurrentExports = settlementProperties.getMaxConcurrentExports();
+        for (int i = 0; i < maxConcurrentExports; i++) {
+            settlementExportService.acquireSlot();
+        }
+
+        try {
+            assertThatThrownBy(() -> settlementExportService.acquireSlot())
+                    .isInstanceOf(RejectedExecutionException.class);
+
+            settlementExportService.releaseSlot();
+            settlementExportService.acquireSlot();
+        } finally {
+            for (int i = 0; i < maxConcurrentExports; i++) {
+                settlementExportService.releaseSlot();
+            }
+        }
+    }
+
+    private List<String> export(SettlementFormat format) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        settlementExportService.export(seller.getId(), FROM, TO, format, outputStream);
+        return List.of(outputStream.toString(StandardCharsets.UTF_8).split("\n"));
+    }
+
+    private Event event(Venue venue, String eventName) {
+        LocalDateTime startTime = LocalDateTime.of(2026, 4, 1, 19, 0);
+        return Event.builder()
+                .venue(venue)
+                .seller(seller)
+                .eventName(eventName)
+                .eventType(EventType.CONCERT)
+                .eventTime(new EventTime(startTime, startTime.plusHours(2)))
+                .build();
+    }
+
+    // 티켓 / 주문 / 주문 티켓을 JDBC 로 바로 넣음 (판매 경로와 무관하게 정산 조회만 검증)
+    private void insertSale(Event event, Seller ticketSeller, LocalDateTime soldAt, int price, String status) {
+        Long ticketId = insert("INSERT INTO tickets (event_id, seller_id, seat_info, ticket_price, status) VALUES (?, ?, ?, ?, 'SOLDOUT')",
+                event.getId(), ticketSeller.getId(), "A-" + price, price);
+        Long orderId = insert("INSERT INTO orders (ordered_at, total_order_amount, status) VALUES (?, ?, ?)",
+                Timestamp.valueOf(soldAt), price, status);
+        insert("INSERT INTO order_ticket (order_id, ticket_id, created_at, purchase_price) VALUES (?, ?, ?, ?)",
+                orderId, ticketId, Timestamp.valueOf(soldAt), price);
+    }
+
+    private Long insert(String sql, Object... args) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+}
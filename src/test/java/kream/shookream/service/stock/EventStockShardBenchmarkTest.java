@@ -0,0 +1,144 @@
+package kream.shookream.service.stock;
+
+import kream.shookream.config.IntegrationTest;
+import kream.shookream.domain.*;
+import kream.shookream.external.ExternalEventApi;
+import kream.shookream.external.dto.ExternalEventResponse;
+import kream.shookream.repository.EventRepository;
+import kream.shookream.repository.EventStockRepository;
+import kream.shookream.repository.MemberRepository;
+import kream.shookream.repository.TicketRepository;
+import kream.shookream.service.OrderService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+@Slf4j
+@DisplayName("재고 샤딩 처리량 벤치마크")
+class EventStockShardBenchmarkTest {
+
+    @Autowired private OrderService orderService;
+    @Autowired private EventStockShardService eventStockShardService;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private EventStockRepository eventStockRepository;
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private TicketRepository ticketRepository;
+
+    private static final int STOCK = 10_000;
+    private static final int BUYER_COUNT = 200;
+    private static final int THREAD_COUNT = 64;
+
+    private Long memberId;
+
+    @TestConfiguration
+    static class TestApiConfig {
+        @Primary
+        @Bean
+        public ExternalEventApi externalEventApi() {
+            return new ExternalEventApi() {
+                @Override
+                public ExternalEventResponse registerParticipant(List<Long> eventIds, Long memberId, List<String> eventNameList) {
+                    return ExternalEventResponse.builder().success(true).build();
+                }
+            };
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        memberId = memberRepository.save(Member.builder().phoneNumber("010-0000-0000").build()).getId();
+    }
+
+    @Test
+    @DisplayName("샤드 개수별로 200명이 서로 다른 좌석을 동시에 구매할 때 처리량을 비교한다")
+    void compare_throughput_by_shard_count() throws InterruptedException {
+        int[] shardCounts = {0, 4, 16}; // 0 = 샤딩 미적용 (이벤트 행 비관적 락)
+
+        for (int shardCount : shardCounts) {
+            // given
+            Long eventId = createEvent("샤딩 벤치마크 이벤트 " + shardCount);
+            List<Long> ticketIds = createTickets(eventId);
+            if (shardCount > 0) {
+                eventStockShardService.enableSharding(eventId, shardCount);
+            }
+
+            // when
+            AtomicInteger successCount = new AtomicInteger();
+            long elapsedMillis = buyConcurrently(ticketIds, successCount);
+
+            // then
+            double tps = BUYER_COUNT * 1000.0 / Math.max(elapsedMillis, 1);
+            log.info("샤드 개수 = {}, 성공 = {}/{}, 소요 시간 = {}ms, TPS = {}",
+                    shardCount, successCount.get(), BUYER_COUNT, elapsedMillis, String.format("%.1f", tps));
+
+            assertThat(successCount.get()).isEqualTo(BUYER_COUNT);
+            if (shardCount > 0) {
+                assertThat(eventStockShardService.sumStock(eventId)).isEqualTo(STOCK - BUYER_COUNT);
+            }
+        }
+    }
+
+    private long buyConcurrently(List<Long> ticketIds, AtomicInteger successCount) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(ticketIds.size());
+
+        long start = System.currentTimeMillis();
+        for (Long ticketId : ticketIds) {
+            executorService.submit(() -> {
+                try {
+                    orderService.createOrder(memberId, Collections.singletonList(ticketId));
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    log.warn("주문 실패 ticketId = {}, message = {}", ticketId, e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsedMillis = System.currentTimeMillis() - start;
+        executorService.shutdown();
+
+        return elapsedMillis;
+    }
+
+    private Long createEvent(String eventName) {
+        Event event = eventRepository.save(Event.builder()
+                .eventName(eventName)
+                .build());
+        eventStockRepository.save(EventStock.builder().event(event).maxTicketCount(STOCK).build());
+        return event.getId();
+    }
+
+    private List<Long> createTickets(Long eventId) {
+        Event event = eventRepository.findById(eventId).get();
+
+        List<Long> ticketIds = new ArrayList<>();
+        for (int i = 0; i < BUYER_COUNT; i++) {
+            Ticket ticket = ticketRepository.save(Ticket.builder()
+                    .event(event)
+                    .seatInfo("S" + i)
+                    .ticketPrice(10000)
+                    .status(TicketStatus.AVAILABLE)
+                    .build());
+            ticketIds.add(ticket.getId());
+        }
+        return ticketIds;
+    }
+}
@@ -0,0 +1,95 @@
+package kream.shookream.service.stock;
+
+import kream.shookream.domain.EventStockShard;
+import kream.shookream.repository.EventStockRepository;
+import kream.shookream.repository.EventStockShardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("재고 샤드 차감 테스트")
+class EventStockShardServiceTest {
+
+    private static final Long EVENT_ID = 1L;
+
+    // 샤드 번호 -> 재고 (DB 대신)
+    private final Map<Integer, Integer> stockByShardNo = new HashMap<>();
+
+    private EventStockShardService eventStockShardService;
+
+    @BeforeEach
+    void setUp() {
+        EventStockShardRepository eventStockShardRepository = mock(EventStockShardRepository.class);
+
+        // 조건부 UPDATE 와 같이 재고가 충분한 샤드만 차감
+        when(eventStockShardRepository.decreaseIfAvailable(eq(EVENT_ID), anyInt(), anyInt())).thenAnswer(invocation -> {
+            int shardNo = invocation.getArgument(1);
+            int quantity = invocation.getArgument(2);
+            if (stockByShardNo.get(shardNo) < quantity) {
+                return 0;
+            }
+            stockByShardNo.merge(shardNo, -quantity, Integer::sum);
+            return 1;
+        });
+        when(eventStockShardRepository.findAllWithLockByEventId(EVENT_ID)).thenAnswer(invocation -> stockByShardNo.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> EventStockShard.builder().shardNo(entry.getKey()).stockCount(entry.getValue()).build())
+                .toList());
+
+        eventStockShardService = new EventStockShardService(mock(EventStockRepository.class), eventStockShardRepository);
+    }
+
+    @Test
+    @DisplayName("한 샤드에 수량 전체가 없어도 샤드 합계가 충분하면 여러 샤드에서 나눠 차감해야 한다")
+    void should_split_quantity_across_shards() {
+        // given : 3 + 3, 주문 수량 4
+        stockByShardNo.put(0, 3);
+        stockByShardNo.put(1, 3);
+
+        // when
+        eventStockShardService.decrease(Map.of(EVENT_ID, 4), Map.of(EVENT_ID, 2));
+
+        // then
+        assertThat(stockByShardNo.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(2);
+        assertThat(stockByShardNo.values()).allMatch(stock -> stock >= 0);
+    }
+
+    @Test
+    @DisplayName("샤드 합계보다 많이 주문하면 어느 샤드도 차감하지 않고 실패해야 한다")
+    void should_fail_when_total_stock_is_short() {
+        // given
+        stockByShardNo.put(0, 3);
+        stockByShardNo.put(1, 3);
+
+        // when & then
+        assertThatThrownBy(() -> eventStockShardService.decrease(Map.of(EVENT_ID, 7), Map.of(EVENT_ID, 2)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("표 재고가 부족합니다.");
+        assertThat(stockByShardNo).containsEntry(0, 3).containsEntry(1, 3);
+    }
+
+    @Test
+    @DisplayName("수량 전체를 가진 샤드가 있으면 그 샤드 하나에서만 차감해야 한다")
+    void should_take_from_single_shard_when_possible() {
+        // given
+        stockByShardNo.put(0, 5);
+        stockByShardNo.put(1, 5);
+
+        // when
+        eventStockShardService.decrease(Map.of(EVENT_ID, 4), Map.of(EVENT_ID, 2));
+
+        // then
+        assertThat(List.copyOf(stockByShardNo.values())).containsExactlyInAnyOrder(1, 5);
+    }
+}
@@ -0,0 +1,159 @@
+package kream.shookream.service.stock;
+
+import kream.shookream.config.IntegrationTest;
+import kream.shookream.domain.*;
+import kream.shookream.external.ExternalEventApi;
+import kream.shookream.external.dto.ExternalEventResponse;
+import kream.shookream.repository.EventRepository;
+import kream.shookream.repository.EventStockRepository;
+import kream.shookream.repository.MemberRepository;
+import kream.shookream.repository.TicketRepository;
+import kream.shookream.service.OrderService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+@TestPropertySource(properties = "stock.mode=REDIS")
+@Slf4j
+@DisplayName("Redis 재고 선점 모드 초과 판매 테스트")
+class RedisStockReservationTest {
+
+    @Autowired private OrderService orderService;
+    @Autowired private RedisStockReconciler redisStockReconciler;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private EventStockRepository eventStockRepository;
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private TicketRepository ticketRepository;
+
+    private static final int STOCK = 10;
+    private static final int BUYER_COUNT = 100;
+
+    private Long memberId;
+    private Long eventId;
+    private List<Long> ticketIds;
+
+    @TestConfiguration
+    static class TestApiConfig {
+        @Primary
+        @Bean
+        public ExternalEventApi externalEventApi() {
+            return new ExternalEventApi() {
+                @Override
+                public ExternalEventResponse registerParticipant(List<Long> eventIds, Long memberId, List<String> eventNameList) {
+                    return ExternalEventResponse.builder().success(true).build();
+                }
+            };
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        memberId = memberRepository.save(Member.builder().phoneNumber("010-0000-0000").build()).getId();
+
+        // 재고는 10개인데 판매 가능한 좌석은 100개 -> 재고가 최종 방어선
+        Event event = eventRepository.save(Event.builder()
+                .eventName("Redis 재고 테스트 이벤트")
+                .build());
+        eventStockRepository.save(EventStock.builder().event(event).maxTicketCount(STOCK).build());
+        eventId = event.getId();
+
+        ticketIds = new ArrayList<>();
+        for (int i = 0; i < BUYER_COUNT; i++) {
+            Ticket ticket = ticketRepository.save(Ticket.builder()
+                    .event(event)
+                    .seatInfo("R" + i)
+                    .ticketPrice(10000)
+                    .status(TicketStatus.AVAILABLE)
+                    .build());
+            ticketIds.add(ticket.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("100명이 서로 다른 좌석을 동시에 구매해도 재고 10개 이상 판매되지 않아야 한다")
+    void should_not_oversell_under_concurrency() throws InterruptedException {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(BUYER_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // when
+        for (Long ticketId : ticketIds) {
+            executorService.submit(() -> {
+                try {
+                    orderService.createOrder(memberId, Collections.singletonList(ticketId));
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 재고 부족으로 인한 실패는 정상
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        redisStockReconciler.flush();
+
+        // then
+        long soldTicketCount = ticketRepository.findAllById(ticketIds).stream()
+                .filter(ticket -> ticket.getStatus() == TicketStatus.SOLDOUT)
+                .count();
+        EventStock stockAfterSale = eventStockRepository.findById(eventId).get();
+
+        assertThat(successCount.get()).isEqualTo(STOCK);
+        assertThat(soldTicketCount).isEqualTo(STOCK);
+        assertThat(stockAfterSale.getCurrentTicketStockCount()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("같은 좌석을 동시에 구매하면 한 명만 성공해야 한다")
+    void same_seat_should_be_sold_once() throws InterruptedException {
+        // given
+        Long targetTicketId = ticketIds.get(0);
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(BUYER_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < BUYER_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    orderService.createOrder(memberId, Collections.singletonList(targetTicketId));
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 이미 점유된 좌석
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        redisStockReconciler.flush();
+
+        // then
+        EventStock stockAfterSale = eventStockRepository.findById(eventId).get();
+
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(stockAfterSale.getCurrentTicketStockCount()).isEqualTo(STOCK - 1);
+    }
+}
@@ -0,0 +1,106 @@
+package kream.shookream.service.stock.lock;
+
+import kream.shookream.repository.EventStockRepository;
+import kream.shookream.service.stock.StockProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("네임드 락 재고 전략 테스트")
+class NamedStockLockStrategyTest {
+
+    private final List<String> calls = new ArrayList<>();
+
+    private DataSource lockDataSource;
+    private Connection connection;
+    private NamedStockLockStrategy strategy;
+
+    // lockName -> GET_LOCK 결과 (기본 1 = 획득)
+    private Map<String, Integer> lockResults = Map.of();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        lockDataSource = mock(DataSource.class);
+        connection = mock(Connection.class);
+        when(lockDataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> statement(invocation.getArgument(0)));
+
+        StockProperties properties = new StockProperties();
+        strategy = new NamedStockLockStrategy(new DataSourceProperties(), mock(EventStockRepository.class), properties) {
+            @Override
+            DataSource lockDataSource() {
+                return lockDataSource;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("락은 정렬된 순서로 잡고, 작업이 실패해도 역순으로 모두 해제해야 한다")
+    void should_acquire_in_order_and_release_in_reverse() throws Exception {
+        // when
+        assertThatThrownBy(() -> strategy.executeAround(List.of(1L, 2L), () -> {
+            calls.add("work");
+            throw new IllegalStateException("표 재고가 부족합니다.");
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("표 재고가 부족합니다.");
+
+        // then
+        assertThat(calls).containsExactly(
+                "GET event-stock-1", "GET event-stock-2", "work",
+                "RELEASE event-stock-2", "RELEASE event-stock-1");
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("락 획득에 실패하면 작업을 실행하지 않고, 이미 잡은 락만 해제해야 한다")
+    void should_skip_work_and_release_acquired_locks_when_get_lock_fails() throws Exception {
+        // given
+        lockResults = Map.of("event-stock-2", 0);
+
+        // when
+        assertThatThrownBy(() -> strategy.executeAround(List.of(1L, 2L), () -> calls.add("work")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("event-stock-2");
+
+        // then
+        assertThat(calls).containsExactly("GET event-stock-1", "GET event-stock-2", "RELEASE event-stock-1");
+        verify(connection).close();
+    }
+
+    private PreparedStatement statement(String sql) throws Exception {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        String[] lockName = new String[1];
+        doAnswer(invocation -> lockName[0] = invocation.getArgument(1))
+                .when(statement).setString(anyInt(), anyString());
+
+        when(statement.executeQuery()).thenAnswer(invocation -> {
+            boolean isGet = sql.contains("GET_LOCK");
+            calls.add((isGet ? "GET " : "RELEASE ") + lockName[0]);
+
+            ResultSet resultSet = mock(ResultSet.class);
+            when(resultSet.next()).thenReturn(true);
+            when(resultSet.getInt(1)).thenReturn(isGet ? lockResults.getOrDefault(lockName[0], 1) : 1);
+            return resultSet;
+        });
+        return statement;
+    }
+}
@@ -0,0 +1,75 @@
+package kream.shookream.service.stock.lock;
+
+import kream.shookream.repository.EventStockRepository;
+import kream.shookream.service.stock.StockProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("낙관적 락 재고 전략 테스트")
+class OptimisticStockLockStrategyTest {
+
+    private static final List<Long> EVENT_IDS = List.of(1L);
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    private OptimisticStockLockStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        StockProperties properties = new StockProperties();
+        properties.getLock().setOptimisticMaxAttempts(3);
+        properties.getLock().setOptimisticBaseBackoffMs(1);
+        properties.getLock().setOptimisticMaxBackoffMs(2);
+
+        strategy = new OptimisticStockLockStrategy(mock(EventStockRepository.class), properties);
+    }
+
+    @Test
+    @DisplayName("버전 충돌이 나면 트랜잭션 전체를 다시 실행해 성공해야 한다")
+    void should_retry_whole_transaction_on_version_conflict() {
+        // when
+        String result = strategy.executeAround(EVENT_IDS, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("EventStock", 1L);
+            }
+            return "주문";
+        });
+
+        // then
+        assertThat(result).isEqualTo("주문");
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수까지 충돌하면 IllegalStateException 으로 포기해야 한다")
+    void should_give_up_after_max_attempts() {
+        assertThatThrownBy(() -> strategy.executeAround(EVENT_IDS, () -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("EventStock", 1L);
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("버전 충돌이 아닌 예외 (재고 부족 등) 는 재시도하지 않아야 한다")
+    void should_not_retry_business_failure() {
+        assertThatThrownBy(() -> strategy.executeAround(EVENT_IDS, () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("표 재고가 부족합니다.");
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("표 재고가 부족합니다.");
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,57 @@
+package kream.shookream.service.stock.lock;
+
+import kream.shookream.domain.EventStock;
+import kream.shookream.repository.EventStockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("비관적 락 재고 전략 테스트")
+class PessimisticStockLockStrategyTest {
+
+    private EventStockRepository eventStockRepository;
+    private PessimisticStockLockStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        eventStockRepository = mock(EventStockRepository.class);
+        strategy = new PessimisticStockLockStrategy(eventStockRepository);
+    }
+
+    @Test
+    @DisplayName("재고 행은 SELECT ... FOR UPDATE 로 조회하고, 트랜잭션은 재시도 없이 한 번만 실행해야 한다")
+    void should_load_with_select_for_update() {
+        // given
+        EventStock stock = mock(EventStock.class);
+        when(eventStockRepository.findWithPessimisticLockById(1L)).thenReturn(Optional.of(stock));
+
+        // when
+        EventStock loaded = strategy.loadForUpdate(1L);
+        String result = strategy.executeAround(List.of(1L), () -> "주문");
+
+        // then
+        assertThat(loaded).isSameAs(stock);
+        assertThat(result).isEqualTo("주문");
+        verify(eventStockRepository, never()).findWithOptimisticLockById(anyLong());
+    }
+
+    @Test
+    @DisplayName("재고 행이 없으면 IllegalArgumentException")
+    void should_fail_when_stock_missing() {
+        when(eventStockRepository.findWithPessimisticLockById(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> strategy.loadForUpdate(1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,262 @@
+package kream.shookream.service.stock.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kream.shookream.global.executor.BoundedExecutorFactory;
+import kream.shookream.global.executor.ExecutorProperties;
+import kream.shookream.service.facade.StockManagerFacade;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+@DisplayName("남은 재고 SSE 브로드캐스터 테스트")
+class StockStreamBroadcasterTest {
+
+    private static final Long EVENT_ID = 1L;
+    private static final int SUBSCRIBER_COUNT = 2000;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger remainingStock = new AtomicInteger(100);
+
+    private StockChangeTracker stockChangeTracker;
+    private StringRedisTemplate redisTemplate;
+    private StockChangeRelay stockChangeRelay;
+    private StockManagerFacade stockManagerFacade;
+    private StockStreamProperties properties;
+    private BoundedExecutorFactory boundedExecutorFactory;
+    private StockStreamBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        stockChangeTracker = new StockChangeTracker();
+        stockManagerFacade = mock(StockManagerFacade.class);
+        when(stockManagerFacade.getRemainingStock(EVENT_ID)).thenAnswer(invocation -> remainingStock.get());
+
+        properties = new StockStreamProperties();
+        boundedExecutorFactory = new BoundedExecutorFactory(new ExecutorProperties(), meterRegistry);
+
+        redisTemplate = mock(StringRedisTemplate.class);
+        stockChangeRelay = new StockChangeRelay(redisTemplate, mock(RedisMessageListenerContainer.class), stockChangeTracker, properties);
+
+        broadcaster = new StockStreamBroadcaster(stockChangeTracker, stockChangeRelay, stockManagerFacade, properties,
+                boundedExecutorFactory, new ObjectMapper(), meterRegistry);
+        broadcaster.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        boundedExecutorFactory.shutdown();
+    }
+
+    @Test
+    @DisplayName("한 주기 동안의 재고 변경은 이벤트당 재고 조회 1번, 구독자당 프레임 1개로 합쳐져야 한다")
+    void should_coalesce_changes_into_one_frame_per_interval() throws Exception {
+        // given : 구독 -> 첫 주기에 현재 재고 1건 전송
+        List<RecordingEmitter> emitters = subscribe(SUBSCRIBER_COUNT);
+        broadcaster.flush();
+        awaitFrames(emitters, 1);
+
+        // when : 같은 주기 안에서 100번 판매
+        for (int i = 0; i < 100; i++) {
+            remainingStock.decrementAndGet();
+            stockChangeTracker.changed(EVENT_ID);
+        }
+        broadcaster.flush();
+        awaitFrames(emitters, 2);
+
+        // then
+        verify(stockManagerFacade, times(2)).getRemainingStock(EVENT_ID);
+        assertThat(emitters).allSatisfy(emitter -> {
+            assertThat(emitter.frames).hasSize(2);
+            assertThat(emitter.frames.get(1)).contains("\"remainingStock\":0");
+        });
+
+        double latencyMs = meterRegistry.get("stock.stream.broadcast.latency").timer().max(TimeUnit.MILLISECONDS);
+        log.info("구독자 = {}, 프레임 = {}, 최대 전송 지연 = {}ms",
+                SUBSCRIBER_COUNT, meterRegistry.get("stock.stream.frames").counter().count(), latencyMs);
+    }
+
+    @Test
+    @DisplayName("재고 값이 그대로면 프레임을 보내지 않고, 새 구독자는 마지막 프레임을 바로 받아야 한다")
+    void should_skip_unchanged_stock_and_replay_last_frame() throws Exception {
+        // given
+        List<RecordingEmitter> emitters = subscribe(1);
+        broadcaster.flush();
+        awaitFrames(emitters, 1);
+
+        // when : 판매 후 같은 주기에 취소 -> 값 그대로
+        stockChangeTracker.changed(EVENT_ID);
+        broadcaster.flush();
+        List<RecordingEmitter> lateSubscribers = subscribe(1);
+
+        // then
+        assertThat(emitters.get(0).frames).hasSize(1);
+        assertThat(lateSubscribers.get(0).frames).hasSize(1);
+        assertThat(lateSubscribers.get(0).frames.get(0)).contains("\"remainingStock\":100");
+    }
+
+    @Test
+    @DisplayName("이 노드에서 커밋된 변경은 다른 노드로 전파하고, 다른 노드에서 전파된 변경도 구독자에게 전송해야 한다")
+    void should_relay_committed_changes_across_nodes() throws Exception {
+        // given
+        List<RecordingEmitter> emitters = subscribe(1);
+        broadcaster.flush();
+        awaitFrames(emitters, 1);
+
+        // when : 이 노드에서 커밋된 변경
+        stockChangeTracker.afterCommit(List.of(EVENT_ID));
+        broadcaster.flush();
+
+        // then : 주기마다 1건 전파, 자기 노드가 보낸 메시지는 다시 받아도 무시
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, times(1)).convertAndSend(eq(properties.getRelayTopic()), published.capture());
+        assertThat(published.getValue()).endsWith("|" + EVENT_ID);
+        stockChangeRelay.onMessage(message(published.getValue()), null);
+        assertThat(stockChangeTracker.drain()).isEmpty();
+
+        // when : 다른 노드에서 팔림 -> 이 노드의 DB 조회 결과만 바뀌고 전파 메시지가 도착
+        remainingStock.set(90);
+        stockChangeRelay.onMessage(message("other-node|" + EVENT_ID), null);
+        broadcaster.flush();
+        awaitFrames(emitters, 2);
+
+        // then
+        assertThat(emitters.get(0).frames.get(1)).contains("\"remainingStock\":90");
+    }
+
+    @Test
+    @DisplayName("전파를 놓쳐도 재조회 주기마다 구독 중인 이벤트의 재고를 다시 조회해 전송해야 한다")
+    void should_resync_subscribed_channels_periodically() throws Exception {
+        // given
+        List<RecordingEmitter> emitters = subscribe(1);
+        broadcaster.flush();
+        awaitFrames(emitters, 1);
+
+        // when : 변경 기록 없이 재고만 바뀜 (전파 유실)
+        remainingStock.set(80);
+        broadcaster.flush();
+        properties.setResyncIntervalMs(0);
+        broadcaster.flush();
+        awaitFrames(emitters, 2);
+
+        // then : 재조회 주기 전에는 보내지 않고, 주기가 지나면 이벤트당 1번 조회해 전송
+        verify(stockManagerFacade, times(2)).getRemainingStock(EVENT_ID);
+        assertThat(emitters.get(0).frames).hasSize(2);
+        assertThat(emitters.get(0).frames.get(1)).contains("\"remainingStock\":80");
+    }
+
+    @Test
+    @DisplayName("끊긴 구독자는 채널에서 제거되고, 구독자 상한을 넘으면 거절되어야 한다")
+    void should_remove_failed_subscribers_and_reject_over_limit() throws Exception {
+        // given
+        properties.setMaxSubscribersPerEvent(2);
+        RecordingEmitter alive = new RecordingEmitter();
+        broadcaster.register(EVENT_ID, alive);
+        broadcaster.register(EVENT_ID, new FailingEmitter());
+
+        // then
+        assertThatThrownBy(() -> broadcaster.register(EVENT_ID, new RecordingEmitter()))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        // when
+        broadcaster.flush();
+        await(() -> broadcaster.subscriberCount(EVENT_ID) == 1);
+        awaitFrames(List.of(alive), 1);
+
+        // then
+        assertThat(broadcaster.subscriberCount(EVENT_ID)).isEqualTo(1);
+        assertThat(alive.frames).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("구독자 1명이 차지하는 메모리를 측정한다")
+    void measure_memory_per_subscriber() {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        // 구독 경로 예열 (클래스 로딩 / 채널 생성 제외)
+        broadcaster.register(EVENT_ID, new SseEmitter());
+
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < SUBSCRIBER_COUNT; i++) {
+            broadcaster.register(EVENT_ID, new SseEmitter());
+        }
+        long bytesPerSubscriber = (threadMXBean.getThreadAllocatedBytes(threadId) - before) / SUBSCRIBER_COUNT;
+
+        log.info("구독자 = {}, 구독자당 할당 = {} bytes", SUBSCRIBER_COUNT, bytesPerSubscriber);
+        assertThat(broadcaster.subscriberCount(EVENT_ID)).isEqualTo(SUBSCRIBER_COUNT + 1);
+        assertThat(bytesPerSubscriber).isLessThan(4096);
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(properties.getRelayTopic().getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<RecordingEmitter> subscribe(int count) {
+        List<RecordingEmitter> emitters = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            RecordingEmitter emitter = new RecordingEmitter();
+            broadcaster.register(EVENT_ID, emitter);
+            emitters.add(emitter);
+        }
+        return emitters;
+    }
+
+    // 전송은 별도 풀에서 비동기로 진행됨
+    private void awaitFrames(List<RecordingEmitter> emitters, int count) throws InterruptedException {
+        await(() -> emitters.stream().allMatch(emitter -> emitter.frames.size() >= count));
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline && !condition.getAsBoolean()) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            StringBuilder frame = new StringBuilder();
+            items.forEach(item -> frame.append(item.getData()));
+            frames.add(frame.toString());
+        }
+    }
+
+    private static class FailingEmitter extends SseEmitter {
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            throw new IllegalStateException("연결이 끊겼습니다.");
+        }
+    }
+}
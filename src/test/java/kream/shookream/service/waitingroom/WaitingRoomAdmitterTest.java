@@ -0,0 +1,96 @@
+package kream.shookream.service.waitingroom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("가상 대기실 입장 허용 테스트")
+class WaitingRoomAdmitterTest {
+
+    private static final Long EVENT_ID = 1L;
+
+    private InMemoryWaitingRoomStore store;
+    private WaitingRoomAdmitter admitter;
+
+    @BeforeEach
+    void setUp() {
+        WaitingRoomProperties properties = new WaitingRoomProperties();
+        properties.setBurst(5);
+        properties.setAdmitRatePerSecond(10);
+
+        store = new InMemoryWaitingRoomStore();
+        admitter = new WaitingRoomAdmitter(store, properties);
+    }
+
+    @Test
+    @DisplayName("한 번에 버킷 크기만큼만 앞에서부터 입장시키고, 나머지의 순위는 앞당겨져야 한다")
+    void should_admit_up_to_burst_in_order() {
+        // given
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            String token = "token-" + i;
+            assertThat(store.enter(EVENT_ID, token)).isEqualTo(i);
+            tokens.add(token);
+        }
+
+        // when
+        admitter.admit();
+
+        // then
+        for (int i = 0; i < 5; i++) {
+            assertThat(store.isAdmitted(tokens.get(i))).isTrue();
+            assertThat(store.position(EVENT_ID, tokens.get(i))).isEmpty();
+        }
+        assertThat(store.isAdmitted(tokens.get(5))).isFalse();
+        assertThat(store.position(EVENT_ID, tokens.get(5))).contains(0L);
+        assertThat(store.position(EVENT_ID, tokens.get(19))).contains(14L);
+        assertThat(store.size(EVENT_ID)).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("대기 중인 이벤트가 여럿이면 허용량을 나눠 입장시키고, 남는 몫은 다른 이벤트로 넘겨야 한다")
+    void should_share_permits_between_events() {
+        // given : 이벤트 1 은 1명, 이벤트 2 는 10명 대기
+        store.enter(EVENT_ID, "event1-token");
+        for (int i = 0; i < 10; i++) {
+            store.enter(2L, "event2-token-" + i);
+        }
+
+        // when
+        admitter.admit();
+
+        // then : 허용량 5 중 이벤트 1 이 1개, 남은 4개는 이벤트 2
+        assertThat(store.isAdmitted("event1-token")).isTrue();
+        assertThat(store.size(2L)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("입장 토큰은 한 번만 사용할 수 있어야 한다")
+    void admission_should_be_single_use() {
+        // given
+        store.enter(EVENT_ID, "token");
+        admitter.admit();
+
+        // when & then
+        assertThat(store.consumeAdmission("token")).isTrue();
+        assertThat(store.consumeAdmission("token")).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰 버킷은 경과 시간만큼만 채워지고 크기를 넘지 않아야 한다")
+    void token_bucket_should_refill_by_rate() {
+        // given : 크기 5, 초당 10개
+        long start = 0L;
+        TokenBucket bucket = new TokenBucket(5, 10, start);
+
+        // when & then
+        assertThat(bucket.take(100, start)).isEqualTo(5);
+        assertThat(bucket.take(100, start + 100_000_000L)).isEqualTo(1);   // 0.1초 -> 1개
+        assertThat(bucket.take(100, start + 10_000_000_000L)).isEqualTo(5); // 10초 -> 크기까지만
+    }
+}